@@ -21,8 +21,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
-import org.qubership.automation.itf.core.util.transport.service.LockProvider;
-import org.qubership.automation.itf.core.util.transport.service.SessionHandler;
+import org.qubership.automation.itf.communication.ResponseCorrelationRegistry;
+import org.qubership.automation.itf.communication.TriggerExecutionMessageSender;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,11 +47,15 @@ public class CacheCleanerService {
         LOGGER.info("Cache Cleaner Service is started.");
         service.scheduleWithFixedDelay(() -> {
             try {
-                SessionHandler.INSTANCE.cleanupCache();
-                LockProvider.INSTANCE.cleanupCache();
+                ResponseCorrelationRegistry.INSTANCE.cleanupCache();
             } catch (Throwable t) {
                 LOGGER.error("Error while Caches cleaning up", t);
             }
+            try {
+                TriggerExecutionMessageSender.cleanupClaimChecks();
+            } catch (Throwable t) {
+                LOGGER.error("Error while claim-check store cleaning up", t);
+            }
         }, initialDelay, delay, TimeUnit.SECONDS);
     }
 
@@ -0,0 +1,81 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.activation;
+
+import javax.jms.ConnectionFactory;
+
+import org.qubership.automation.itf.integration.config.jms.listener.AsyncQueueConsumer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Event-driven consumer of executor responses (async consumer mode).
+ *
+ * <p>Responses of the shared queue (with 'hostname' selector of this pod) and of the temporary reply queue
+ * of this pod (if enabled, see {@link ExecutorResponseReplyQueueConfiguration}) are consumed by a few sessions
+ * and processed by a small pool, instead of hundreds of listener container threads. The consumer is started
+ * with other JMS listeners, after the application is initialized.
+ */
+@Configuration
+@ConditionalOnProperty(name = "message-broker.executor-stubs-outgoing-response.consumer.mode",
+        havingValue = ExecutorResponseConsumerModeConfiguration.ASYNC_MODE)
+public class ExecutorResponseAsyncConsumerConfiguration {
+
+    private static final String SELECTOR_KEY = "hostname";
+
+    /**
+     * Init async consumer of executor responses.
+     *
+     * @param activeMqConnectionFactory - ActiveMq connection factory,
+     * @param stubJmsListeners - listeners processing executor responses,
+     * @param queue - name of the shared executor responses queue,
+     * @param hostname - hostname of this pod, used in the selector,
+     * @param replyQueueEnabled - whether responses are expected in the reply queue of this pod,
+     * @param sessions - count of sessions per queue,
+     * @param poolSize - count of threads processing responses,
+     * @param queueCapacity - max count of responses waiting for processing threads,
+     * @return consumer, not started yet.
+     */
+    @Bean(destroyMethod = "stop")
+    public AsyncQueueConsumer executorResponseAsyncConsumer(
+            @Qualifier("activeMqConnectionFactory") ConnectionFactory activeMqConnectionFactory,
+            StubJmsListeners stubJmsListeners,
+            @Value("${message-broker.executor-stubs-outgoing-response.queue}") String queue,
+            @Value("${hostname}") String hostname,
+            @Value("${message-broker.executor-stubs-outgoing-response.reply-queue.enabled:false}")
+            boolean replyQueueEnabled,
+            @Value("${message-broker.executor-stubs-outgoing-response.consumer.sessions:4}") int sessions,
+            @Value("${message-broker.executor-stubs-outgoing-response.consumer.pool-size:8}") int poolSize,
+            @Value("${message-broker.executor-stubs-outgoing-response.consumer.queue-capacity:1000}")
+            int queueCapacity) {
+        AsyncQueueConsumer consumer = new AsyncQueueConsumer(activeMqConnectionFactory, sessions, poolSize,
+                queueCapacity, "executorResponseConsumer", stubJmsListeners::onExecutorStubsOutgoingResponseMessage);
+        consumer.subscribe(queue, hostnameSelector(hostname));
+        if (replyQueueEnabled) {
+            consumer.subscribeTemporary(ExecutorResponseReplyQueueConfiguration::onReplyQueueCreated);
+        }
+        return consumer;
+    }
+
+    static String hostnameSelector(String hostname) {
+        return SELECTOR_KEY + "='" + hostname + "'";
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.activation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Check of executor responses consumer mode: 'container' (see {@link ExecutorResponseListenerConfiguration})
+ * or 'async' (see {@link ExecutorResponseAsyncConsumerConfiguration}).
+ * Consumers are configured depending on the mode, so with any other value executor responses wouldn't be
+ * consumed at all; the application fails to start instead.
+ */
+@Configuration
+public class ExecutorResponseConsumerModeConfiguration {
+
+    static final String CONTAINER_MODE = "container";
+    static final String ASYNC_MODE = "async";
+
+    /**
+     * Constructor.
+     *
+     * @param mode - consumer mode of executor responses.
+     * @throws IllegalArgumentException - if the mode is unknown.
+     */
+    public ExecutorResponseConsumerModeConfiguration(
+            @Value("${message-broker.executor-stubs-outgoing-response.consumer.mode:container}") String mode) {
+        if (!CONTAINER_MODE.equals(mode) && !ASYNC_MODE.equals(mode)) {
+            throw new IllegalArgumentException("Unknown executor responses consumer mode '" + mode + "', "
+                    + "allowed values: " + CONTAINER_MODE + ", " + ASYNC_MODE);
+        }
+    }
+}
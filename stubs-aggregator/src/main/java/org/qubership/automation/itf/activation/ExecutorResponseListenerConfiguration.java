@@ -0,0 +1,74 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.activation;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jms.annotation.JmsListenerConfigurer;
+import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
+import org.springframework.jms.config.JmsListenerEndpointRegistrar;
+import org.springframework.jms.config.SimpleJmsListenerEndpoint;
+
+/**
+ * Listener of the shared executor responses queue, with 'hostname' selector of this pod,
+ * in listener container mode (default).
+ */
+@Configuration
+@ConditionalOnProperty(name = "message-broker.executor-stubs-outgoing-response.consumer.mode",
+        havingValue = ExecutorResponseConsumerModeConfiguration.CONTAINER_MODE, matchIfMissing = true)
+public class ExecutorResponseListenerConfiguration implements JmsListenerConfigurer {
+
+    private static final String ENDPOINT_ID = "executorStubsOutgoingResponseListener";
+
+    private final StubJmsListeners stubJmsListeners;
+    private final DefaultJmsListenerContainerFactory stubsQueueJmsListenerContainerFactory;
+    private final String queue;
+    private final String hostname;
+
+    /**
+     * Constructor.
+     *
+     * @param stubJmsListeners - listeners processing executor responses,
+     * @param stubsQueueJmsListenerContainerFactory - factory of queue listener containers,
+     * @param queue - name of the shared executor responses queue,
+     * @param hostname - hostname of this pod, used in the selector.
+     */
+    public ExecutorResponseListenerConfiguration(
+            StubJmsListeners stubJmsListeners,
+            @Qualifier("stubsQueueJmsListenerContainerFactory")
+            DefaultJmsListenerContainerFactory stubsQueueJmsListenerContainerFactory,
+            @Value("${message-broker.executor-stubs-outgoing-response.queue}") String queue,
+            @Value("${hostname}") String hostname) {
+        this.stubJmsListeners = stubJmsListeners;
+        this.stubsQueueJmsListenerContainerFactory = stubsQueueJmsListenerContainerFactory;
+        this.queue = queue;
+        this.hostname = hostname;
+    }
+
+    @Override
+    public void configureJmsListeners(JmsListenerEndpointRegistrar registrar) {
+        SimpleJmsListenerEndpoint endpoint = new SimpleJmsListenerEndpoint();
+        endpoint.setId(ENDPOINT_ID);
+        endpoint.setDestination(queue);
+        endpoint.setSelector(ExecutorResponseAsyncConsumerConfiguration.hostnameSelector(hostname));
+        endpoint.setMessageListener(stubJmsListeners::onExecutorStubsOutgoingResponseMessage);
+        registrar.registerEndpoint(endpoint, stubsQueueJmsListenerContainerFactory);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.activation;
+
+import javax.jms.ConnectionFactory;
+
+import org.qubership.automation.itf.communication.TriggerExecutionMessageSender;
+import org.qubership.automation.itf.integration.config.jms.listener.AsyncQueueConsumer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Consumer of the reply queue of this pod.
+ *
+ * <p>In reply queue mode, each pod advertises its own queue in requests to the executor,
+ * and the executor sends responses there point-to-point. So the broker doesn't evaluate 'hostname' selectors
+ * of all pods consumers for each response. The listener of the shared queue with selector remains active,
+ * so responses of executors not supporting reply queues are still received.
+ *
+ * <p>The reply queue is a temporary queue owned by the consumer connection: the broker deletes it
+ * (with responses nobody waits for anymore) when the pod is stopped or its connection is lost,
+ * so queues of restarted pods don't pile up on the broker. Until the queue is created,
+ * responses are requested via the shared queue.
+ * In async consumer mode, the reply queue is consumed by {@link ExecutorResponseAsyncConsumerConfiguration}.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("${message-broker.executor-stubs-outgoing-response.reply-queue.enabled:false} and "
+        + "'${message-broker.executor-stubs-outgoing-response.consumer.mode:container}' == 'container'")
+public class ExecutorResponseReplyQueueConfiguration {
+
+    /**
+     * Init consumer of the reply queue of this pod.
+     *
+     * @param activeMqConnectionFactory - ActiveMq connection factory,
+     * @param stubJmsListeners - listeners processing executor responses,
+     * @param sessions - count of sessions consuming the reply queue,
+     * @param poolSize - count of threads processing responses,
+     * @param queueCapacity - max count of responses waiting for processing threads,
+     * @return consumer, not started yet.
+     */
+    @Bean(destroyMethod = "stop")
+    public AsyncQueueConsumer executorResponseReplyQueueConsumer(
+            @Qualifier("activeMqConnectionFactory") ConnectionFactory activeMqConnectionFactory,
+            StubJmsListeners stubJmsListeners,
+            @Value("${message-broker.executor-stubs-outgoing-response.reply-queue.sessions:2}") int sessions,
+            @Value("${message-broker.executor-stubs-outgoing-response.consumer.pool-size:8}") int poolSize,
+            @Value("${message-broker.executor-stubs-outgoing-response.consumer.queue-capacity:1000}")
+            int queueCapacity) {
+        AsyncQueueConsumer consumer = new AsyncQueueConsumer(activeMqConnectionFactory, sessions, poolSize,
+                queueCapacity, "executorResponseReplyQueueConsumer",
+                stubJmsListeners::onExecutorStubsOutgoingResponseMessage);
+        consumer.subscribeTemporary(ExecutorResponseReplyQueueConfiguration::onReplyQueueCreated);
+        return consumer;
+    }
+
+    static void onReplyQueueCreated(String replyQueue) {
+        TriggerExecutionMessageSender.setReplyQueue(replyQueue);
+        if (replyQueue != null) {
+            log.info("Executor responses are expected in reply queue {}", replyQueue);
+        }
+    }
+}
@@ -40,6 +40,8 @@ import org.qubership.automation.itf.activation.impl.CommonTriggerActivationServi
 import org.qubership.automation.itf.activation.impl.EnvironmentActivationService;
 import org.qubership.automation.itf.activation.impl.SystemServerTriggerActivationService;
 import org.qubership.automation.itf.activation.impl.TriggerActivationService;
+import org.qubership.automation.itf.communication.ExternalFileUpdateListeners;
+import org.qubership.automation.itf.communication.ResponseCorrelationRegistry;
 import org.qubership.automation.itf.core.model.communication.StubUser;
 import org.qubership.automation.itf.core.model.communication.message.ItfConfigurationMessage;
 import org.qubership.automation.itf.core.model.communication.message.ServerTriggerSyncRequest;
@@ -52,8 +54,7 @@ import org.qubership.automation.itf.core.util.eds.ExternalDataManagementService;
 import org.qubership.automation.itf.core.util.eds.model.FileInfo;
 import org.qubership.automation.itf.core.util.eds.service.EdsContentType;
 import org.qubership.automation.itf.core.util.mdc.MdcField;
-import org.qubership.automation.itf.core.util.transport.service.LockProvider;
-import org.qubership.automation.itf.core.util.transport.service.SessionHandler;
+import org.qubership.automation.itf.integration.config.jms.ExecutorMessageConverter;
 import org.qubership.automation.itf.ui.model.RouteEvent;
 import org.qubership.automation.itf.ui.model.RouteInfoDto;
 import org.qubership.automation.itf.ui.service.TriggerRouteService;
@@ -77,15 +78,11 @@ public class StubJmsListeners {
 
     private final TriggerServiceFactory triggerServiceFactory;
     private final ObjectMapper jmsMessageConverterObjectMapper;
+    private final ExecutorMessageConverter executorJmsMessageConverter;
     private final ExternalDataManagementService externalDataManagementService;
     private final ThreadPoolProvider threadPoolProvider;
     private final TriggerRouteService triggerRouteService;
 
-    private final String executorStubsResponseSelectorKey = "hostname";
-    private final String executorStubsResponseSelectorValue = "'${hostname}'";
-    private final String executorStubsResponseSelectorData =
-            executorStubsResponseSelectorKey + "=" + executorStubsResponseSelectorValue;
-
     /**
      * Constructor using earlier initialized beans.
      */
@@ -93,11 +90,13 @@ public class StubJmsListeners {
     public StubJmsListeners(TriggerServiceFactory triggerServiceFactory,
                             @Qualifier(value = "jmsMessageConverterObjectMapper") ObjectMapper
                                     jmsMessageConverterObjectMapper,
+                            ExecutorMessageConverter executorJmsMessageConverter,
                             ExternalDataManagementService externalDataManagementService,
                             ThreadPoolProvider threadPoolProvider,
                             TriggerRouteService triggerRouteService) {
         this.triggerServiceFactory = triggerServiceFactory;
         this.jmsMessageConverterObjectMapper = jmsMessageConverterObjectMapper;
+        this.executorJmsMessageConverter = executorJmsMessageConverter;
         this.externalDataManagementService = externalDataManagementService;
         this.threadPoolProvider = threadPoolProvider;
         this.triggerRouteService = triggerRouteService;
@@ -160,30 +159,27 @@ public class StubJmsListeners {
 
     /**
      * On receive responses prepared by itf-executor.
+     * Responses are JSON text or Smile bytes, depending on their content type.
+     * Listeners are registered by {@link ExecutorResponseListenerConfiguration}
+     * or {@link ExecutorResponseAsyncConsumerConfiguration}, depending on the consumer mode.
      */
-    @JmsListener(destination = "${message-broker.executor-stubs-outgoing-response.queue}",
-            containerFactory = "stubsQueueJmsListenerContainerFactory",
-            selector = executorStubsResponseSelectorData
-    )
     @AtpJaegerLog()
-    public void onExecutorStubsOutgoingResponseMessage(ActiveMQTextMessage activeMqTextMessage) {
+    public void onExecutorStubsOutgoingResponseMessage(javax.jms.Message jmsMessage) {
         try {
-            activeMqTextMessage.acknowledge();
-            TriggerExecutionMessage triggerExecutionMessage = jmsMessageConverterObjectMapper.readValue(
-                    activeMqTextMessage.getText(), TriggerExecutionMessage.class);
+            jmsMessage.acknowledge();
+            TriggerExecutionMessage triggerExecutionMessage = executorJmsMessageConverter.read(jmsMessage,
+                    TriggerExecutionMessage.class);
             String sessionId = triggerExecutionMessage.getSessionId();
             MdcUtils.put(MdcField.SESSION_ID.toString(), sessionId);
-            String traceId = activeMqTextMessage.getStringProperty("traceId");
+            String traceId = jmsMessage.getStringProperty("traceId");
             MdcUtils.put(MdcField.TRACE_ID.toString(), traceId);
             log.info("Response is received for sessionId: {}", sessionId);
             Message message = triggerExecutionMessage.getMessage();
-            if (message != null) {
-                SessionHandler.INSTANCE.addMessage(sessionId, message);
-            } else {
+            if (message == null) {
                 log.warn("Response message is NULL for sessionId: {}", sessionId);
             }
-            LockProvider.INSTANCE.notify(sessionId);
-        } catch (JMSException | JsonProcessingException e) {
+            ResponseCorrelationRegistry.INSTANCE.complete(sessionId, triggerExecutionMessage);
+        } catch (JMSException | IOException e) {
             log.error("Error while outgoing response message processing: {}", e.getMessage());
         } catch (Exception e) {
             log.error("Error while executor_stubs_outgoing_response queue message processing : {}", e.getMessage());
@@ -324,6 +320,7 @@ public class StubJmsListeners {
                         throw new RuntimeException("Unknown file event type: " + fileInfo.getEventType());
                     }
                 }
+                ExternalFileUpdateListeners.INSTANCE.fileUpdated(fileInfo.getContentType(), fileInfo.getFileName());
             }
         } catch (IOException e) {
             log.error("Error while file update message processing: {}", e.getMessage());
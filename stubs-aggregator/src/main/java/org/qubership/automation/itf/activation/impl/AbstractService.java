@@ -20,9 +20,14 @@ package org.qubership.automation.itf.activation.impl;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
@@ -44,7 +49,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -130,16 +134,17 @@ public abstract class AbstractService implements ActivationService {
                                    String sessionId,
                                    String projectUuid) {
         Map<BigInteger, TriggerState> triggerStates = new ConcurrentHashMap<>();
-        threadPoolProvider.getForkJoinPool().submit(() -> triggers.stream().parallel().forEach(
-                triggerSample -> {
+        List<CompletableFuture<Void>> futures = triggers.stream()
+                .map(triggerSample -> CompletableFuture.runAsync(() -> {
                     MdcUtils.put(MdcField.PROJECT_ID.toString(), triggerSample.getProjectUuid());
                     MdcUtils.put(MdcField.SESSION_ID.toString(), sessionId);
                     log.info("Project UUID {}, SessionId {}, user {}, action '{}' for Trigger [{}] is started...",
                             projectUuid, sessionId, user, action, triggerSample.getTriggerId());
                     performActionForTrigger(triggerSample, actionValue, user, isSuccess, availableServers);
                     triggerStates.put(triggerSample.getTriggerId(), triggerSample.getTriggerState());
-        }));
-        waitForCompletion(sessionId, triggers.size(), triggerStates);
+                }, threadPoolProvider.getForkJoinPool()))
+                .collect(Collectors.toList());
+        waitForCompletion(sessionId, futures);
     }
 
     protected Result performActionForTrigger(TriggerSample triggerSample,
@@ -264,8 +269,6 @@ public abstract class AbstractService implements ActivationService {
      * @param user - user performing action,
      * @param sessionId - generated sessionId for logging purposes.
      */
-    @SuppressFBWarnings(value = "RV_RETURN_VALUE_IGNORED_BAD_PRACTICE",
-            justification = "Checked; result of pool.submit() is not needed currently")
     public ServerTriggerStateResponse performBulkAction(List<TriggerSample> triggers,
                                                         ConcurrentMap<String, Boolean> availableServers,
                                                         ActivationServiceConstants action,
@@ -276,41 +279,42 @@ public abstract class AbstractService implements ActivationService {
             log.info("Session {}, action {}: No triggers to process.", sessionId, action);
             return new ServerTriggerStateResponse(triggerStates, StringUtils.EMPTY, user, sessionId);
         }
-        threadPoolProvider.getForkJoinPool().submit(() -> triggers.stream().parallel().forEach(
-                triggerSample -> {
+        List<CompletableFuture<Void>> futures = triggers.stream()
+                .map(triggerSample -> CompletableFuture.runAsync(() -> {
                     MdcUtils.put(MdcField.PROJECT_ID.toString(), triggerSample.getProjectUuid());
                     MdcUtils.put(MdcField.SESSION_ID.toString(), sessionId);
                     performActionForTrigger(triggerSample, action, availableServers);
                     triggerStates.put(triggerSample.getTriggerId(), triggerSample.getTriggerState());
-        }));
-        waitForCompletion(sessionId, triggers.size(), triggerStates);
+                }, threadPoolProvider.getForkJoinPool()))
+                .collect(Collectors.toList());
+        waitForCompletion(sessionId, futures);
         return new ServerTriggerStateResponse(triggerStates, StringUtils.EMPTY, user, sessionId);
     }
 
-    private void waitForCompletion(String sessionId,
-                                   int totalCount,
-                                   Map<BigInteger, TriggerState> triggerStates) {
+    /*
+        Wait until all triggers are processed, but not longer than bulk processing max time.
+        Completion is signalled by the last trigger processed, without polling.
+     */
+    private void waitForCompletion(String sessionId, List<CompletableFuture<Void>> futures) {
         long startingTimestamp = System.currentTimeMillis();
-        while (triggerStates.size() < totalCount) {
-            try {
-                if (System.currentTimeMillis() - startingTimestamp > bulkProcessingMaxTime) {
-                    log.warn("Session {}: processing is interrupted due to max time limit {} ms", sessionId,
-                            bulkProcessingMaxTime);
-                    break;
-                }
-                Thread.sleep(2000);
-            } catch (InterruptedException e) {
-                log.warn("Session {}: processing is interrupted after {} ms", sessionId,
-                        System.currentTimeMillis() - startingTimestamp);
-                break;
-            }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(bulkProcessingMaxTime, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Session {}: processing is interrupted due to max time limit {} ms", sessionId,
+                    bulkProcessingMaxTime);
+        } catch (InterruptedException e) {
+            log.warn("Session {}: processing is interrupted after {} ms", sessionId,
+                    System.currentTimeMillis() - startingTimestamp);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Session {}: error while triggers processing", sessionId, e.getCause());
         }
+        long pendingCount = futures.stream().filter(future -> !future.isDone()).count();
         log.info("Session {}: All ({}) triggers are processed, elapsed {} ms {}",
                 sessionId,
-                totalCount,
+                futures.size(),
                 System.currentTimeMillis() - startingTimestamp,
-                (totalCount - triggerStates.size() > 0
-                        ? ", pending count: " + (totalCount - triggerStates.size()) : ""));
-
+                (pendingCount > 0 ? ", pending count: " + pendingCount : ""));
     }
 }
@@ -17,6 +17,7 @@
 
 package org.qubership.automation.itf.activation.impl;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
@@ -31,6 +32,7 @@ import org.qubership.automation.itf.core.model.communication.TransportType;
 import org.qubership.automation.itf.core.model.communication.TriggerSample;
 import org.qubership.automation.itf.core.util.eds.ExternalDataManagementService;
 import org.qubership.automation.itf.integration.executor.ExecutorService;
+import org.qubership.automation.itf.monitoring.metrics.MetricsAggregateService;
 import org.springframework.stereotype.Service;
 
 import feign.FeignException;
@@ -69,11 +71,12 @@ public class OnStartupTriggersActivationService extends AbstractService {
                             .filter(item -> Objects.nonNull(item) && Objects.nonNull(item.getTransportType()))
                             .collect(Collectors.groupingBy(TriggerSample::getTransportType));
 
-            processTriggersFiltered(triggerTypes, triggersByType, VIP1_TYPES);
-            processTriggersFiltered(triggerTypes, triggersByType, VIP2_TYPES);
-            processTriggersFiltered(triggerTypes, triggersByType, VIP3_TYPES);
+            processPhase("vip1", triggerTypes, triggersByType, VIP1_TYPES);
+            processPhase("vip2", triggerTypes, triggersByType, VIP2_TYPES);
+            processPhase("vip3", triggerTypes, triggersByType, VIP3_TYPES);
 
             long elapsedTimeAllTriggers = System.nanoTime() - startTimeAllTriggers;
+            MetricsAggregateService.recordStartupActivationDuration("total", Duration.ofNanos(elapsedTimeAllTriggers));
             log.info("Triggers activation completed in {} (s)",
                     String.format("%.3f", (double) elapsedTimeAllTriggers / 1000000000.0));
         }
@@ -84,6 +87,18 @@ public class OnStartupTriggersActivationService extends AbstractService {
         }
     }
 
+    private void processPhase(String phase,
+                              Set<String> triggerTypes,
+                              Map<TransportType, List<TriggerSample>> triggersByType,
+                              List<TransportType> processOnlyTypes) {
+        long startTime = System.nanoTime();
+        processTriggersFiltered(triggerTypes, triggersByType, processOnlyTypes);
+        long elapsedTime = System.nanoTime() - startTime;
+        MetricsAggregateService.recordStartupActivationDuration(phase, Duration.ofNanos(elapsedTime));
+        log.info("Triggers activation phase '{}' completed in {} (s)", phase,
+                String.format("%.3f", (double) elapsedTime / 1000000000.0));
+    }
+
     private void processTriggersFiltered(Set<String> triggerTypes,
                                          Map<TransportType, List<TriggerSample>> triggersByType,
                                          List<TransportType> processOnlyTypes) {
@@ -0,0 +1,190 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.ui.config;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.component.servlet.CamelHttpTransportServlet;
+import org.apache.camel.http.common.HttpConsumer;
+import org.apache.camel.http.common.HttpHelper;
+import org.apache.camel.http.common.HttpMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Camel servlet which processes exchanges asynchronously.
+ * Unlike {@link CamelHttpTransportServlet} (even with 'async' init parameter, it waits for exchange completion
+ * in the container thread), here the container thread is released as soon as the route returns
+ * control, and the response is written from the thread where the exchange is completed.
+ * So requests waiting for executor responses don't occupy Undertow worker threads.
+ *
+ * <p>Method checks (httpMethodRestrict, OPTIONS and TRACE) are the same as in {@link CamelHttpTransportServlet}.
+ * If the exchange isn't completed within async timeout, 504 (Gateway Timeout) is responded.
+ */
+public class AsyncCamelHttpTransportServlet extends CamelHttpTransportServlet {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncCamelHttpTransportServlet.class);
+    private static final long serialVersionUID = 1L;
+    private static final String ALL_METHODS = "GET,HEAD,POST,PUT,DELETE,TRACE,OPTIONS,CONNECT,PATCH";
+
+    private final long asyncTimeout;
+
+    /**
+     * Constructor.
+     *
+     * @param asyncTimeout - max time (milliseconds) the exchange may be processed before 504 is responded.
+     */
+    public AsyncCamelHttpTransportServlet(long asyncTimeout) {
+        this.asyncTimeout = asyncTimeout;
+    }
+
+    @Override
+    protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        HttpConsumer consumer = resolve(request);
+        if (consumer == null) {
+            LOGGER.debug("No consumer to service request {}", request);
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (consumer.isSuspended()) {
+            LOGGER.debug("Consumer suspended, cannot service request {}", request);
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        String method = request.getMethod();
+        String methodRestrict = consumer.getEndpoint().getHttpMethodRestrict();
+        if ("OPTIONS".equals(method) && !consumer.getEndpoint().isOptionsEnabled()) {
+            response.addHeader("Allow", methodRestrict != null ? "OPTIONS," + methodRestrict : ALL_METHODS);
+            response.setStatus(HttpServletResponse.SC_OK);
+            return;
+        }
+        if (methodRestrict != null && !methodRestrict.contains(method)) {
+            response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+        if ("TRACE".equals(method) && !consumer.getEndpoint().isTraceEnabled()) {
+            response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+
+        Exchange exchange = consumer.getEndpoint().createExchange(ExchangePattern.InOut);
+        HttpHelper.setCharsetFromContentType(request.getContentType(), exchange);
+        exchange.setIn(new HttpMessage(exchange, request, response));
+        String contextPath = consumer.getEndpoint().getPath();
+        exchange.getIn().setHeader("CamelServletContextPath", contextPath);
+        String httpPath = exchange.getIn().getHeader(Exchange.HTTP_PATH, String.class);
+        if (contextPath != null && httpPath != null && httpPath.startsWith(contextPath)) {
+            exchange.getIn().setHeader(Exchange.HTTP_PATH, httpPath.substring(contextPath.length()));
+        }
+        try {
+            consumer.createUoW(exchange);
+        } catch (Exception e) {
+            LOGGER.error("Error processing request", e);
+            response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            return;
+        }
+
+        // Normally waiting time is limited by the route itself (executor response timeout);
+        // async timeout is the last resort if the exchange is never completed.
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(asyncTimeout);
+        AtomicBoolean completed = new AtomicBoolean();
+        asyncContext.addListener(new TimeoutListener(consumer, exchange, completed));
+        try {
+            consumer.getAsyncProcessor().process(exchange,
+                    doneSync -> complete(consumer, exchange, asyncContext, completed));
+        } catch (Throwable t) {
+            exchange.setException(t);
+            complete(consumer, exchange, asyncContext, completed);
+        }
+    }
+
+    private void complete(HttpConsumer consumer, Exchange exchange, AsyncContext asyncContext,
+                          AtomicBoolean completed) {
+        if (!completed.compareAndSet(false, true)) {
+            LOGGER.warn("Exchange {} is completed after async timeout; response is already sent",
+                    exchange.getExchangeId());
+            return;
+        }
+        HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+        try {
+            consumer.getBinding().writeResponse(exchange, response);
+        } catch (IOException e) {
+            LOGGER.error("Error processing request", e);
+            try {
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            } catch (IOException | IllegalStateException ex) {
+                LOGGER.debug("Error while sending error response", ex);
+            }
+        } finally {
+            consumer.doneUoW(exchange);
+            asyncContext.complete();
+        }
+    }
+
+    private static class TimeoutListener implements AsyncListener {
+
+        private final HttpConsumer consumer;
+        private final Exchange exchange;
+        private final AtomicBoolean completed;
+
+        TimeoutListener(HttpConsumer consumer, Exchange exchange, AtomicBoolean completed) {
+            this.consumer = consumer;
+            this.exchange = exchange;
+            this.completed = completed;
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) throws IOException {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            LOGGER.error("Exchange {} is not completed within async timeout", exchange.getExchangeId());
+            try {
+                HttpServletResponse response = (HttpServletResponse) event.getAsyncContext().getResponse();
+                if (!response.isCommitted()) {
+                    response.sendError(HttpServletResponse.SC_GATEWAY_TIMEOUT);
+                }
+            } finally {
+                consumer.doneUoW(exchange);
+                event.getAsyncContext().complete();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
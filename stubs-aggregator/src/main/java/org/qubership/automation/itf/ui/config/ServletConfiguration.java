@@ -20,6 +20,7 @@ package org.qubership.automation.itf.ui.config;
 import javax.servlet.Servlet;
 
 import org.apache.camel.component.servlet.CamelHttpTransportServlet;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,13 +28,25 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class ServletConfiguration {
 
+    @Value("${camel.servlet.async.enabled:true}")
+    private boolean asyncEnabled;
+
+    @Value("${lock.provider.process.timeout:60000}")
+    private long processTimeout;
+
+    @Value("${camel.servlet.async.timeout-margin:10000}")
+    private long asyncTimeoutMargin;
+
     /** Create ServletRegistrationBean.
      * @return instance of {@link ServletRegistrationBean} for camel REST servlet registration.
      */
     @Bean
     public ServletRegistrationBean<Servlet> camelServletRegistrationBean() {
         ServletRegistrationBean<Servlet> registration = new ServletRegistrationBean<>(
-                new CamelHttpTransportServlet(), "/mockingbird-transport-rest/*");
+                asyncEnabled
+                        ? new AsyncCamelHttpTransportServlet(processTimeout + asyncTimeoutMargin)
+                        : new CamelHttpTransportServlet(),
+                "/mockingbird-transport-rest/*");
         registration.setName("CamelServlet");
         registration.setLoadOnStartup(1);
         registration.setAsyncSupported(true);
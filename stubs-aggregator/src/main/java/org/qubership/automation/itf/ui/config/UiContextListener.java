@@ -26,6 +26,7 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.annotation.PreDestroy;
+import javax.jms.JMSException;
 
 import org.qubership.automation.itf.CacheCleanerService;
 import org.qubership.automation.itf.core.stub.fast.FastResponseConfigsHolder;
@@ -34,6 +35,7 @@ import org.qubership.automation.itf.core.util.eds.ExternalDataManagementService;
 import org.qubership.automation.itf.core.util.eds.model.FileInfo;
 import org.qubership.automation.itf.core.util.eds.service.EdsContentType;
 import org.qubership.automation.itf.core.util.eds.service.EdsMetaInfo;
+import org.qubership.automation.itf.integration.config.jms.listener.AsyncQueueConsumer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
@@ -145,6 +147,14 @@ public class UiContextListener {
         log.info("All JMS Listeners are ready. Starting jmsListenerEndpointRegistry...");
         registry.start();
         log.info("JmsListenerEndpointRegistry is started.");
+        myContext.getBeanProvider(AsyncQueueConsumer.class).orderedStream().forEach(consumer -> {
+            try {
+                consumer.start();
+                log.info("Async consumer of executor responses is started.");
+            } catch (JMSException e) {
+                log.error("Error while starting async consumer of executor responses", e);
+            }
+        });
     }
 
     private void retryTriggersActivation(int delay, int timeout, int attempts) {
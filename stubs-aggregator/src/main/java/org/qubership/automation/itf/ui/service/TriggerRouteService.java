@@ -2,8 +2,12 @@ package org.qubership.automation.itf.ui.service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -56,6 +60,11 @@ public class TriggerRouteService {
                 }
             });
 
+    /*
+        Latches of requests waiting for responses from pods, counted down on each response received.
+     */
+    private static final Map<UUID, CountDownLatch> pendingRequests = new ConcurrentHashMap<>();
+
     private final OnStartupTriggersActivationService onStartupTriggersActivationService;
     private final StubsIntegrationMessageSender sender;
 
@@ -82,10 +91,11 @@ public class TriggerRouteService {
         event.setTransportType(transportType);
         event.setPodName(Config.getConfig().getRunningHostname());
         event.setPodCount(podCount);
-        routeInfoCache.put(requestId, new ArrayList<>());
+        routeInfoCache.put(requestId, new CopyOnWriteArrayList<>());
+        pendingRequests.put(requestId, new CountDownLatch(podCount));
 
         sender.sendToRouteInfoRequestTopic(event, projectUuid);
-        waitForCompletion(requestId, podCount, routeInfoCache.getUnchecked(requestId), collectRoutesMaxTime);
+        waitForCompletion(requestId, podCount, collectRoutesMaxTime);
         return getRouteEventInfoResponse(requestId, projectUuid, transportType);
     }
 
@@ -97,10 +107,11 @@ public class TriggerRouteService {
         event.setEventType(RouteEventType.STOP);
         event.setPodNameRouteToStop(podName);
         event.setRouteId(routeId);
-        routeStopCache.put(requestId, new ArrayList<>(1));
+        routeStopCache.put(requestId, new CopyOnWriteArrayList<>());
+        pendingRequests.put(requestId, new CountDownLatch(1));
 
         sender.sendToRouteInfoRequestTopic(event, projectUuid);
-        waitForCompletion(requestId, 1, routeStopCache.getUnchecked(requestId), 120000);
+        waitForCompletion(requestId, 1, 120000);
         List<String> messageList = routeStopCache.getUnchecked(requestId);
         return messageList.isEmpty()
                 ? "Route stop cache is expire or timeout response from service atp-itf-stubs." : messageList.get(0);
@@ -162,6 +173,10 @@ public class TriggerRouteService {
             default:
                 throw new RuntimeException("Unknown route event type: " + event.getEventType());
         }
+        CountDownLatch pending = pendingRequests.get(event.getRequestId());
+        if (pending != null) {
+            pending.countDown();
+        }
     }
 
     private RouteInfoResponse getRouteEventInfoResponse(UUID requestId, UUID projectUuid,
@@ -192,24 +207,23 @@ public class TriggerRouteService {
         }
     }
 
-    private void waitForCompletion(UUID requestId, int totalCount, List list, int timeout) {
+    private void waitForCompletion(UUID requestId, int totalCount, int timeout) {
         long startingTimestamp = System.currentTimeMillis();
-        while (list.size() < totalCount) {
-            try {
-                if (System.currentTimeMillis() - startingTimestamp > timeout) {
-                    log.warn("RequestId {}: processing is interrupted due to max time limit {} ms.",
-                            requestId, timeout);
-                    break;
-                }
-                Thread.sleep(2000);
-            } catch (InterruptedException e) {
-                log.warn("RequestId {}: processing is interrupted after {} ms.", requestId,
-                        System.currentTimeMillis() - startingTimestamp);
-                break;
+        CountDownLatch pending = pendingRequests.get(requestId);
+        try {
+            if (!pending.await(timeout, TimeUnit.MILLISECONDS)) {
+                log.warn("RequestId {}: processing is interrupted due to max time limit {} ms.",
+                        requestId, timeout);
             }
+        } catch (InterruptedException e) {
+            log.warn("RequestId {}: processing is interrupted after {} ms.", requestId,
+                    System.currentTimeMillis() - startingTimestamp);
+            Thread.currentThread().interrupt();
+        } finally {
+            pendingRequests.remove(requestId);
         }
         log.info("RequestId {}: All ({}) pods with route are processed, elapsed {} ms {}",
                 requestId, totalCount, System.currentTimeMillis() - startingTimestamp,
-                (totalCount - list.size() > 0 ? ", pending count: " + (totalCount - list.size()) : ""));
+                (pending.getCount() > 0 ? ", pending count: " + pending.getCount() : ""));
     }
 }
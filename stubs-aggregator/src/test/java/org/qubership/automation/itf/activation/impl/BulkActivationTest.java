@@ -0,0 +1,108 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.activation.impl;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qubership.automation.itf.activation.ActivationServiceConstants;
+import org.qubership.automation.itf.activation.ThreadPoolProvider;
+import org.qubership.automation.itf.core.model.communication.Result;
+import org.qubership.automation.itf.core.model.communication.StubUser;
+import org.qubership.automation.itf.core.model.communication.TriggerSample;
+import org.qubership.automation.itf.core.model.communication.message.ServerTriggerStateResponse;
+import org.qubership.automation.itf.core.util.constants.TriggerState;
+
+public class BulkActivationTest {
+
+    private static final int TRIGGERS_COUNT = 2000;
+    /*
+        Bulk actions waited for completion polling every 2 seconds, so it was the minimal duration.
+     */
+    private static final long OLD_POLLING_FLOOR = 2000;
+
+    private AbstractService service;
+
+    @Before
+    public void setUp() {
+        service = new AbstractService() {
+            @Override
+            protected Result doTriggerAction(TriggerSample triggerSample,
+                                             ActivationServiceConstants action,
+                                             ConcurrentMap<String, Boolean> availableServers) {
+                triggerSample.setTriggerState(TriggerState.ACTIVE);
+                return new Result(true, "");
+            }
+        };
+        service.setThreadPoolProvider(new ThreadPoolProvider(1, 1, 15));
+        service.setBulkProcessingMaxTime(1800000);
+    }
+
+    private static List<TriggerSample> stubTriggers() {
+        List<TriggerSample> triggers = new ArrayList<>(TRIGGERS_COUNT);
+        for (int i = 0; i < TRIGGERS_COUNT; i++) {
+            TriggerSample triggerSample = new TriggerSample();
+            triggerSample.setTriggerId(BigInteger.valueOf(i));
+            triggerSample.setTriggerName("Stub trigger " + i);
+            triggerSample.setTriggerState(TriggerState.INACTIVE);
+            triggers.add(triggerSample);
+        }
+        return triggers;
+    }
+
+    @Test
+    public void bulkActivationCompletesAsSoonAsLastTriggerIsProcessed() {
+        long started = System.currentTimeMillis();
+        ServerTriggerStateResponse response = service.performBulkAction(stubTriggers(), new ConcurrentHashMap<>(),
+                ActivationServiceConstants.ACTIVATE, new StubUser("Stubs"), "bulk-activation-test");
+        long elapsed = System.currentTimeMillis() - started;
+
+        Assert.assertEquals(TRIGGERS_COUNT, response.getTriggerStates().size());
+        Assert.assertTrue(response.getTriggerStates().values().stream()
+                .allMatch(state -> state == TriggerState.ACTIVE));
+        Assert.assertTrue("Bulk activation took " + elapsed + " ms", elapsed < OLD_POLLING_FLOOR / 2);
+    }
+
+    @Test
+    public void bulkActionIsLimitedByMaxTime() {
+        service = new AbstractService() {
+            @Override
+            protected Result doTriggerAction(TriggerSample triggerSample,
+                                             ActivationServiceConstants action,
+                                             ConcurrentMap<String, Boolean> availableServers) throws Exception {
+                Thread.sleep(5000);
+                return new Result(true, "");
+            }
+        };
+        service.setThreadPoolProvider(new ThreadPoolProvider(1, 1, 2));
+        service.setBulkProcessingMaxTime(200);
+
+        long started = System.currentTimeMillis();
+        service.performBulkAction(stubTriggers().subList(0, 4), new ConcurrentHashMap<>(),
+                ActivationServiceConstants.ACTIVATE, new StubUser("Stubs"), "bulk-timeout-test");
+        long elapsed = System.currentTimeMillis() - started;
+
+        Assert.assertTrue("Bulk action took " + elapsed + " ms", elapsed < 2000);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.integration;
+
+import org.junit.Assume;
+
+/**
+ * Benchmarks take minutes and their results are only meaningful on a quiet machine,
+ * so they are skipped unless enabled explicitly, like:
+ * {@code mvn test -Ditf.benchmarks=true -Dtest=ExecutorResponseRoutingBenchmarkTest}.
+ * Results are logged at INFO level.
+ */
+final class Benchmarks {
+
+    static final String ENABLED_PROPERTY = "itf.benchmarks";
+
+    private Benchmarks() {
+    }
+
+    /**
+     * Skip the benchmark unless 'itf.benchmarks' system property is true.
+     */
+    static void assumeEnabled() {
+        Assume.assumeTrue("Benchmarks are enabled by -D" + ENABLED_PROPERTY + "=true",
+                Boolean.getBoolean(ENABLED_PROPERTY));
+    }
+}
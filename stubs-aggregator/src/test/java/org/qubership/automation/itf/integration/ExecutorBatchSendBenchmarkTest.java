@@ -0,0 +1,135 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.integration;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.Connection;
+import javax.jms.JMSException;
+import javax.jms.Session;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.broker.BrokerService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.qubership.automation.itf.communication.TriggerExecutionMessageSender;
+import org.qubership.automation.itf.core.model.communication.message.CommonTriggerExecutionMessage;
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.integration.config.jms.DefaultJmsTemplate;
+import org.qubership.automation.itf.integration.config.jms.connection.StubsIntegrationConfig;
+import org.springframework.jms.connection.CachingConnectionFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares throughput of one-way executor sends: one JMS message per session vs. micro-batches.
+ */
+@Slf4j
+public class ExecutorBatchSendBenchmarkTest {
+
+    private static final String QUEUE = "stubs_executor_incoming_request";
+    private static final int MESSAGES = 50000;
+    private static final int BATCH_MAX_SIZE = 50;
+    private static final long BATCH_MAX_DELAY = 10;
+    private static final String PAYLOAD = new String(new char[1024]).replace('\0', 'x');
+
+    private BrokerService broker;
+    private ActiveMQConnectionFactory connectionFactory;
+    private CachingConnectionFactory cachingConnectionFactory;
+
+    @BeforeClass
+    public static void checkEnabled() {
+        Benchmarks.assumeEnabled();
+    }
+
+    @Before
+    public void startBroker() throws Exception {
+        broker = new BrokerService();
+        broker.setBrokerName("batch-benchmark");
+        broker.setPersistent(false);
+        broker.setUseJmx(false);
+        broker.start();
+        broker.waitUntilStarted();
+        connectionFactory = new ActiveMQConnectionFactory("vm://batch-benchmark?create=false");
+        cachingConnectionFactory = new CachingConnectionFactory(connectionFactory);
+    }
+
+    @After
+    public void stopBroker() throws Exception {
+        cachingConnectionFactory.destroy();
+        broker.stop();
+        broker.waitUntilStopped();
+    }
+
+    @Test
+    public void compareSingleAndBatchedSends() throws Exception {
+        long single = run(1);
+        long batched = run(BATCH_MAX_SIZE);
+        log.info("{} one-way sessions: single mode - {} ms ({} msg/s), batches of {} - {} ms ({} msg/s)",
+                MESSAGES, single, MESSAGES * 1000L / Math.max(1, single), BATCH_MAX_SIZE, batched,
+                MESSAGES * 1000L / Math.max(1, batched));
+    }
+
+    private long run(int batchMaxSize) throws Exception {
+        TriggerExecutionMessageSender sender = new TriggerExecutionMessageSender(QUEUE, createJmsTemplate(), "",
+                batchMaxSize, BATCH_MAX_DELAY, 0, "", 0, new SimpleMeterRegistry());
+        Connection connection = connectionFactory.createConnection();
+        try {
+            CountDownLatch received = new CountDownLatch(MESSAGES);
+            Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            session.createConsumer(session.createQueue(QUEUE)).setMessageListener(message -> {
+                try {
+                    int count = message.propertyExists(TriggerExecutionMessageSender.BATCH_SIZE_PROPERTY)
+                            ? message.getIntProperty(TriggerExecutionMessageSender.BATCH_SIZE_PROPERTY) : 1;
+                    for (int i = 0; i < count; i++) {
+                        received.countDown();
+                    }
+                } catch (JMSException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            connection.start();
+            UUID projectUuid = UUID.randomUUID();
+            long started = System.nanoTime();
+            for (int i = 0; i < MESSAGES; i++) {
+                TriggerExecutionMessageSender.send(new CommonTriggerExecutionMessage("test", new Message(PAYLOAD),
+                        null, "session-" + i, "localhost"), projectUuid);
+            }
+            sender.shutdown();
+            assertTrue("Not all messages are received", received.await(5, TimeUnit.MINUTES));
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        } finally {
+            connection.close();
+        }
+    }
+
+    private DefaultJmsTemplate createJmsTemplate() {
+        StubsIntegrationConfig config = new StubsIntegrationConfig();
+        DefaultJmsTemplate jmsTemplate = new DefaultJmsTemplate();
+        jmsTemplate.setConnectionFactory(cachingConnectionFactory);
+        jmsTemplate.setMessageConverter(config.jacksonJmsMessageConverter(config.jmsMessageConverterObjectMapper()));
+        return jmsTemplate;
+    }
+}
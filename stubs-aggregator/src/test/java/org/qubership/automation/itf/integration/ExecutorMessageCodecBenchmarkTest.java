@@ -0,0 +1,134 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.integration;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.jms.BytesMessage;
+import javax.jms.Connection;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.command.ActiveMQBytesMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.qubership.automation.itf.core.model.communication.message.CommonTriggerExecutionMessage;
+import org.qubership.automation.itf.core.model.communication.message.TriggerExecutionMessage;
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.integration.config.jms.ExecutorMessageConverter;
+import org.qubership.automation.itf.integration.config.jms.connection.StubsIntegrationConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares size and encode/decode time of executor messages in JSON and Smile codecs
+ * for typical (2 KB), large (100 KB) and huge (5 MB) bodies.
+ */
+@Slf4j
+public class ExecutorMessageCodecBenchmarkTest {
+
+    private static final int[] BODY_SIZES = {2 * 1024, 100 * 1024, 5 * 1024 * 1024};
+    private static final long WARMUP_BYTES = 200L * 1024 * 1024;
+    private static final long MEASURED_BYTES = 500L * 1024 * 1024;
+    private static final int CONNECTION_PROPERTIES = 30;
+
+    private Connection connection;
+    private Session session;
+
+    @BeforeClass
+    public static void checkEnabled() {
+        Benchmarks.assumeEnabled();
+    }
+
+    @Before
+    public void createSession() throws Exception {
+        connection = new ActiveMQConnectionFactory("vm://codec-benchmark?broker.persistent=false&broker.useJmx=false")
+                .createConnection();
+        session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+    }
+
+    @After
+    public void closeSession() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    public void compareJsonAndSmileCodecs() throws Exception {
+        for (int bodySize : BODY_SIZES) {
+            TriggerExecutionMessage message = createMessage(bodySize);
+            for (boolean binary : new boolean[]{false, true}) {
+                ExecutorMessageConverter converter = converter(binary);
+                int iterations = (int) Math.max(10, MEASURED_BYTES / bodySize);
+                run(converter, message, (int) Math.max(10, WARMUP_BYTES / bodySize));
+                long[] result = run(converter, message, iterations);
+                log.info("{} body {} bytes: message {} bytes, encode {} ns, decode {} ns",
+                        binary ? "Smile" : "JSON", bodySize, result[0], result[1] / iterations,
+                        result[2] / iterations);
+            }
+        }
+    }
+
+    /*
+        Returns size of the encoded message, total encode and decode time, in nanoseconds.
+     */
+    private long[] run(ExecutorMessageConverter converter, TriggerExecutionMessage message, int iterations)
+            throws Exception {
+        long size = 0;
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (int i = 0; i < iterations; i++) {
+            long started = System.nanoTime();
+            javax.jms.Message jmsMessage = converter.toMessage(message, session);
+            encodeNanos += System.nanoTime() - started;
+            if (jmsMessage instanceof BytesMessage) {
+                ((ActiveMQBytesMessage) jmsMessage).reset();
+                size = ((BytesMessage) jmsMessage).getBodyLength();
+            } else {
+                size = ((TextMessage) jmsMessage).getText().getBytes(StandardCharsets.UTF_8).length;
+            }
+            started = System.nanoTime();
+            TriggerExecutionMessage decoded = converter.read(jmsMessage, TriggerExecutionMessage.class);
+            decodeNanos += System.nanoTime() - started;
+            assertEquals(message.getSessionId(), decoded.getSessionId());
+        }
+        return new long[]{size, encodeNanos, decodeNanos};
+    }
+
+    private static ExecutorMessageConverter converter(boolean binary) {
+        StubsIntegrationConfig config = new StubsIntegrationConfig();
+        return config.executorJmsMessageConverter(config.jmsMessageConverterObjectMapper(),
+                binary ? "smile" : "json");
+    }
+
+    private static TriggerExecutionMessage createMessage(int bodySize) {
+        StringBuilder body = new StringBuilder(bodySize).append("<orders>");
+        for (int i = 0; body.length() < bodySize - 9; i++) {
+            body.append("<order><id>").append(i).append("</id><status>ACTIVE</status></order>");
+        }
+        Message message = new Message(body.append("</orders>").toString());
+        for (int i = 0; i < CONNECTION_PROPERTIES; i++) {
+            message.getConnectionProperties().put("property" + i, "value of property " + i);
+        }
+        return new CommonTriggerExecutionMessage("test.Transport", message, null, "session-1", "localhost");
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.integration;
+
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.jms.Connection;
+import javax.jms.DeliveryMode;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.ActiveMQSession;
+import org.apache.activemq.broker.BrokerService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.qubership.automation.itf.core.model.communication.message.TriggerExecutionMessage;
+import org.qubership.automation.itf.integration.config.jms.connection.StubsIntegrationConfig;
+import org.qubership.automation.itf.integration.config.jms.listener.AsyncQueueConsumer;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares consumers of executor responses: listener container ("120-900", CACHE_CONSUMER,
+ * INDIVIDUAL_ACKNOWLEDGE) vs. async consumer (a few sessions, small pool, DUPS_OK_ACKNOWLEDGE),
+ * by peak count of live threads, process CPU time and latency from sending to processing.
+ */
+@Slf4j
+public class ExecutorResponseConsumerBenchmarkTest {
+
+    private static final String QUEUE = "executor_stubs_outgoing_response";
+    private static final String SELECTOR = "hostname='pod-1'";
+    private static final int RESPONSES = 50000;
+    private static final long SEND_INTERVAL_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    private static final String SENT_AT_PROPERTY = "sentAt";
+
+    private final ObjectMapper objectMapper = new StubsIntegrationConfig().jmsMessageConverterObjectMapper();
+    private BrokerService broker;
+    private ActiveMQConnectionFactory connectionFactory;
+
+    @BeforeClass
+    public static void checkEnabled() {
+        Benchmarks.assumeEnabled();
+    }
+
+    @Before
+    public void startBroker() throws Exception {
+        broker = new BrokerService();
+        broker.setBrokerName("consumer-benchmark");
+        broker.setPersistent(false);
+        broker.setUseJmx(false);
+        broker.start();
+        broker.waitUntilStarted();
+        connectionFactory = new ActiveMQConnectionFactory("vm://consumer-benchmark?create=false");
+    }
+
+    @After
+    public void stopBroker() throws Exception {
+        broker.stop();
+        broker.waitUntilStopped();
+    }
+
+    @Test
+    public void compareContainerAndAsyncConsumers() throws Exception {
+        Result container = runContainer();
+        Result async = runAsync();
+        log.info("{} responses ({}/s offered); container: {}; async: {}", RESPONSES,
+                TimeUnit.SECONDS.toNanos(1) / SEND_INTERVAL_NANOS, container, async);
+    }
+
+    private Result runContainer() throws Exception {
+        Recorder recorder = new Recorder();
+        DefaultMessageListenerContainer container = new DefaultMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setDestinationName(QUEUE);
+        container.setMessageSelector(SELECTOR);
+        container.setConcurrency("120-900");
+        container.setCacheLevel(DefaultMessageListenerContainer.CACHE_CONSUMER);
+        container.setSessionAcknowledgeMode(ActiveMQSession.INDIVIDUAL_ACKNOWLEDGE);
+        container.setMessageListener(recorder);
+        container.afterPropertiesSet();
+        container.start();
+        try {
+            return recorder.run();
+        } finally {
+            container.shutdown();
+        }
+    }
+
+    private Result runAsync() throws Exception {
+        Recorder recorder = new Recorder();
+        AsyncQueueConsumer consumer = new AsyncQueueConsumer(connectionFactory, 4, 8, 1000,
+                "executorResponseConsumer", recorder);
+        consumer.subscribe(QUEUE, SELECTOR);
+        consumer.start();
+        try {
+            return recorder.run();
+        } finally {
+            consumer.stop();
+        }
+    }
+
+    private void sendResponses() throws JMSException {
+        Connection connection = connectionFactory.createConnection();
+        try {
+            Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            MessageProducer producer = session.createProducer(session.createQueue(QUEUE));
+            long next = System.nanoTime();
+            for (int i = 0; i < RESPONSES; i++) {
+                while (System.nanoTime() < next) {
+                    Thread.yield();
+                }
+                next += SEND_INTERVAL_NANOS;
+                TextMessage message = session.createTextMessage("{\"sessionId\": \"" + i + "\", "
+                        + "\"message\": {\"text\": \"<response>OK</response>\"}}");
+                message.setStringProperty("hostname", "pod-1");
+                message.setLongProperty(SENT_AT_PROPERTY, System.nanoTime());
+                producer.send(message, DeliveryMode.NON_PERSISTENT, 4, 0);
+            }
+        } finally {
+            connection.close();
+        }
+    }
+
+    /*
+        Simulates StubJmsListeners: acknowledge, decode, complete; records latencies.
+     */
+    private class Recorder implements MessageListener {
+
+        private final long[] latencies = new long[RESPONSES];
+        private final AtomicInteger count = new AtomicInteger();
+        private final CountDownLatch processed = new CountDownLatch(RESPONSES);
+
+        @Override
+        public void onMessage(Message message) {
+            try {
+                message.acknowledge();
+                objectMapper.readValue(((TextMessage) message).getText(), TriggerExecutionMessage.class);
+                latencies[count.getAndIncrement()] = System.nanoTime() - message.getLongProperty(SENT_AT_PROPERTY);
+                processed.countDown();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        Result run() throws Exception {
+            Thread.sleep(1000);
+            ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+            long cpuBefore = processCpuTime();
+            long started = System.nanoTime();
+            sendResponses();
+            assertTrue("Not all responses are processed", processed.await(5, TimeUnit.MINUTES));
+            Result result = new Result();
+            result.peakThreads = ManagementFactory.getThreadMXBean().getPeakThreadCount();
+            result.cpuMillis = TimeUnit.NANOSECONDS.toMillis(processCpuTime() - cpuBefore);
+            result.elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            Arrays.sort(latencies);
+            result.p50Micros = TimeUnit.NANOSECONDS.toMicros(latencies[RESPONSES / 2]);
+            result.p99Micros = TimeUnit.NANOSECONDS.toMicros(latencies[(int) (RESPONSES * 0.99)]);
+            return result;
+        }
+    }
+
+    private static long processCpuTime() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+                .getProcessCpuTime();
+    }
+
+    private static class Result {
+
+        private int peakThreads;
+        private long cpuMillis;
+        private long elapsedMillis;
+        private long p50Micros;
+        private long p99Micros;
+
+        @Override
+        public String toString() {
+            return String.format("peak threads %d, CPU %d ms, elapsed %d ms, latency p50 %d us, p99 %d us",
+                    peakThreads, cpuMillis, elapsedMillis, p50Micros, p99Micros);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.integration;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.Connection;
+import javax.jms.DeliveryMode;
+import javax.jms.JMSException;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.broker.BrokerService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares delivery of executor responses to several simulated stubs pods:
+ * via the shared queue with 'hostname' selectors vs. via per-pod reply queues.
+ */
+@Slf4j
+public class ExecutorResponseRoutingBenchmarkTest {
+
+    private static final String SHARED_QUEUE = "executor_stubs_outgoing_response";
+    private static final int PODS = 8;
+    private static final int CONSUMERS_PER_POD = 20;
+    private static final int RESPONSES = 20000;
+
+    private BrokerService broker;
+    private ActiveMQConnectionFactory connectionFactory;
+
+    @BeforeClass
+    public static void checkEnabled() {
+        Benchmarks.assumeEnabled();
+    }
+
+    @Before
+    public void startBroker() throws Exception {
+        broker = new BrokerService();
+        broker.setBrokerName("routing-benchmark");
+        broker.setPersistent(false);
+        broker.setUseJmx(false);
+        broker.start();
+        broker.waitUntilStarted();
+        connectionFactory = new ActiveMQConnectionFactory("vm://routing-benchmark?create=false");
+    }
+
+    @After
+    public void stopBroker() throws Exception {
+        broker.stop();
+        broker.waitUntilStopped();
+    }
+
+    @Test
+    public void compareSelectorAndReplyQueueModes() throws Exception {
+        long selectorMode = run(true);
+        long replyQueueMode = run(false);
+        log.info("{} responses to {} pods ({} consumers each): selector mode - {} ms, reply queue mode - {} ms",
+                RESPONSES, PODS, CONSUMERS_PER_POD, selectorMode, replyQueueMode);
+    }
+
+    private long run(boolean selectorMode) throws Exception {
+        Connection connection = connectionFactory.createConnection();
+        connection.start();
+        try {
+            CountDownLatch received = new CountDownLatch(RESPONSES);
+            List<Session> sessions = new ArrayList<>();
+            for (int pod = 0; pod < PODS; pod++) {
+                for (int i = 0; i < CONSUMERS_PER_POD; i++) {
+                    Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+                    sessions.add(session);
+                    MessageConsumer consumer = selectorMode
+                            ? session.createConsumer(session.createQueue(SHARED_QUEUE), "hostname='pod-" + pod + "'")
+                            : session.createConsumer(session.createQueue(replyQueue(pod)));
+                    consumer.setMessageListener(message -> received.countDown());
+                }
+            }
+            long started = System.nanoTime();
+            sendResponses(connection, selectorMode);
+            assertTrue("Not all responses are received", received.await(5, TimeUnit.MINUTES));
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            for (Session session : sessions) {
+                session.close();
+            }
+            return elapsed;
+        } finally {
+            connection.close();
+        }
+    }
+
+    private void sendResponses(Connection connection, boolean selectorMode) throws JMSException {
+        Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        try {
+            MessageProducer sharedProducer = session.createProducer(session.createQueue(SHARED_QUEUE));
+            List<MessageProducer> replyProducers = new ArrayList<>();
+            for (int pod = 0; pod < PODS; pod++) {
+                replyProducers.add(session.createProducer(session.createQueue(replyQueue(pod))));
+            }
+            for (int i = 0; i < RESPONSES; i++) {
+                int pod = i % PODS;
+                TextMessage message = session.createTextMessage("{\"sessionId\": \"" + i + "\"}");
+                if (selectorMode) {
+                    message.setStringProperty("hostname", "pod-" + pod);
+                    sharedProducer.send(message, DeliveryMode.NON_PERSISTENT, 4, 0);
+                } else {
+                    replyProducers.get(pod).send(message, DeliveryMode.NON_PERSISTENT, 4, 0);
+                }
+            }
+        } finally {
+            session.close();
+        }
+    }
+
+    private static String replyQueue(int pod) {
+        return SHARED_QUEUE + ".pod-" + pod;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.integration;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.core.model.jpa.context.TcContext;
+import org.qubership.automation.itf.trigger.LayeredJsonContext;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares bytes allocated per fast stub request for the context of parsed variables (50 variables):
+ * deep copies into 'sp' and 'tc.saved' vs copy-on-write views, including copying into TcContext for reporting.
+ * Allocation is measured by thread allocated bytes counter (HotSpot only).
+ */
+@Slf4j
+public class FastStubContextAllocationBenchmarkTest {
+
+    private static final int VARIABLES = 50;
+    private static final int WARMUP_ITERATIONS = 100000;
+    private static final int MEASURED_ITERATIONS = 1000000;
+
+    @BeforeClass
+    public static void checkEnabled() {
+        Benchmarks.assumeEnabled();
+    }
+
+    @Test
+    public void compareCopiesAndViews() {
+        Function<JsonContext, JsonContext> copies = ctx -> {
+            JsonContext sp = new JsonContext();
+            sp.merge(ctx);
+            JsonContext tc = new JsonContext();
+            tc.put("saved", new JsonContext());
+            ((JsonContext) tc.get("saved")).merge(ctx);
+            ctx.put("sp", sp);
+            ctx.put("tc", tc);
+            return ctx;
+        };
+        Function<JsonContext, JsonContext> views = LayeredJsonContext::withSpAndTc;
+        for (int i = 0; i < 2; i++) {
+            run(copies, WARMUP_ITERATIONS);
+            run(views, WARMUP_ITERATIONS);
+        }
+        log.info("Deep copies: {} bytes per request", run(copies, MEASURED_ITERATIONS));
+        log.info("Views:       {} bytes per request", run(views, MEASURED_ITERATIONS));
+    }
+
+    private static long run(Function<JsonContext, JsonContext> duplicate, int iterations) {
+        com.sun.management.ThreadMXBean threadMxBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocated = 0;
+        long reported = 0;
+        for (int i = 0; i < iterations; i++) {
+            JsonContext variables = new JsonContext();
+            for (int j = 0; j < VARIABLES; j++) {
+                variables.put("variable" + j, "value");
+            }
+            long before = threadMxBean.getThreadAllocatedBytes(threadId);
+            JsonContext context = duplicate.apply(variables);
+            TcContext tcContext = new TcContext();
+            tcContext.putAll(context);
+            allocated += threadMxBean.getThreadAllocatedBytes(threadId) - before;
+            reported += tcContext.containsKey("variable0") && tcContext.containsKey("sp") ? 1 : 0;
+        }
+        assertEquals(iterations, reported);
+        return allocated / iterations;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.integration;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.qubership.automation.itf.core.message.parser.Parser;
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.core.stub.fast.StubEndpointConfig;
+import org.qubership.automation.itf.trigger.CompiledParsingRules;
+import org.qubership.automation.itf.trigger.MessageDocument;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares parsing of 100 KB SOAP message by 1, 10 and 50 XPath rules via Parser and via compiled parsing rules
+ * sharing one parsed document: with the shared document, the cost of body parsing doesn't depend on the count
+ * of rules, only cheap evaluation of each expression is added.
+ */
+@Slf4j
+public class FastStubDocumentParsingBenchmarkTest {
+
+    private static final int[] RULE_COUNTS = {1, 10, 50};
+    private static final int FIELDS = 50;
+    private static final int BODY_SIZE = 100 * 1024;
+    private static final int WARMUP_ITERATIONS = 100;
+    private static final int MEASURED_ITERATIONS = 500;
+    private static final BigInteger PROJECT_ID = BigInteger.ONE;
+
+    @BeforeClass
+    public static void checkEnabled() {
+        Benchmarks.assumeEnabled();
+    }
+
+    @Test
+    public void compareParserAndSharedDocument() throws Exception {
+        Message message = new Message(createBody());
+        for (int rules : RULE_COUNTS) {
+            StubEndpointConfig cfg = createConfig(rules);
+            CompiledParsingRules compiled = CompiledParsingRules.of(cfg);
+            assertEquals(rules, new Parser().parseToJsonContext(message, cfg.getParsingRules(), PROJECT_ID).size());
+            run(() -> new Parser().parseToJsonContext(message, cfg.getParsingRules(), PROJECT_ID),
+                    WARMUP_ITERATIONS);
+            long parserNanos = run(() -> new Parser().parseToJsonContext(message, cfg.getParsingRules(),
+                    PROJECT_ID), MEASURED_ITERATIONS);
+            run(() -> compiled.parse(message, new MessageDocument(message.getText()), PROJECT_ID), WARMUP_ITERATIONS);
+            long compiledNanos = run(() -> compiled.parse(message, new MessageDocument(message.getText()),
+                    PROJECT_ID), MEASURED_ITERATIONS);
+            log.info("{} XPath rules: Parser {} us, shared document {} us per message", rules,
+                    parserNanos / MEASURED_ITERATIONS / 1000, compiledNanos / MEASURED_ITERATIONS / 1000);
+        }
+    }
+
+    private static long run(ParsingTask task, int iterations) throws Exception {
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.parse();
+        }
+        return System.nanoTime() - started;
+    }
+
+    private static String createBody() {
+        StringBuilder body = new StringBuilder(BODY_SIZE).append("<soapenv:Envelope xmlns:soapenv="
+                + "\"http://schemas.xmlsoap.org/soap/envelope/\"><soapenv:Body><request>");
+        for (int i = 0; i < FIELDS; i++) {
+            body.append("<field").append(i).append(">value-").append(i).append("</field").append(i).append('>');
+        }
+        for (int i = 0; body.length() < BODY_SIZE - 64; i++) {
+            body.append("<item><id>").append(i).append("</id><status>ACTIVE</status></item>");
+        }
+        return body.append("</request></soapenv:Body></soapenv:Envelope>").toString();
+    }
+
+    private static StubEndpointConfig createConfig(int count) throws Exception {
+        List<String> rules = new ArrayList<>();
+        StringBuilder template = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            rules.add("{\"paramName\": \"field" + i + "\", \"expression\": \"/*[local-name()='Envelope']"
+                    + "/*[local-name()='Body']/request/field" + i + "\", \"parsingType\": \"XPATH\","
+                    + " \"multiple\": false}");
+            template.append("${field").append(i).append("} ");
+        }
+        return new ObjectMapper().readValue("{\"configuredEndpoint\": \"/parsing/benchmark\", \"parsingRules\": ["
+                + String.join(",", rules) + "], \"defaultResponse\": {\"body\": \"" + template + "\"}}",
+                StubEndpointConfig.class);
+    }
+
+    private interface ParsingTask {
+
+        JsonContext parse() throws Exception;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.integration;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.qubership.automation.itf.core.message.parser.Parser;
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.core.stub.fast.StubEndpointConfig;
+import org.qubership.automation.itf.trigger.CompiledParsingRules;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares parsing of 200 KB message by 50 REGEX rules via Parser and via compiled parsing rules,
+ * when all variables are referenced and when only 5 of them are referenced by templates.
+ */
+@Slf4j
+public class FastStubParsingBenchmarkTest {
+
+    private static final int RULES = 50;
+    private static final int REFERENCED_RULES = 5;
+    private static final int BODY_SIZE = 200 * 1024;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 1000;
+    private static final BigInteger PROJECT_ID = BigInteger.ONE;
+
+    @BeforeClass
+    public static void checkEnabled() {
+        Benchmarks.assumeEnabled();
+    }
+
+    @Test
+    public void compareParserAndCompiledRules() throws Exception {
+        Message message = new Message(createBody());
+        for (int referenced : new int[]{RULES, REFERENCED_RULES}) {
+            StubEndpointConfig cfg = createConfig(referenced);
+            CompiledParsingRules compiled = CompiledParsingRules.of(cfg);
+            assertEquals(RULES, new Parser().parseToJsonContext(message, cfg.getParsingRules(), PROJECT_ID)
+                    .size());
+            run(() -> new Parser().parseToJsonContext(message, cfg.getParsingRules(), PROJECT_ID),
+                    WARMUP_ITERATIONS);
+            long parserNanos = run(() -> new Parser().parseToJsonContext(message, cfg.getParsingRules(),
+                    PROJECT_ID), MEASURED_ITERATIONS);
+            run(() -> compiled.parse(message, PROJECT_ID), WARMUP_ITERATIONS);
+            long compiledNanos = run(() -> compiled.parse(message, PROJECT_ID), MEASURED_ITERATIONS);
+            log.info("{} of {} variables referenced: Parser {} us, compiled {} us per message",
+                    referenced, RULES, parserNanos / MEASURED_ITERATIONS / 1000,
+                    compiledNanos / MEASURED_ITERATIONS / 1000);
+        }
+    }
+
+    private static long run(ParsingTask task, int iterations) throws Exception {
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.parse();
+        }
+        return System.nanoTime() - started;
+    }
+
+    private static String createBody() {
+        StringBuilder body = new StringBuilder(BODY_SIZE).append("<request>");
+        for (int i = 0; body.length() < BODY_SIZE - 10; i++) {
+            body.append("<item><field").append(i % RULES).append(">value-").append(i)
+                    .append("</field").append(i % RULES).append("></item>\n");
+        }
+        return body.append("</request>").toString();
+    }
+
+    private static StubEndpointConfig createConfig(int referenced) throws Exception {
+        List<String> rules = new ArrayList<>();
+        StringBuilder template = new StringBuilder();
+        for (int i = 0; i < RULES; i++) {
+            rules.add("{\"paramName\": \"field" + i + "\", \"expression\": \"<field" + i
+                    + ">([^<]*)</field" + i + ">\", \"parsingType\": \"REGEX\", \"multiple\": " + (i % 5 == 0) + "}");
+            if (i < referenced) {
+                template.append("${field").append(i).append("} ");
+            }
+        }
+        return new ObjectMapper().readValue("{\"configuredEndpoint\": \"/parsing/benchmark\", \"parsingRules\": ["
+                + String.join(",", rules) + "], \"defaultResponse\": {\"body\": \"" + template + "\"}}",
+                StubEndpointConfig.class);
+    }
+
+    private interface ParsingTask {
+
+        JsonContext parse() throws Exception;
+    }
+}
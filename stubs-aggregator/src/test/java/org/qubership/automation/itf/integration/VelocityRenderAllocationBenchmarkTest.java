@@ -0,0 +1,79 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.integration;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.trigger.template.velocity.VelocityTemplateEngine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares bytes allocated and time per render of a typical fast stub template (30 variables in context)
+ * in full and lightweight tools modes of VelocityTemplateEngine.
+ * Allocation is measured by thread allocated bytes counter (HotSpot only).
+ */
+@Slf4j
+public class VelocityRenderAllocationBenchmarkTest {
+
+    private static final int VARIABLES = 30;
+    private static final int WARMUP_ITERATIONS = 100000;
+    private static final int MEASURED_ITERATIONS = 500000;
+    private static final String TEMPLATE = "<response><id>${variable0}</id><status>$variable1</status>"
+            + "#if($variable2 == 'value2')<code>200</code>#end<name>$esc.xml($variable3)</name></response>";
+    private static final String EXPECTED = "<response><id>value0</id><status>value1</status><code>200</code>"
+            + "<name>value3</name></response>";
+
+    @BeforeClass
+    public static void checkEnabled() {
+        Benchmarks.assumeEnabled();
+    }
+
+    @Test
+    public void compareFullAndLightweightModes() {
+        JsonContext context = new JsonContext();
+        for (int i = 0; i < VARIABLES; i++) {
+            context.put("variable" + i, "value" + i);
+        }
+        for (boolean lightweight : new boolean[]{false, true}) {
+            VelocityTemplateEngine engine = new VelocityTemplateEngine(lightweight);
+            run(engine, context, WARMUP_ITERATIONS);
+            long started = System.nanoTime();
+            long allocated = run(engine, context, MEASURED_ITERATIONS);
+            long nanos = System.nanoTime() - started;
+            log.info("{} {} bytes, {} ns per render", lightweight ? "Lightweight" : "Full",
+                    allocated / MEASURED_ITERATIONS, nanos / MEASURED_ITERATIONS);
+        }
+    }
+
+    private static long run(VelocityTemplateEngine engine, JsonContext context, int iterations) {
+        com.sun.management.ThreadMXBean threadMxBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threadMxBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            assertEquals(EXPECTED, engine.process(TEMPLATE, context));
+        }
+        return threadMxBean.getThreadAllocatedBytes(threadId) - before;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.ui.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.component.servlet.CamelHttpTransportServlet;
+import org.apache.camel.http.common.HttpBinding;
+import org.apache.camel.http.common.HttpCommonEndpoint;
+import org.apache.camel.http.common.HttpConsumer;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.DefaultExchange;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class AsyncCamelHttpTransportServletTest {
+
+    private static final long ASYNC_TIMEOUT = 1000;
+    private static final String ALL_METHODS = "GET,HEAD,POST,PUT,DELETE,TRACE,OPTIONS,CONNECT,PATCH";
+
+    private HttpConsumer consumer;
+    private HttpCommonEndpoint endpoint;
+    private HttpBinding binding;
+    private DeferredProcessor processor;
+
+    @Before
+    public void setUp() {
+        endpoint = mock(HttpCommonEndpoint.class);
+        binding = mock(HttpBinding.class);
+        consumer = mock(HttpConsumer.class);
+        processor = new DeferredProcessor();
+        DefaultCamelContext camelContext = new DefaultCamelContext();
+        when(endpoint.getCamelContext()).thenReturn(camelContext);
+        when(endpoint.getBinding()).thenReturn(binding);
+        when(endpoint.createExchange(ExchangePattern.InOut))
+                .thenAnswer(invocation -> new DefaultExchange(endpoint, ExchangePattern.InOut));
+        when(consumer.getEndpoint()).thenReturn(endpoint);
+        when(consumer.getBinding()).thenReturn(binding);
+        when(consumer.getAsyncProcessor()).thenReturn(processor);
+    }
+
+    @Test
+    public void responseIsWrittenWhenExchangeIsCompleted() throws Exception {
+        MockHttpServletRequest request = request("POST");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        asyncServlet().service(request, response);
+
+        assertTrue(request.isAsyncStarted());
+        verify(binding, never()).writeResponse(any(Exchange.class), any(HttpServletResponse.class));
+
+        processor.callback.done(false);
+        verify(binding).writeResponse(any(Exchange.class), same(response));
+        verify(consumer).doneUoW(any(Exchange.class));
+        assertFalse(request.isAsyncStarted());
+    }
+
+    @Test
+    public void gatewayTimeoutIsRespondedIfExchangeIsNotCompletedInTime() throws Exception {
+        MockHttpServletRequest request = request("POST");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        asyncServlet().service(request, response);
+
+        fireTimeout(request);
+        assertEquals(HttpServletResponse.SC_GATEWAY_TIMEOUT, response.getStatus());
+        verify(consumer).doneUoW(any(Exchange.class));
+        assertFalse(request.isAsyncStarted());
+    }
+
+    @Test
+    public void lateCompletionAfterTimeoutDoesNotWriteResponseAgain() throws Exception {
+        MockHttpServletRequest request = request("POST");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        asyncServlet().service(request, response);
+        fireTimeout(request);
+
+        processor.callback.done(false);
+        verify(binding, never()).writeResponse(any(Exchange.class), any(HttpServletResponse.class));
+        verify(consumer, times(1)).doneUoW(any(Exchange.class));
+        assertEquals(HttpServletResponse.SC_GATEWAY_TIMEOUT, response.getStatus());
+    }
+
+    @Test
+    public void optionsRequestIsAnsweredWithAllowedMethods() throws Exception {
+        assertSameResponseAsCamelServlet("OPTIONS", "GET,POST", HttpServletResponse.SC_OK, "OPTIONS,GET,POST");
+        assertSameResponseAsCamelServlet("OPTIONS", null, HttpServletResponse.SC_OK, ALL_METHODS);
+    }
+
+    @Test
+    public void restrictedMethodIsNotAllowed() throws Exception {
+        assertSameResponseAsCamelServlet("PUT", "GET,POST", HttpServletResponse.SC_METHOD_NOT_ALLOWED, null);
+    }
+
+    @Test
+    public void traceRequestIsNotAllowedIfTraceIsDisabled() throws Exception {
+        assertSameResponseAsCamelServlet("TRACE", null, HttpServletResponse.SC_METHOD_NOT_ALLOWED, null);
+    }
+
+    @Test
+    public void suspendedConsumerIsUnavailable() throws Exception {
+        when(consumer.isSuspended()).thenReturn(true);
+        assertSameResponseAsCamelServlet("GET", null, HttpServletResponse.SC_SERVICE_UNAVAILABLE, null);
+    }
+
+    private void assertSameResponseAsCamelServlet(String method, String methodRestrict, int expectedStatus,
+                                                  String expectedAllow) throws Exception {
+        when(endpoint.getHttpMethodRestrict()).thenReturn(methodRestrict);
+        MockHttpServletResponse expected = serve(camelServlet(), request(method));
+        MockHttpServletRequest request = request(method);
+        MockHttpServletResponse actual = serve(asyncServlet(), request);
+
+        assertEquals(expectedStatus, expected.getStatus());
+        assertEquals(expectedAllow, expected.getHeader("Allow"));
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getHeader("Allow"), actual.getHeader("Allow"));
+        assertFalse(request.isAsyncStarted());
+        assertNull(processor.callback);
+    }
+
+    private static MockHttpServletResponse serve(HttpServlet servlet, MockHttpServletRequest request)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        servlet.service(request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/mockingbird-transport-rest/users");
+        request.setAsyncSupported(true);
+        request.setContentType("application/json");
+        return request;
+    }
+
+    private static void fireTimeout(MockHttpServletRequest request) throws Exception {
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+    }
+
+    private AsyncCamelHttpTransportServlet asyncServlet() {
+        return new AsyncCamelHttpTransportServlet(ASYNC_TIMEOUT) {
+            @Override
+            protected HttpConsumer resolve(HttpServletRequest request) {
+                return consumer;
+            }
+        };
+    }
+
+    private CamelHttpTransportServlet camelServlet() {
+        return new CamelHttpTransportServlet() {
+            @Override
+            protected HttpConsumer resolve(HttpServletRequest request) {
+                return consumer;
+            }
+        };
+    }
+
+    /*
+        Route which doesn't complete the exchange itself; the test completes it via the callback.
+     */
+    private static class DeferredProcessor implements AsyncProcessor {
+
+        private AsyncCallback callback;
+
+        @Override
+        public void process(Exchange exchange) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            this.callback = callback;
+            return false;
+        }
+    }
+}
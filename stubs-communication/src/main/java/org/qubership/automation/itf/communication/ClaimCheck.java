@@ -0,0 +1,184 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.communication;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Map;
+
+import org.qubership.automation.itf.JvmSettings;
+import org.qubership.automation.itf.core.model.communication.message.TriggerExecutionMessage;
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.integration.config.jms.connection.StubsIntegrationConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Claim-check of large message bodies sent to itf-executor.
+ *
+ * <p>Bodies larger than the threshold (in bytes) are written to the {@link ClaimCheckStore}, and the message is sent
+ * without the body, but with {@link #REFERENCE_PROPERTY} and {@link #HASH_PROPERTY} (SHA-256 of the body in
+ * {@link JvmSettings#CHARSET}). So the broker and the executor don't carry multi-megabyte payloads in memory.
+ * The executor reads the body from the store by the reference, and should verify it by the hash.
+ *
+ * <p>The message of the caller isn't changed: a detached copy without the body is sent instead,
+ * since the message may be used by the trigger concurrently.
+ */
+public class ClaimCheck {
+
+    public static final String REFERENCE_PROPERTY = "claimCheckReference";
+    public static final String HASH_PROPERTY = "claimCheckSha256";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClaimCheck.class);
+    // Messages are copied the same way they are converted for executor, so the copy is sent as the original
+    private static final ObjectMapper COPY_MAPPER = StubsIntegrationConfig.configureJmsObjectMapper(new ObjectMapper());
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    // Max count of bytes per char in supported charsets; used to skip encoding of small bodies
+    private static final int MAX_BYTES_PER_CHAR = 4;
+
+    private final ClaimCheckStore store;
+    private final long threshold;
+    private final Duration retention;
+
+    /**
+     * Constructor.
+     *
+     * @param store - store of bodies,
+     * @param threshold - bodies larger than this (in bytes) are offloaded,
+     * @param retention - bodies are removed from the store after retention.
+     */
+    public ClaimCheck(@NonNull ClaimCheckStore store, long threshold, @NonNull Duration retention) {
+        this.store = store;
+        this.threshold = threshold;
+        this.retention = retention;
+    }
+
+    /**
+     * Check if the body of message may exceed the threshold, without its encoding.
+     *
+     * @param message - message to send,
+     * @return false if the body is definitely not offloaded.
+     */
+    public boolean mayOffload(TriggerExecutionMessage message) {
+        Message body = message.getMessage();
+        return body != null && body.getText() != null
+                && (long) body.getText().length() * MAX_BYTES_PER_CHAR > threshold;
+    }
+
+    /**
+     * Offload the body of message, if it's larger than the threshold.
+     * The message isn't changed; {@link Ticket#getMessage()} is the copy of it without the body to send instead.
+     * If the body can't be stored or the message can't be copied, the body is left in the message.
+     *
+     * @param message - message to send,
+     * @return ticket of the body offloaded, or null if the body is left in the message.
+     */
+    public Ticket checkIn(TriggerExecutionMessage message) {
+        if (!mayOffload(message)) {
+            return null;
+        }
+        byte[] content = message.getMessage().getText().getBytes(JvmSettings.CHARSET);
+        if (content.length <= threshold) {
+            return null;
+        }
+        String hash = sha256(content);
+        try {
+            TriggerExecutionMessage detached = COPY_MAPPER.readValue(COPY_MAPPER.writeValueAsBytes(message),
+                    TriggerExecutionMessage.class);
+            detached.getMessage().setText(null);
+            String reference = store.put(hash, content);
+            LOGGER.debug("SessionId {}: body of {} bytes is offloaded as {}", message.getSessionId(),
+                    content.length, reference);
+            return new Ticket(detached, reference, hash);
+        } catch (IOException e) {
+            LOGGER.warn("SessionId {}: body of {} bytes can't be offloaded and is sent inline",
+                    message.getSessionId(), content.length, e);
+            return null;
+        }
+    }
+
+    /**
+     * Remove bodies stored earlier than retention ago.
+     */
+    public void cleanup() {
+        try {
+            int removed = store.cleanup(retention);
+            if (removed > 0) {
+                LOGGER.info("{} expired claim-check bodies are removed", removed);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Error while claim-check store cleanup", e);
+        }
+    }
+
+    /**
+     * Calculate SHA-256 of content.
+     *
+     * @param content - content,
+     * @return hex-encoded hash.
+     */
+    public static String sha256(byte[] content) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+        char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX_DIGITS[digest[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Ticket of the body offloaded.
+     */
+    public static class Ticket {
+
+        @Getter
+        private final TriggerExecutionMessage message;
+        @Getter
+        private final String reference;
+        @Getter
+        private final String hash;
+
+        private Ticket(TriggerExecutionMessage message, String reference, String hash) {
+            this.message = message;
+            this.reference = reference;
+            this.hash = hash;
+        }
+
+        /**
+         * Add reference and hash to properties of JMS message.
+         *
+         * @param properties - properties of JMS message.
+         */
+        public void addTo(Map<String, Object> properties) {
+            properties.put(REFERENCE_PROPERTY, reference);
+            properties.put(HASH_PROPERTY, hash);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.communication;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Store of message bodies offloaded from messages to itf-executor (claim-check pattern).
+ * The store must be shared with executor, since the executor reads bodies by references.
+ * Each stored body gets its own reference, which is kept for retention, but the store may keep contents
+ * with the same hash once.
+ */
+public interface ClaimCheckStore {
+
+    /**
+     * Store content under a new reference.
+     *
+     * @param hash - SHA-256 of the content, hex-encoded,
+     * @param content - content to store,
+     * @return reference to read the content by.
+     * @throws IOException - in case the content can't be stored.
+     */
+    String put(String hash, byte[] content) throws IOException;
+
+    /**
+     * Read content by reference.
+     *
+     * @param reference - reference returned by {@link #put(String, byte[])},
+     * @return content stored.
+     * @throws IOException - in case the content can't be read, or it doesn't match the hash.
+     */
+    byte[] get(String reference) throws IOException;
+
+    /**
+     * Remove references (and contents no longer referenced) stored earlier than retention ago.
+     *
+     * @param retention - retention of references,
+     * @return count of references removed.
+     * @throws IOException - in case the store can't be listed.
+     */
+    int cleanup(Duration retention) throws IOException;
+}
@@ -0,0 +1,262 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.communication;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.qubership.automation.itf.core.util.config.Config;
+import org.qubership.automation.itf.monitoring.metrics.Metric;
+import org.qubership.automation.itf.monitoring.metrics.MetricTag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+
+/**
+ * Circuit breaker around round trips of synchronous sessions to itf-executor.
+ *
+ * <p>Outcomes of the last windowSize round trips are kept; a round trip is failed if the response isn't received
+ * in time or it's slower than slowCallThreshold. When the window is full and the failure rate reaches the threshold,
+ * the breaker is opened: sessions aren't sent, so synchronous triggers respond immediately instead of waiting
+ * for the process timeout. After openDuration, the breaker is half-opened: a few probe sessions are sent;
+ * if all of them are successful, the breaker is closed, otherwise it's opened again. In half-open state,
+ * only outcomes of the probe sessions are counted, so late timeouts of sessions sent before the breaker
+ * is opened don't reopen it.
+ */
+public class ExecutorCircuitBreaker implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutorCircuitBreaker.class);
+    private static final String REJECTION_MESSAGE = Config.getConfig().getStringOrDefault(
+            "executor.circuit-breaker.response", "ITF executor is unavailable; the request is rejected");
+    private static final int HTTP_STATUS = Config.getConfig().getIntOrDefault(
+            "executor.circuit-breaker.http-status", 503);
+
+    public static final ExecutorCircuitBreaker INSTANCE = new ExecutorCircuitBreaker(System::nanoTime,
+            Boolean.parseBoolean(Config.getConfig().getStringOrDefault("executor.circuit-breaker.enabled", "false")),
+            Duration.ofMillis(Config.getConfig().getIntOrDefault("executor.circuit-breaker.open-duration", 30000)),
+            Config.getConfig().getIntOrDefault("executor.circuit-breaker.window-size", 20),
+            Config.getConfig().getIntOrDefault("executor.circuit-breaker.failure-rate-threshold", 50),
+            Duration.ofMillis(Config.getConfig().getIntOrDefault("executor.circuit-breaker.slow-call-threshold",
+                    30000)),
+            Config.getConfig().getIntOrDefault("executor.circuit-breaker.half-open-calls", 3));
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final LongSupplier nanoClock;
+    private final boolean enabled;
+    private final long openDurationNanos;
+    private final boolean[] window;
+    private final int failureRateThreshold;
+    private final long slowCallThresholdNanos;
+    private final int halfOpenCalls;
+    private final Map<State, AtomicLong> transitions = new EnumMap<>(State.class);
+    // Probe sessions sent in half-open state and not finished yet, with their sending time
+    private final Map<String, Long> probes = new HashMap<>();
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int position;
+    private int failures;
+    private long openedAt;
+    private int probesSucceeded;
+
+    /**
+     * Constructor of enabled circuit breaker.
+     *
+     * @param nanoClock - source of current time, in nanoseconds (like System.nanoTime()),
+     * @param openDuration - duration of open state before probe sessions are allowed,
+     * @param windowSize - count of last round trips the failure rate is calculated by,
+     * @param failureRateThreshold - failure rate (percents) the breaker is opened at,
+     * @param slowCallThreshold - round trips longer than this are considered failed,
+     * @param halfOpenCalls - count of probe sessions in half-open state.
+     */
+    public ExecutorCircuitBreaker(@NonNull LongSupplier nanoClock, @NonNull Duration openDuration, int windowSize,
+                                  int failureRateThreshold, @NonNull Duration slowCallThreshold, int halfOpenCalls) {
+        this(nanoClock, true, openDuration, windowSize, failureRateThreshold, slowCallThreshold, halfOpenCalls);
+    }
+
+    private ExecutorCircuitBreaker(LongSupplier nanoClock, boolean enabled, Duration openDuration, int windowSize,
+                                   int failureRateThreshold, Duration slowCallThreshold, int halfOpenCalls) {
+        this.nanoClock = nanoClock;
+        this.enabled = enabled;
+        this.openDurationNanos = openDuration.toNanos();
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        for (State value : State.values()) {
+            transitions.put(value, new AtomicLong());
+        }
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder(Metric.ATP_ITF_STUBS_EXECUTOR_CIRCUIT_BREAKER_STATE.getValue(), this,
+                        breaker -> breaker.getState().ordinal())
+                .description("state of executor circuit breaker: 0 - closed, 1 - open, 2 - half-open")
+                .register(registry);
+        transitions.forEach((target, counter) -> FunctionCounter.builder(
+                        Metric.ATP_ITF_STUBS_EXECUTOR_CIRCUIT_BREAKER_TRANSITIONS.getValue(), counter, AtomicLong::get)
+                .description("total number of executor circuit breaker transitions to the state")
+                .tag(MetricTag.STATE.getValue(), target.name())
+                .register(registry));
+    }
+
+    /**
+     * Check if a session may be sent to executor now.
+     * Each acquired session must be finished by {@link #onResponse(String, Duration)}, {@link #onTimeout(String)}
+     * or {@link #release(String)}.
+     *
+     * @param sessionId - id of the session to send,
+     * @return true if the session may be sent, false if the executor is considered unavailable.
+     */
+    public synchronized boolean tryAcquire(@NonNull String sessionId) {
+        if (!enabled) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            long now = nanoClock.getAsLong();
+            if (probes.values().stream().anyMatch(sentAt -> now - sentAt >= slowCallThresholdNanos)) {
+                // Outcome of the probe is lost or not registered yet, but it's failed anyway
+                open();
+                return false;
+            }
+            if (probes.size() + probesSucceeded >= halfOpenCalls) {
+                return false;
+            }
+            probes.put(sessionId, now);
+        }
+        return true;
+    }
+
+    /**
+     * Register response received from executor.
+     *
+     * @param sessionId - id of the session,
+     * @param roundTrip - duration from sending of the session until the response is received.
+     */
+    public void onResponse(@NonNull String sessionId, @NonNull Duration roundTrip) {
+        record(sessionId, roundTrip.toNanos() < slowCallThresholdNanos);
+    }
+
+    /**
+     * Register the session isn't responded in time.
+     *
+     * @param sessionId - id of the session.
+     */
+    public void onTimeout(@NonNull String sessionId) {
+        record(sessionId, false);
+    }
+
+    /**
+     * Release the session acquired, but not sent.
+     *
+     * @param sessionId - id of the session.
+     */
+    public synchronized void release(@NonNull String sessionId) {
+        if (enabled && state == State.HALF_OPEN) {
+            probes.remove(sessionId);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public String getRejectionMessage() {
+        return REJECTION_MESSAGE;
+    }
+
+    public int getHttpStatus() {
+        return HTTP_STATUS;
+    }
+
+    public long getTransitions(State target) {
+        return transitions.get(target).get();
+    }
+
+    private synchronized void record(String sessionId, boolean success) {
+        if (!enabled) {
+            return;
+        }
+        switch (state) {
+            case HALF_OPEN:
+                if (probes.remove(sessionId) == null) {
+                    // Outcome of a session sent before the breaker is half-opened
+                    break;
+                }
+                if (!success) {
+                    open();
+                } else if (++probesSucceeded >= halfOpenCalls) {
+                    transitionTo(State.CLOSED);
+                }
+                break;
+            case CLOSED:
+                if (recorded == window.length) {
+                    failures -= window[position] ? 0 : 1;
+                } else {
+                    recorded++;
+                }
+                window[position] = success;
+                failures += success ? 0 : 1;
+                position = (position + 1) % window.length;
+                if (recorded == window.length && failures * 100 >= failureRateThreshold * window.length) {
+                    open();
+                }
+                break;
+            default:
+                // Responses of sessions sent before the breaker is opened
+                break;
+        }
+    }
+
+    private void open() {
+        openedAt = nanoClock.getAsLong();
+        transitionTo(State.OPEN);
+    }
+
+    private void transitionTo(State target) {
+        LOGGER.warn("Executor circuit breaker: {} -> {}", state, target);
+        state = target;
+        transitions.get(target).incrementAndGet();
+        probes.clear();
+        probesSucceeded = 0;
+        if (target == State.CLOSED) {
+            recorded = 0;
+            position = 0;
+            failures = 0;
+        }
+    }
+}
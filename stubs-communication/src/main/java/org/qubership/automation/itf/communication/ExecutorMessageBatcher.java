@@ -0,0 +1,224 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.communication;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.qubership.automation.itf.core.model.communication.message.TriggerExecutionMessage;
+import org.qubership.automation.itf.monitoring.metrics.Metric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+
+/**
+ * Coalesces one-way messages to itf-executor into batches.
+ *
+ * <p>Messages are grouped by tenant (project), since the tenant is a property of JMS message. A batch is sent
+ * when it reaches maxSize messages (by the thread adding the last message, so producers are slowed down
+ * if the broker is slow), or maxDelay after its first message is added (by the flusher thread).
+ * The traceId of each message is captured when the message is added, since the batch is sent by another thread.
+ *
+ * <p>If a batch can't be sent, its messages are sent one by one; messages failed this way too are dropped
+ * and counted in the {@link Metric#ATP_ITF_STUBS_EXECUTOR_DROPPED_MESSAGES} metric.
+ */
+public class ExecutorMessageBatcher implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutorMessageBatcher.class);
+
+    private final int maxSize;
+    private final long maxDelayMillis;
+    private final Sender sender;
+    private final Map<Object, Batch> batches = new HashMap<>();
+    private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "executorMessageBatchFlusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong sentBatches = new AtomicLong();
+    private final AtomicLong sentMessages = new AtomicLong();
+    private final AtomicLong droppedMessages = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize - max count of messages in a batch,
+     * @param maxDelayMillis - max delay of the first message of a batch, in milliseconds,
+     * @param sender - sender of batches and of single messages.
+     */
+    public ExecutorMessageBatcher(int maxSize, long maxDelayMillis, @NonNull Sender sender) {
+        this.maxSize = Math.max(1, maxSize);
+        this.maxDelayMillis = Math.max(0, maxDelayMillis);
+        this.sender = sender;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder(Metric.ATP_ITF_STUBS_EXECUTOR_DROPPED_MESSAGES.getValue(), this,
+                        ExecutorMessageBatcher::getDroppedMessagesCount)
+                .description("total number of one-way messages to executor dropped due to sending errors")
+                .register(registry);
+    }
+
+    /**
+     * Add message to the batch of the tenant. If the batch is full, it's sent by the current thread,
+     * and sending errors of messages failed to be sent one by one too are thrown to the caller.
+     *
+     * @param tenantId - tenantId (project Uuid),
+     * @param message - message to send,
+     * @param traceId - traceId of the message, may be null.
+     */
+    public void add(Object tenantId, TriggerExecutionMessage message, String traceId) {
+        Batch full = null;
+        synchronized (batches) {
+            Batch batch = batches.get(tenantId);
+            if (batch == null) {
+                batch = new Batch(tenantId);
+                batches.put(tenantId, batch);
+                Batch scheduled = batch;
+                batch.flushTask = flushScheduler.schedule(() -> flush(scheduled), maxDelayMillis,
+                        TimeUnit.MILLISECONDS);
+            }
+            batch.messages.add(message);
+            batch.traceIds.add(traceId);
+            if (batch.messages.size() >= maxSize) {
+                batches.remove(tenantId);
+                batch.flushTask.cancel(false);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            RuntimeException error = send(full);
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
+
+    /**
+     * Send all pending batches and stop the flusher thread.
+     */
+    public void shutdown() {
+        List<Batch> pending;
+        synchronized (batches) {
+            pending = new ArrayList<>(batches.values());
+            batches.clear();
+        }
+        flushScheduler.shutdownNow();
+        pending.forEach(this::send);
+    }
+
+    public long getSentBatchesCount() {
+        return sentBatches.get();
+    }
+
+    public long getSentMessagesCount() {
+        return sentMessages.get();
+    }
+
+    public long getDroppedMessagesCount() {
+        return droppedMessages.get();
+    }
+
+    private void flush(Batch batch) {
+        synchronized (batches) {
+            if (!batches.remove(batch.tenantId, batch)) {
+                return;
+            }
+        }
+        send(batch);
+    }
+
+    /*
+        Returns the first error of messages dropped, or null if all messages are sent.
+     */
+    private RuntimeException send(Batch batch) {
+        try {
+            sender.sendBatch(batch.tenantId, batch.messages, batch.traceIds);
+            sentBatches.incrementAndGet();
+            sentMessages.addAndGet(batch.messages.size());
+            return null;
+        } catch (RuntimeException e) {
+            LOGGER.warn("Error while sending batch of {} message(s) to executor, tenant {}; "
+                    + "messages will be sent one by one", batch.messages.size(), batch.tenantId, e);
+        }
+        RuntimeException error = null;
+        for (int i = 0; i < batch.messages.size(); i++) {
+            TriggerExecutionMessage message = batch.messages.get(i);
+            try {
+                sender.send(batch.tenantId, message, batch.traceIds.get(i));
+                sentMessages.incrementAndGet();
+            } catch (RuntimeException e) {
+                droppedMessages.incrementAndGet();
+                LOGGER.error("Message of session {} to executor is dropped, tenant {}", message.getSessionId(),
+                        batch.tenantId, e);
+                if (error == null) {
+                    error = e;
+                }
+            }
+        }
+        return error;
+    }
+
+    /**
+     * Sender of messages to executor.
+     */
+    public interface Sender {
+
+        /**
+         * Send messages as one batch.
+         *
+         * @param tenantId - tenantId (project Uuid),
+         * @param messages - messages to send,
+         * @param traceIds - traceIds of the messages, in the same order; elements may be null.
+         */
+        void sendBatch(Object tenantId, List<TriggerExecutionMessage> messages, List<String> traceIds);
+
+        /**
+         * Send single message.
+         *
+         * @param tenantId - tenantId (project Uuid),
+         * @param message - message to send,
+         * @param traceId - traceId of the message, may be null.
+         */
+        void send(Object tenantId, TriggerExecutionMessage message, String traceId);
+    }
+
+    private class Batch {
+
+        private final Object tenantId;
+        private final List<TriggerExecutionMessage> messages = new ArrayList<>(maxSize);
+        private final List<String> traceIds = new ArrayList<>(maxSize);
+        private ScheduledFuture<?> flushTask;
+
+        Batch(Object tenantId) {
+            this.tenantId = tenantId;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.communication;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.qubership.automation.itf.monitoring.metrics.Metric;
+import org.qubership.automation.itf.monitoring.metrics.MetricTag;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Tracker of sessions sent to itf-executor and waiting for responses.
+ *
+ * <p>Each session is timestamped when it's sent; when the response is received, the round-trip duration
+ * is recorded by transport. Sessions in flight are counted per project and transport,
+ * and the age of the oldest waiting session is available, so process timeout and listeners concurrency
+ * can be tuned by actual values. Sessions not responded within the process timeout are counted as timed out.
+ */
+public class ExecutorRoundTripTracker implements MeterBinder {
+
+    public static final ExecutorRoundTripTracker INSTANCE = new ExecutorRoundTripTracker(System::nanoTime);
+
+    private final LongSupplier nanoClock;
+    private final Map<String, InFlightSession> sessions = new ConcurrentHashMap<>();
+    private final Map<SessionsKey, SessionsCounters> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> roundTripTimers = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry;
+
+    /**
+     * Constructor.
+     *
+     * @param nanoClock - source of current time, in nanoseconds (like System.nanoTime()).
+     */
+    public ExecutorRoundTripTracker(@NonNull LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        meterRegistry = registry;
+        roundTripTimers.clear();
+        Gauge.builder(Metric.ATP_ITF_STUBS_EXECUTOR_OLDEST_SESSION_AGE_SECONDS.getValue(), this,
+                        tracker -> tracker.getOldestSessionAge().toNanos() / 1e9)
+                .description("age of the oldest session waiting for executor response")
+                .register(registry);
+        counters.forEach((key, sessionsCounters) -> registerCounters(registry, key, sessionsCounters));
+    }
+
+    /**
+     * Register the session sent to executor.
+     *
+     * @param sessionId - session id,
+     * @param projectUuid - project Uuid,
+     * @param transport - transport name.
+     */
+    public void sent(@NonNull String sessionId, @NonNull UUID projectUuid, @NonNull String transport) {
+        SessionsKey key = new SessionsKey(projectUuid, transport);
+        SessionsCounters sessionsCounters = counters.computeIfAbsent(key, this::createCounters);
+        InFlightSession previous = sessions.put(sessionId,
+                new InFlightSession(sessionsCounters, transport, nanoClock.getAsLong()));
+        sessionsCounters.inFlight.incrementAndGet();
+        if (previous != null) {
+            previous.counters.inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Register response received for the session, and record round-trip duration.
+     *
+     * @param sessionId - session id,
+     * @return round-trip duration, or null if the session isn't in flight (not tracked or already timed out).
+     */
+    public Duration received(@NonNull String sessionId) {
+        InFlightSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return null;
+        }
+        session.counters.inFlight.decrementAndGet();
+        long roundTrip = nanoClock.getAsLong() - session.sent;
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            roundTripTimers.computeIfAbsent(session.transport, transport -> Timer.builder(
+                            Metric.ATP_ITF_STUBS_EXECUTOR_ROUND_TRIP_SECONDS.getValue())
+                    .description("duration from sending of session to executor until its response is received")
+                    .tag(MetricTag.TRANSPORT.getValue(), transport)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(registry))
+                    .record(roundTrip, TimeUnit.NANOSECONDS);
+        }
+        return Duration.ofNanos(roundTrip);
+    }
+
+    /**
+     * Register the session is not responded in time.
+     *
+     * @param sessionId - session id,
+     * @return true if the session was in flight.
+     */
+    public boolean timedOut(@NonNull String sessionId) {
+        InFlightSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return false;
+        }
+        session.counters.inFlight.decrementAndGet();
+        session.counters.timedOut.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Forget the session without recording, e.g. if it's failed to be sent.
+     *
+     * @param sessionId - session id.
+     */
+    public void cancel(@NonNull String sessionId) {
+        InFlightSession session = sessions.remove(sessionId);
+        if (session != null) {
+            session.counters.inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Count sessions waiting longer than maxAge as timed out.
+     * It's a safety net for sessions nobody has waited for (due to errors after sending).
+     *
+     * @param maxAge - max age of in-flight session,
+     * @return count of expired sessions.
+     */
+    public int expire(@NonNull Duration maxAge) {
+        long expirationTime = nanoClock.getAsLong() - maxAge.toNanos();
+        int expired = 0;
+        for (Map.Entry<String, InFlightSession> entry : sessions.entrySet()) {
+            if (entry.getValue().sent - expirationTime < 0 && timedOut(entry.getKey())) {
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Get count of sessions in flight for the project and transport.
+     *
+     * @param projectUuid - project Uuid,
+     * @param transport - transport name,
+     * @return count of sessions waiting for executor responses.
+     */
+    public int getInFlight(@NonNull UUID projectUuid, @NonNull String transport) {
+        SessionsCounters sessionsCounters = counters.get(new SessionsKey(projectUuid, transport));
+        return sessionsCounters == null ? 0 : sessionsCounters.inFlight.get();
+    }
+
+    /**
+     * Get count of timed out sessions for the project and transport.
+     *
+     * @param projectUuid - project Uuid,
+     * @param transport - transport name,
+     * @return count of sessions not responded in time.
+     */
+    public long getTimedOut(@NonNull UUID projectUuid, @NonNull String transport) {
+        SessionsCounters sessionsCounters = counters.get(new SessionsKey(projectUuid, transport));
+        return sessionsCounters == null ? 0 : sessionsCounters.timedOut.get();
+    }
+
+    /**
+     * Get age of the oldest session waiting for executor response.
+     *
+     * @return age of the oldest session, or zero if there are no sessions in flight.
+     */
+    public Duration getOldestSessionAge() {
+        long now = nanoClock.getAsLong();
+        long oldest = 0;
+        for (InFlightSession session : sessions.values()) {
+            oldest = Math.max(oldest, now - session.sent);
+        }
+        return Duration.ofNanos(oldest);
+    }
+
+    private SessionsCounters createCounters(SessionsKey key) {
+        SessionsCounters sessionsCounters = new SessionsCounters();
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            registerCounters(registry, key, sessionsCounters);
+        }
+        return sessionsCounters;
+    }
+
+    private static void registerCounters(MeterRegistry registry, SessionsKey key, SessionsCounters sessionsCounters) {
+        Gauge.builder(Metric.ATP_ITF_STUBS_EXECUTOR_IN_FLIGHT_SESSIONS.getValue(), sessionsCounters.inFlight,
+                        AtomicInteger::get)
+                .description("number of sessions waiting for executor response")
+                .tag(MetricTag.PROJECT.getValue(), key.getProjectUuid().toString())
+                .tag(MetricTag.TRANSPORT.getValue(), key.getTransport())
+                .register(registry);
+        FunctionCounter.builder(Metric.ATP_ITF_STUBS_EXECUTOR_TIMED_OUT_SESSIONS.getValue(),
+                        sessionsCounters.timedOut, AtomicLong::get)
+                .description("total number of sessions not responded by executor in time")
+                .tag(MetricTag.PROJECT.getValue(), key.getProjectUuid().toString())
+                .tag(MetricTag.TRANSPORT.getValue(), key.getTransport())
+                .register(registry);
+    }
+
+    @Value
+    private static class SessionsKey {
+
+        UUID projectUuid;
+        String transport;
+    }
+
+    private static class SessionsCounters {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong timedOut = new AtomicLong();
+    }
+
+    private static class InFlightSession {
+
+        private final SessionsCounters counters;
+        private final String transport;
+        private final long sent;
+
+        InFlightSession(SessionsCounters counters, String transport, long sent) {
+            this.counters = counters;
+            this.transport = transport;
+            this.sent = sent;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.communication;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Listeners of files updates received from External Data Storage (EDS), by content type.
+ * Triggers (loaded by their own classloaders) subscribe here to drop caches built from updated files.
+ */
+public enum ExternalFileUpdateListeners {
+
+    INSTANCE;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExternalFileUpdateListeners.class);
+
+    private final Map<String, Map<String, Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    /**
+     * Subscribe listener to updates of files of the content type.
+     * Listener with the same name replaces the previous one (for example, after triggers reloading).
+     *
+     * @param contentType - EDS content type,
+     * @param name - listener name,
+     * @param listener - listener, accepting updated file name.
+     */
+    public void subscribe(String contentType, String name, Consumer<String> listener) {
+        listeners.computeIfAbsent(contentType, type -> new ConcurrentHashMap<>()).put(name, listener);
+    }
+
+    /**
+     * Notify listeners that file of the content type is uploaded or deleted.
+     *
+     * @param contentType - EDS content type,
+     * @param fileName - updated file name.
+     */
+    public void fileUpdated(String contentType, String fileName) {
+        listeners.getOrDefault(contentType, Collections.emptyMap()).forEach((name, listener) -> {
+            try {
+                listener.accept(fileName);
+            } catch (Exception e) {
+                LOGGER.error("Error while notifying listener {} about file {} update", name, fileName, e);
+            }
+        });
+    }
+}
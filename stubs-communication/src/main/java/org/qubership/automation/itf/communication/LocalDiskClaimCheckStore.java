@@ -0,0 +1,164 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.communication;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import lombok.NonNull;
+
+/**
+ * Claim-check store in a local directory. In production, the directory should be a volume shared with executor.
+ *
+ * <p>Contents are stored in files named by their hashes, and each reference is a hard link to the content file,
+ * named by the hash, the time it's stored at and a random suffix. References are never changed, so cleanup decides
+ * by the time in the name and never removes a reference just returned by {@link #put(String, byte[])}, while
+ * the content shared by references is stored once. If the file system doesn't support hard links,
+ * references are copies of the content.
+ */
+public class LocalDiskClaimCheckStore implements ClaimCheckStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalDiskClaimCheckStore.class);
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern REFERENCE = Pattern.compile("([0-9a-f]{64})\\.(\\d+)\\.[0-9a-f]{16}");
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final LongSupplier clock;
+
+    /**
+     * Constructor.
+     *
+     * @param directory - directory to store contents in; it's created if not exists.
+     * @throws IOException - in case the directory can't be created.
+     */
+    public LocalDiskClaimCheckStore(Path directory) throws IOException {
+        this(directory, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param directory - directory to store contents in; it's created if not exists,
+     * @param clock - source of current time, in milliseconds.
+     * @throws IOException - in case the directory can't be created.
+     */
+    public LocalDiskClaimCheckStore(@NonNull Path directory, @NonNull LongSupplier clock) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.clock = clock;
+    }
+
+    @Override
+    public String put(String hash, byte[] content) throws IOException {
+        if (!HASH.matcher(hash).matches()) {
+            throw new IOException("Invalid claim-check hash: " + hash);
+        }
+        long now = clock.getAsLong();
+        String reference = String.format("%s.%d.%016x", hash, now, ThreadLocalRandom.current().nextLong());
+        Path contentFile = directory.resolve(hash);
+        Path referenceFile = directory.resolve(reference);
+        try {
+            Files.createLink(referenceFile, contentFile);
+        } catch (NoSuchFileException e) {
+            write(contentFile, content);
+            try {
+                Files.createLink(referenceFile, contentFile);
+            } catch (FileSystemException | UnsupportedOperationException linkError) {
+                // The content is removed by cleanup concurrently, or links aren't supported
+                write(referenceFile, content);
+            }
+        } catch (FileSystemException | UnsupportedOperationException e) {
+            write(referenceFile, content);
+        }
+        try {
+            // Content files are kept while used; references don't depend on them
+            Files.setLastModifiedTime(contentFile, FileTime.fromMillis(now));
+        } catch (NoSuchFileException e) {
+            LOGGER.debug("Claim-check content {} is removed by cleanup", hash);
+        }
+        return reference;
+    }
+
+    @Override
+    public byte[] get(String reference) throws IOException {
+        Matcher matcher = REFERENCE.matcher(reference);
+        if (!matcher.matches()) {
+            throw new IOException("Invalid claim-check reference: " + reference);
+        }
+        byte[] content = Files.readAllBytes(directory.resolve(reference));
+        if (!matcher.group(1).equals(ClaimCheck.sha256(content))) {
+            throw new IOException("Claim-check content doesn't match its hash: " + reference);
+        }
+        return content;
+    }
+
+    @Override
+    public int cleanup(Duration retention) throws IOException {
+        long expirationTime = clock.getAsLong() - retention.toMillis();
+        int removed = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher reference = REFERENCE.matcher(file.getFileName().toString());
+                try {
+                    if (reference.matches()) {
+                        if (Long.parseLong(reference.group(2)) < expirationTime && Files.deleteIfExists(file)) {
+                            removed++;
+                        }
+                    } else if (Files.getLastModifiedTime(file).toMillis() < expirationTime) {
+                        // Content or temporary file; references to the content keep it on disk
+                        Files.deleteIfExists(file);
+                    }
+                } catch (NoSuchFileException e) {
+                    // Removed by cleanup of another pod sharing the directory
+                }
+            }
+        }
+        return removed;
+    }
+
+    /*
+        Written to a temporary file first, so readers never see partially written content.
+     */
+    private void write(Path target, byte[] content) throws IOException {
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), TEMP_SUFFIX);
+        try {
+            Files.write(temp, content);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // The same content is stored concurrently
+            LOGGER.debug("Claim-check content {} is already stored", target.getFileName());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
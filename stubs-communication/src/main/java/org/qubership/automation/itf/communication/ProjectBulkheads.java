@@ -0,0 +1,332 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.communication;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.qubership.automation.itf.core.util.config.Config;
+import org.qubership.automation.itf.monitoring.metrics.Metric;
+import org.qubership.automation.itf.monitoring.metrics.MetricTag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+
+/**
+ * Per-project limits of synchronous sessions waiting for itf-executor responses.
+ *
+ * <p>Each waiting session occupies a thread of the trigger (Undertow worker, CLI or SMPP thread),
+ * so a project with slow scenarios could exhaust threads shared by all projects. Here each project
+ * may have at most limitPerProject sessions in flight (a share of total capacity); a session over the limit
+ * waits for a free permit up to maxWait, then it's rejected.
+ *
+ * <p>In adaptive mode, the limit of a project is adjusted by AIMD: it's decreased by {@link #BACKOFF_RATIO}
+ * when the round trip is longer than latencyTarget (or timed out), and increased by 1 (up to limitPerProject)
+ * when a round trip is fast while at least a half of the limit is in use.
+ */
+public class ProjectBulkheads implements MeterBinder {
+
+    static final double BACKOFF_RATIO = 0.9;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProjectBulkheads.class);
+    private static final String REJECTION_MESSAGE = Config.getConfig().getStringOrDefault(
+            "executor.bulkhead.response", "Limit of concurrent requests of the project is reached; "
+                    + "the request is rejected");
+    private static final int HTTP_STATUS = Config.getConfig().getIntOrDefault("executor.bulkhead.http-status", 429);
+
+    public static final ProjectBulkheads INSTANCE = new ProjectBulkheads(System::nanoTime,
+            Boolean.parseBoolean(Config.getConfig().getStringOrDefault("executor.bulkhead.enabled", "false")),
+            Math.max(1, Config.getConfig().getIntOrDefault("executor.bulkhead.total-capacity", 200)
+                    * Config.getConfig().getIntOrDefault("executor.bulkhead.project-share", 25) / 100),
+            Duration.ofMillis(Config.getConfig().getIntOrDefault("executor.bulkhead.max-wait", 100)),
+            Boolean.parseBoolean(Config.getConfig().getStringOrDefault("executor.bulkhead.adaptive.enabled",
+                    "false")),
+            Duration.ofMillis(Config.getConfig().getIntOrDefault("executor.bulkhead.adaptive.latency-target",
+                    5000)));
+
+    private final LongSupplier nanoClock;
+    private final boolean enabled;
+    private final int limitPerProject;
+    private final long maxWaitNanos;
+    private final boolean adaptive;
+    private final long latencyTargetNanos;
+    private final Map<UUID, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final Map<String, Permit> permits = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry;
+
+    /**
+     * Constructor of enabled bulkheads.
+     *
+     * @param nanoClock - source of current time, in nanoseconds (like System.nanoTime()),
+     * @param limitPerProject - max count of sessions in flight per project,
+     * @param maxWait - max duration to wait for a free permit,
+     * @param adaptive - adjust limits by round-trip latency or not,
+     * @param latencyTarget - round trips longer than this decrease the limit (in adaptive mode only).
+     */
+    public ProjectBulkheads(@NonNull LongSupplier nanoClock, int limitPerProject, @NonNull Duration maxWait,
+                            boolean adaptive, @NonNull Duration latencyTarget) {
+        this(nanoClock, true, limitPerProject, maxWait, adaptive, latencyTarget);
+    }
+
+    private ProjectBulkheads(LongSupplier nanoClock, boolean enabled, int limitPerProject, Duration maxWait,
+                             boolean adaptive, Duration latencyTarget) {
+        this.nanoClock = nanoClock;
+        this.enabled = enabled;
+        this.limitPerProject = Math.max(1, limitPerProject);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.adaptive = adaptive;
+        this.latencyTargetNanos = latencyTarget.toNanos();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        meterRegistry = registry;
+        bulkheads.forEach((projectUuid, bulkhead) -> registerMeters(registry, projectUuid, bulkhead));
+    }
+
+    /**
+     * Acquire a permit of the project for the session, waiting for it up to maxWait.
+     * Each acquired permit must be returned by {@link #onResponse(String, Duration)}, {@link #onTimeout(String)}
+     * or {@link #release(String)}.
+     *
+     * @param projectUuid - project Uuid,
+     * @param sessionId - session id,
+     * @return true if the permit is acquired, false if the limit of the project is reached.
+     */
+    public boolean tryAcquire(@NonNull UUID projectUuid, @NonNull String sessionId) {
+        if (!enabled) {
+            return true;
+        }
+        Bulkhead bulkhead = bulkheads.computeIfAbsent(projectUuid, this::createBulkhead);
+        if (!bulkhead.acquire(maxWaitNanos)) {
+            bulkhead.rejected.incrementAndGet();
+            LOGGER.warn("Project {}: limit of {} sessions in flight is reached, session {} is rejected",
+                    projectUuid, bulkhead.getLimit(), sessionId);
+            return false;
+        }
+        Permit previous = permits.put(sessionId, new Permit(bulkhead, nanoClock.getAsLong()));
+        if (previous != null) {
+            previous.bulkhead.release();
+        }
+        return true;
+    }
+
+    /**
+     * Return the permit of the session responded by executor.
+     *
+     * @param sessionId - session id,
+     * @param roundTrip - duration from sending of the session until the response is received.
+     */
+    public void onResponse(@NonNull String sessionId, @NonNull Duration roundTrip) {
+        Permit permit = permits.remove(sessionId);
+        if (permit != null) {
+            if (adaptive) {
+                permit.bulkhead.adjust(roundTrip.toNanos() <= latencyTargetNanos);
+            }
+            permit.bulkhead.release();
+        }
+    }
+
+    /**
+     * Return the permit of the session not responded in time.
+     *
+     * @param sessionId - session id.
+     */
+    public void onTimeout(@NonNull String sessionId) {
+        Permit permit = permits.remove(sessionId);
+        if (permit != null) {
+            if (adaptive) {
+                permit.bulkhead.adjust(false);
+            }
+            permit.bulkhead.release();
+        }
+    }
+
+    /**
+     * Return the permit of the session not sent to executor.
+     *
+     * @param sessionId - session id.
+     */
+    public void release(@NonNull String sessionId) {
+        Permit permit = permits.remove(sessionId);
+        if (permit != null) {
+            permit.bulkhead.release();
+        }
+    }
+
+    /**
+     * Return permits held longer than maxAge.
+     * It's a safety net for sessions nobody has waited for (due to errors after sending).
+     *
+     * @param maxAge - max age of permit,
+     * @return count of returned permits.
+     */
+    public int expire(@NonNull Duration maxAge) {
+        long expirationTime = nanoClock.getAsLong() - maxAge.toNanos();
+        int expired = 0;
+        for (Map.Entry<String, Permit> entry : permits.entrySet()) {
+            if (entry.getValue().acquired - expirationTime < 0 && permits.remove(entry.getKey(), entry.getValue())) {
+                entry.getValue().bulkhead.release();
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    public String getRejectionMessage() {
+        return REJECTION_MESSAGE;
+    }
+
+    public int getHttpStatus() {
+        return HTTP_STATUS;
+    }
+
+    /**
+     * Get current limit of sessions in flight of the project.
+     *
+     * @param projectUuid - project Uuid,
+     * @return limit of the project.
+     */
+    public int getLimit(@NonNull UUID projectUuid) {
+        Bulkhead bulkhead = bulkheads.get(projectUuid);
+        return bulkhead == null ? limitPerProject : bulkhead.getLimit();
+    }
+
+    /**
+     * Get count of permits of the project in use.
+     *
+     * @param projectUuid - project Uuid,
+     * @return count of sessions in flight holding permits.
+     */
+    public int getInUse(@NonNull UUID projectUuid) {
+        Bulkhead bulkhead = bulkheads.get(projectUuid);
+        return bulkhead == null ? 0 : bulkhead.getInUse();
+    }
+
+    /**
+     * Get count of rejected sessions of the project.
+     *
+     * @param projectUuid - project Uuid,
+     * @return count of sessions rejected due to the limit.
+     */
+    public long getRejected(@NonNull UUID projectUuid) {
+        Bulkhead bulkhead = bulkheads.get(projectUuid);
+        return bulkhead == null ? 0 : bulkhead.rejected.get();
+    }
+
+    private Bulkhead createBulkhead(UUID projectUuid) {
+        Bulkhead bulkhead = new Bulkhead(limitPerProject);
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            registerMeters(registry, projectUuid, bulkhead);
+        }
+        return bulkhead;
+    }
+
+    private static void registerMeters(MeterRegistry registry, UUID projectUuid, Bulkhead bulkhead) {
+        Gauge.builder(Metric.ATP_ITF_STUBS_EXECUTOR_BULKHEAD_LIMIT.getValue(), bulkhead, Bulkhead::getLimit)
+                .description("current limit of sessions waiting for executor response per project")
+                .tag(MetricTag.PROJECT.getValue(), projectUuid.toString())
+                .register(registry);
+        FunctionCounter.builder(Metric.ATP_ITF_STUBS_EXECUTOR_BULKHEAD_REJECTIONS.getValue(), bulkhead.rejected,
+                        AtomicLong::get)
+                .description("total number of requests rejected due to the limit of the project")
+                .tag(MetricTag.PROJECT.getValue(), projectUuid.toString())
+                .register(registry);
+    }
+
+    /*
+        Semaphore with adjustable count of permits; java.util.concurrent.Semaphore can't be shrunk
+        while permits are in use. Guarded by the instance monitor.
+     */
+    private static class Bulkhead {
+
+        private final int maxLimit;
+        private final AtomicLong rejected = new AtomicLong();
+        private int limit;
+        private int inUse;
+
+        Bulkhead(int maxLimit) {
+            this.maxLimit = maxLimit;
+            this.limit = maxLimit;
+        }
+
+        synchronized boolean acquire(long maxWaitNanos) {
+            long deadline = System.nanoTime() + maxWaitNanos;
+            try {
+                while (inUse >= limit) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            inUse++;
+            return true;
+        }
+
+        synchronized void release() {
+            if (inUse > 0) {
+                inUse--;
+                notify();
+            }
+        }
+
+        synchronized void adjust(boolean fast) {
+            if (!fast) {
+                limit = Math.max(1, (int) (limit * BACKOFF_RATIO));
+            } else if (limit < maxLimit && inUse * 2 >= limit) {
+                limit++;
+                notify();
+            }
+        }
+
+        synchronized int getLimit() {
+            return limit;
+        }
+
+        synchronized int getInUse() {
+            return inUse;
+        }
+    }
+
+    private static class Permit {
+
+        private final Bulkhead bulkhead;
+        private final long acquired;
+
+        Permit(Bulkhead bulkhead, long acquired) {
+            this.bulkhead = bulkhead;
+            this.acquired = acquired;
+        }
+    }
+}
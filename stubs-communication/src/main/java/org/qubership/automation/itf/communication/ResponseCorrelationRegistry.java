@@ -0,0 +1,227 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.communication;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.qubership.automation.itf.core.model.communication.message.TriggerExecutionMessage;
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.core.util.config.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Correlates responses received from itf-executor with sessions waiting for them.
+ * A waiting thread is woken up as soon as the response is completed, without polling.
+ */
+public enum ResponseCorrelationRegistry {
+
+    INSTANCE;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResponseCorrelationRegistry.class);
+    private static final String PROCESS_TIMEOUT_PROPERTY = "lock.provider.process.timeout";
+    private static final int DEFAULT_PROCESS_TIMEOUT = 60000;
+    private static final String DISPATCH_POOL_SIZE_PROPERTY = "response.correlation.dispatch.pool.size";
+    private static final int DEFAULT_DISPATCH_POOL_SIZE = 16;
+
+    private final Map<String, PendingResponse> pendingResponses = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timeoutScheduler = createTimeoutScheduler();
+    private volatile ExecutorService dispatchPool;
+
+    /**
+     * Get (or create) pending response future for the session.
+     * Either side (waiter or response listener) may come first, so both use this method.
+     *
+     * @param sessionId - session id,
+     * @return future to be completed by executor response.
+     */
+    public CompletableFuture<TriggerExecutionMessage> register(String sessionId) {
+        return pendingResponses.computeIfAbsent(sessionId, id -> new PendingResponse());
+    }
+
+    /**
+     * Complete pending response of the session with executor response.
+     *
+     * @param sessionId - session id,
+     * @param response - response message received from executor,
+     * @return true if the response is completed now, false if it was already completed before.
+     */
+    public boolean complete(String sessionId, TriggerExecutionMessage response) {
+        Duration roundTrip = ExecutorRoundTripTracker.INSTANCE.received(sessionId);
+        if (roundTrip != null) {
+            ExecutorCircuitBreaker.INSTANCE.onResponse(sessionId, roundTrip);
+            ProjectBulkheads.INSTANCE.onResponse(sessionId, roundTrip);
+        }
+        return pendingResponses.computeIfAbsent(sessionId, id -> new PendingResponse()).complete(response);
+    }
+
+    /**
+     * Wait response for the session during configured process timeout.
+     *
+     * @param sessionId - session id,
+     * @return response message or null if the response is not received in time.
+     * @throws InterruptedException - if the thread is interrupted while waiting.
+     */
+    public Message waitResponse(String sessionId) throws InterruptedException {
+        return waitResponse(sessionId, getProcessTimeout());
+    }
+
+    /**
+     * Wait response for the session during timeout given.
+     *
+     * @param sessionId - session id,
+     * @param timeout - max waiting time, in milliseconds,
+     * @return response message or null if the response is not received in time.
+     * @throws InterruptedException - if the thread is interrupted while waiting.
+     */
+    public Message waitResponse(String sessionId, long timeout) throws InterruptedException {
+        CompletableFuture<TriggerExecutionMessage> pending = register(sessionId);
+        try {
+            TriggerExecutionMessage response = pending.get(timeout, TimeUnit.MILLISECONDS);
+            return response == null ? null : response.getMessage();
+        } catch (TimeoutException e) {
+            registerTimeout(sessionId);
+            LOGGER.warn("SessionId {}: response is not received from executor within {} ms", sessionId, timeout);
+            return null;
+        } catch (ExecutionException e) {
+            LOGGER.error("SessionId {}: error while waiting response from executor", sessionId, e.getCause());
+            return null;
+        } finally {
+            pendingResponses.remove(sessionId, pending);
+        }
+    }
+
+    /**
+     * Wait response for the session during configured process timeout, without blocking of the caller thread.
+     *
+     * @param sessionId - session id,
+     * @return future of response message; it is completed with null if the response is not received in time.
+     */
+    public CompletableFuture<Message> waitResponseAsync(String sessionId) {
+        return waitResponseAsync(sessionId, getProcessTimeout());
+    }
+
+    /**
+     * Wait response for the session during timeout given, without blocking of the caller thread.
+     * The returned future is completed in the dispatch pool, so neither JMS listener thread
+     * nor timeout scheduler thread are occupied by dependent actions (response building and writing).
+     *
+     * @param sessionId - session id,
+     * @param timeout - max waiting time, in milliseconds,
+     * @return future of response message; it is completed with null if the response is not received in time.
+     */
+    public CompletableFuture<Message> waitResponseAsync(String sessionId, long timeout) {
+        PendingResponse pending = pendingResponses.computeIfAbsent(sessionId, id -> new PendingResponse());
+        ScheduledFuture<?> timeoutTask = timeoutScheduler.schedule(() -> {
+            if (pending.complete(null)) {
+                registerTimeout(sessionId);
+                LOGGER.warn("SessionId {}: response is not received from executor within {} ms", sessionId, timeout);
+            }
+        }, timeout, TimeUnit.MILLISECONDS);
+        return pending.handleAsync((response, throwable) -> {
+            timeoutTask.cancel(false);
+            pendingResponses.remove(sessionId, pending);
+            if (throwable != null) {
+                LOGGER.error("SessionId {}: error while waiting response from executor", sessionId, throwable);
+                return null;
+            }
+            return response == null ? null : response.getMessage();
+        }, getDispatchPool());
+    }
+
+    /**
+     * Remove pending responses nobody waits for anymore
+     * (responses received after waiter's timeout, or sessions failed before waiting).
+     */
+    public void cleanupCache() {
+        long expirationTime = System.currentTimeMillis() - 2L * getProcessTimeout();
+        pendingResponses.entrySet().removeIf(entry -> entry.getValue().getCreated() < expirationTime);
+        ExecutorRoundTripTracker.INSTANCE.expire(Duration.ofMillis(2L * getProcessTimeout()));
+        ProjectBulkheads.INSTANCE.expire(Duration.ofMillis(2L * getProcessTimeout()));
+    }
+
+    public int size() {
+        return pendingResponses.size();
+    }
+
+    private static void registerTimeout(String sessionId) {
+        if (ExecutorRoundTripTracker.INSTANCE.timedOut(sessionId)) {
+            ExecutorCircuitBreaker.INSTANCE.onTimeout(sessionId);
+            ProjectBulkheads.INSTANCE.onTimeout(sessionId);
+        }
+    }
+
+    /*
+        Almost every timeout task is cancelled by the response; remove-on-cancel drops such tasks (and pending
+        responses they hold) from the delay queue at once instead of keeping them for the whole process timeout.
+     */
+    private static ScheduledExecutorService createTimeoutScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1,
+                daemonThreadFactory("responseTimeoutScheduler-"));
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    private ExecutorService getDispatchPool() {
+        if (dispatchPool == null) {
+            synchronized (this) {
+                if (dispatchPool == null) {
+                    dispatchPool = Executors.newFixedThreadPool(
+                            Config.getConfig().getIntOrDefault(DISPATCH_POOL_SIZE_PROPERTY, DEFAULT_DISPATCH_POOL_SIZE),
+                            daemonThreadFactory("responseDispatchPool-"));
+                }
+            }
+        }
+        return dispatchPool;
+    }
+
+    private static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static int getProcessTimeout() {
+        return Config.getConfig().getIntOrDefault(PROCESS_TIMEOUT_PROPERTY, DEFAULT_PROCESS_TIMEOUT);
+    }
+
+    private static class PendingResponse extends CompletableFuture<TriggerExecutionMessage> {
+
+        private final long created = System.currentTimeMillis();
+
+        long getCreated() {
+            return created;
+        }
+    }
+}
@@ -17,50 +17,246 @@
 
 package org.qubership.automation.itf.communication;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+import javax.annotation.PreDestroy;
 
 import org.qubership.atp.multitenancy.core.header.CustomHeader;
 import org.qubership.atp.multitenancy.interceptor.jms.AtpJmsTemplate;
 import org.qubership.automation.itf.core.model.communication.message.TriggerExecutionMessage;
+import org.qubership.automation.itf.monitoring.metrics.Metric;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.MeterRegistry;
 
+/**
+ * Sender of sessions to itf-executor.
+ *
+ * <p>Sessions are sent via two lanes: sessions of synchronous (InOut) triggers waiting for executor responses
+ * (see {@link #sendAndTrack(TriggerExecutionMessage, UUID, String)}) are sent to the executor incoming queue,
+ * and one-way (InOnly) sessions (see {@link #send(TriggerExecutionMessage, Object)}) are sent to the one-way queue
+ * if it's configured. So a flood of one-way messages (Kafka, JMS, File triggers) doesn't delay synchronous
+ * responses, if executor consumes the queues by separate listeners.
+ *
+ * <p>Optionally, one-way messages are sent in batches (see {@link ExecutorMessageBatcher}): up to batch max-size
+ * messages of a project are sent as one JMS message with JSON array payload, {@link #BATCH_SIZE_PROPERTY}
+ * and {@link #TRACE_IDS_PROPERTY}. If a batch can't be sent, its messages are sent one by one, and messages failed
+ * this way too are counted in the {@link Metric#ATP_ITF_STUBS_EXECUTOR_DROPPED_MESSAGES} metric.
+ *
+ * <p>Optionally, large bodies are offloaded to the shared directory (see {@link ClaimCheck}); such messages
+ * are never batched.
+ */
 @Component
 public class TriggerExecutionMessageSender {
 
+    /**
+     * Message property containing the name of the queue the executor should send the response to.
+     */
+    public static final String REPLY_TO_PROPERTY = "replyTo";
+
+    /**
+     * Message property containing count of messages in the batch; the payload of such message is an array.
+     */
+    public static final String BATCH_SIZE_PROPERTY = "batchSize";
+
+    /**
+     * Message property of the batch containing comma-separated traceIds of the messages, in the order of the array;
+     * an element is empty if the message has no traceId. Batches have no traceId property.
+     */
+    public static final String TRACE_IDS_PROPERTY = "traceIds";
+
+    private static final String TRACE_ID_PROPERTY = "traceId";
+    private static final ExecutorMessageBatcher.Sender ONE_WAY_SENDER = new ExecutorMessageBatcher.Sender() {
+        @Override
+        public void sendBatch(Object tenantId, List<TriggerExecutionMessage> messages, List<String> traceIds) {
+            TriggerExecutionMessageSender.sendBatch(tenantId, messages, traceIds);
+        }
+
+        @Override
+        public void send(Object tenantId, TriggerExecutionMessage message, String traceId) {
+            convertAndSend(oneWayQueue, message, tenantId, traceId);
+        }
+    };
+
     private static AtpJmsTemplate executorJmsTemplate;
     private static String queue;
+    private static String oneWayQueue;
+    private static volatile String replyQueue;
+    private static ExecutorMessageBatcher batcher;
+    private static ClaimCheck claimCheck;
 
     /**
      * Constructor for {@code TriggerExecutionMessageSender}.
      *
      * @param queue               The name of the queue for incoming requests to the stubs executor.
      * @param executorJmsTemplate The JMS template for execution.
+     * @param oneWayQueue         The name of the queue for one-way requests; if empty, the queue is used.
+     * @param batchMaxSize        Max count of one-way messages sent at once; 1 means batching is off.
+     * @param batchMaxDelay       Max delay of one-way message waiting for its batch, in milliseconds.
+     * @param claimCheckThreshold Bodies larger than this (in bytes) are offloaded; 0 means claim-check is off.
+     * @param claimCheckDirectory Directory shared with executor to offload bodies to.
+     * @param claimCheckRetention Retention of offloaded bodies, in milliseconds.
+     * @param meterRegistry       The registry of metrics.
+     * @throws IOException        in case the claim-check directory can't be created.
      */
     @Autowired
     @SuppressFBWarnings(value = "ST_WRITE_TO_STATIC_FROM_INSTANCE_METHOD",
             justification = "No way due to usage inside Camel .process() method")
     public TriggerExecutionMessageSender(@Value("${message-broker.stubs-executor-incoming-request.queue}") String queue,
-                                         AtpJmsTemplate executorJmsTemplate) {
+                                         AtpJmsTemplate executorJmsTemplate,
+                                         @Value("${message-broker.stubs-executor-incoming-request.one-way.queue:}")
+                                         String oneWayQueue,
+                                         @Value("${message-broker.stubs-executor-incoming-request.batch.max-size:1}")
+                                         int batchMaxSize,
+                                         @Value("${message-broker.stubs-executor-incoming-request.batch.max-delay:10}")
+                                         long batchMaxDelay,
+                                         @Value("${message-broker.stubs-executor-incoming-request.claim-check"
+                                                 + ".threshold:0}") long claimCheckThreshold,
+                                         @Value("${message-broker.stubs-executor-incoming-request.claim-check"
+                                                 + ".directory:}") String claimCheckDirectory,
+                                         @Value("${message-broker.stubs-executor-incoming-request.claim-check"
+                                                 + ".retention:3600000}") long claimCheckRetention,
+                                         MeterRegistry meterRegistry)
+            throws IOException {
         TriggerExecutionMessageSender.executorJmsTemplate = executorJmsTemplate;
         TriggerExecutionMessageSender.queue = queue;
+        TriggerExecutionMessageSender.oneWayQueue = oneWayQueue.isEmpty() ? queue : oneWayQueue;
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+        TriggerExecutionMessageSender.batcher = batchMaxSize > 1
+                ? new ExecutorMessageBatcher(batchMaxSize, batchMaxDelay, ONE_WAY_SENDER)
+                : null;
+        if (batcher != null) {
+            batcher.bindTo(meterRegistry);
+        }
+        TriggerExecutionMessageSender.claimCheck = claimCheckThreshold > 0 && !claimCheckDirectory.isEmpty()
+                ? new ClaimCheck(new LocalDiskClaimCheckStore(Paths.get(claimCheckDirectory)), claimCheckThreshold,
+                Duration.ofMillis(claimCheckRetention))
+                : null;
     }
 
     /**
-     * Send message with added X_PROJECT_ID header.
+     * Send pending batches of one-way messages.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    /**
+     * Send message of one-way session with added X_PROJECT_ID header.
+     * In reply queue mode, the reply queue of this pod is added too,
+     * so the executor sends the response point-to-point instead of via the shared queue with selector.
      *
      * @param message - message to send,
      * @param tenantId - tenantId (project Uuid).
      */
     public static void send(TriggerExecutionMessage message, Object tenantId) {
-        Map<String, Object> properties = new HashMap<>();
+        ExecutorMessageBatcher currentBatcher = batcher;
+        if (currentBatcher != null && (claimCheck == null || !claimCheck.mayOffload(message))) {
+            currentBatcher.add(tenantId, message, MDC.get(TRACE_ID_PROPERTY));
+        } else {
+            convertAndSend(oneWayQueue, message, tenantId, MDC.get(TRACE_ID_PROPERTY));
+        }
+    }
+
+    /**
+     * Send message of the session waiting for executor response (see {@link #send(TriggerExecutionMessage, Object)}),
+     * to the executor incoming queue regardless of one-way queue.
+     * The session is timestamped, so round-trip duration is recorded when the response is received.
+     *
+     * @param message - message to send,
+     * @param projectUuid - project Uuid (tenantId),
+     * @param transportClassName - class name of inbound transport.
+     * @throws ExecutorUnavailableException - if the executor circuit breaker is open or the limit of the project
+     *     is reached; the message isn't sent.
+     */
+    public static void sendAndTrack(TriggerExecutionMessage message, UUID projectUuid, String transportClassName) {
+        String sessionId = message.getSessionId();
+        if (!ProjectBulkheads.INSTANCE.tryAcquire(projectUuid, sessionId)) {
+            throw new ExecutorUnavailableException(ProjectBulkheads.INSTANCE.getRejectionMessage(),
+                    ProjectBulkheads.INSTANCE.getHttpStatus());
+        }
+        if (!ExecutorCircuitBreaker.INSTANCE.tryAcquire(sessionId)) {
+            ProjectBulkheads.INSTANCE.release(sessionId);
+            throw new ExecutorUnavailableException(ExecutorCircuitBreaker.INSTANCE.getRejectionMessage(),
+                    ExecutorCircuitBreaker.INSTANCE.getHttpStatus());
+        }
+        ExecutorRoundTripTracker.INSTANCE.sent(sessionId, projectUuid,
+                transportClassName.substring(transportClassName.lastIndexOf('.') + 1));
+        try {
+            convertAndSend(queue, message, projectUuid, MDC.get(TRACE_ID_PROPERTY));
+        } catch (RuntimeException e) {
+            ExecutorRoundTripTracker.INSTANCE.cancel(sessionId);
+            ExecutorCircuitBreaker.INSTANCE.release(sessionId);
+            ProjectBulkheads.INSTANCE.release(sessionId);
+            throw e;
+        }
+    }
+
+    /**
+     * Set the reply queue of this pod advertised in messages to the executor.
+     *
+     * @param replyQueue - name of the temporary reply queue, or null if responses are expected in the shared queue.
+     */
+    public static void setReplyQueue(String replyQueue) {
+        TriggerExecutionMessageSender.replyQueue = replyQueue;
+    }
+
+    /**
+     * Remove offloaded bodies after retention.
+     */
+    public static void cleanupClaimChecks() {
+        if (claimCheck != null) {
+            claimCheck.cleanup();
+        }
+    }
+
+    private static void convertAndSend(String destination, TriggerExecutionMessage message, Object tenantId,
+                                       String traceId) {
+        Map<String, Object> properties = createProperties(tenantId);
+        properties.put(TRACE_ID_PROPERTY, traceId);
+        ClaimCheck.Ticket ticket = claimCheck == null ? null : claimCheck.checkIn(message);
+        if (ticket == null) {
+            executorJmsTemplate.convertAndSend(destination, message, properties);
+        } else {
+            ticket.addTo(properties);
+            executorJmsTemplate.convertAndSend(destination, ticket.getMessage(), properties);
+        }
+    }
+
+    /*
+        The batch is sent as one JMS message, so neither transacted session nor grouping of messages is needed.
+     */
+    private static void sendBatch(Object tenantId, List<TriggerExecutionMessage> messages, List<String> traceIds) {
+        Map<String, Object> properties = createProperties(tenantId);
+        properties.put(BATCH_SIZE_PROPERTY, messages.size());
+        StringJoiner joinedTraceIds = new StringJoiner(",");
+        traceIds.forEach(traceId -> joinedTraceIds.add(traceId == null ? "" : traceId));
+        properties.put(TRACE_IDS_PROPERTY, joinedTraceIds.toString());
+        executorJmsTemplate.convertAndSend(oneWayQueue, messages.toArray(new TriggerExecutionMessage[0]), properties);
+    }
+
+    private static Map<String, Object> createProperties(Object tenantId) {
+        Map<String, Object> properties = new HashMap<>(8);
         properties.put(CustomHeader.X_PROJECT_ID, tenantId);
-        properties.put("traceId", MDC.get("traceId"));
-        executorJmsTemplate.convertAndSend(queue, message, properties);
+        if (replyQueue != null) {
+            properties.put(REPLY_TO_PROPERTY, replyQueue);
+        }
+        return properties;
     }
 }
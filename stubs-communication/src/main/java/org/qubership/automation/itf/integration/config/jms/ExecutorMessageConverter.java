@@ -0,0 +1,118 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.integration.config.jms;
+
+import java.io.IOException;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+
+import org.springframework.jms.support.converter.MappingJackson2MessageConverter;
+import org.springframework.jms.support.converter.MessageConversionException;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.jms.support.converter.MessageType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+/**
+ * Converter of messages between stubs and itf-executor.
+ *
+ * <p>Messages are sent as JSON text by default, or as Smile (binary JSON) bytes if the binary codec is enabled.
+ * The codec is written to {@link #CONTENT_TYPE_PROPERTY} of each message, so the receiver decodes messages
+ * by their content type, regardless of its own codec. Messages without the property are JSON.
+ */
+public class ExecutorMessageConverter implements MessageConverter {
+
+    public static final String CONTENT_TYPE_PROPERTY = "contentType";
+    public static final String JSON = "application/json";
+    public static final String SMILE = "application/x-jackson-smile";
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final MappingJackson2MessageConverter jsonConverter;
+    private final MappingJackson2MessageConverter smileConverter;
+    @Getter
+    private final String contentType;
+
+    /**
+     * Constructor.
+     *
+     * @param jsonMapper - mapper of JSON messages,
+     * @param smileMapper - mapper of Smile messages, configured like the JSON one,
+     * @param binary - send messages as Smile bytes or not.
+     */
+    public ExecutorMessageConverter(ObjectMapper jsonMapper, ObjectMapper smileMapper, boolean binary) {
+        this.jsonMapper = jsonMapper;
+        this.smileMapper = smileMapper;
+        this.jsonConverter = createConverter(jsonMapper, MessageType.TEXT);
+        this.smileConverter = createConverter(smileMapper, MessageType.BYTES);
+        // Smile content is written directly to bytes, not via character writer
+        this.smileConverter.setEncoding(null);
+        this.contentType = binary ? SMILE : JSON;
+    }
+
+    @Override
+    public Message toMessage(Object object, Session session) throws JMSException, MessageConversionException {
+        Message message = (SMILE.equals(contentType) ? smileConverter : jsonConverter).toMessage(object, session);
+        message.setStringProperty(CONTENT_TYPE_PROPERTY, contentType);
+        return message;
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws JMSException, MessageConversionException {
+        return (isSmile(message) ? smileConverter : jsonConverter).fromMessage(message);
+    }
+
+    /**
+     * Read message of the known type, regardless of '_type' property.
+     *
+     * @param message - JMS message (text or bytes),
+     * @param type - class of the payload,
+     * @return payload read.
+     * @throws JMSException - in case the message body can't be accessed,
+     * @throws IOException - in case the payload can't be parsed.
+     */
+    public <T> T read(Message message, Class<T> type) throws JMSException, IOException {
+        if (message instanceof TextMessage) {
+            return jsonMapper.readValue(((TextMessage) message).getText(), type);
+        }
+        if (message instanceof BytesMessage) {
+            BytesMessage bytesMessage = (BytesMessage) message;
+            byte[] bytes = new byte[(int) bytesMessage.getBodyLength()];
+            bytesMessage.readBytes(bytes);
+            return (isSmile(message) ? smileMapper : jsonMapper).readValue(bytes, type);
+        }
+        throw new MessageConversionException("Unsupported type of message: " + message.getClass().getName());
+    }
+
+    private static boolean isSmile(Message message) throws JMSException {
+        return SMILE.equals(message.getStringProperty(CONTENT_TYPE_PROPERTY));
+    }
+
+    private static MappingJackson2MessageConverter createConverter(ObjectMapper objectMapper, MessageType type) {
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setTargetType(type);
+        converter.setTypeIdPropertyName("_type");
+        converter.setObjectMapper(objectMapper);
+        return converter;
+    }
+}
@@ -19,11 +19,13 @@ package org.qubership.automation.itf.integration.config.jms.connection;
 
 import org.apache.activemq.ActiveMQConnectionFactory;
 import org.apache.activemq.ActiveMQPrefetchPolicy;
+import org.qubership.automation.itf.integration.config.jms.ExecutorMessageConverter;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.jms.annotation.EnableJms;
 import org.springframework.jms.support.converter.MappingJackson2MessageConverter;
 import org.springframework.jms.support.converter.MessageConverter;
@@ -34,6 +36,7 @@ import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 
 @ComponentScan(basePackages = "org.qubership.automation.itf.communication")
 @Configuration
@@ -65,6 +68,7 @@ public class StubsIntegrationConfig {
      * MessageConverter Constructor.
      */
     @Bean
+    @Primary
     public MessageConverter jacksonJmsMessageConverter(@Qualifier("jmsMessageConverterObjectMapper")
                                                                    ObjectMapper jmsMessageConverterObjectMapper) {
         MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
@@ -74,6 +78,21 @@ public class StubsIntegrationConfig {
         return converter;
     }
 
+    /**
+     * MessageConverter of stubs-executor\executor-stubs messages, JSON or Smile (binary) depending on the codec.
+     *
+     * @param jmsMessageConverterObjectMapper - JSON mapper,
+     * @param codec - codec of messages sent to executor: 'json' or 'smile',
+     * @return executorJmsMessageConverter
+     */
+    @Bean
+    public ExecutorMessageConverter executorJmsMessageConverter(
+            @Qualifier("jmsMessageConverterObjectMapper") ObjectMapper jmsMessageConverterObjectMapper,
+            @Value("${message-broker.stubs-executor-incoming-request.codec:json}") String codec) {
+        return new ExecutorMessageConverter(jmsMessageConverterObjectMapper,
+                configureJmsObjectMapper(new ObjectMapper(new SmileFactory())), "smile".equalsIgnoreCase(codec));
+    }
+
     /**
      * ObjectMapper for executor-stubs\stubs-executor jms messages.
      *
@@ -81,14 +100,7 @@ public class StubsIntegrationConfig {
      */
     @Bean
     public ObjectMapper jmsMessageConverterObjectMapper() {
-        ObjectMapper jmsMessageConverterObjectMapper = new ObjectMapper()
-                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-                .configure(DeserializationFeature.FAIL_ON_UNRESOLVED_OBJECT_IDS, false)
-                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
-        SimpleFilterProvider filterProvider = new SimpleFilterProvider();
-        filterProvider.setFailOnUnknownId(false);
-        jmsMessageConverterObjectMapper.setFilterProvider(filterProvider);
-        return jmsMessageConverterObjectMapper;
+        return configureJmsObjectMapper(new ObjectMapper());
     }
 
     /**
@@ -103,4 +115,20 @@ public class StubsIntegrationConfig {
     public ObjectMapper objectMapper() {
         return new ObjectMapper();
     }
+
+    /**
+     * Configure objectMapper for executor-stubs\stubs-executor jms messages.
+     *
+     * @param objectMapper - mapper to configure,
+     * @return the same objectMapper.
+     */
+    public static ObjectMapper configureJmsObjectMapper(ObjectMapper objectMapper) {
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .configure(DeserializationFeature.FAIL_ON_UNRESOLVED_OBJECT_IDS, false)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        SimpleFilterProvider filterProvider = new SimpleFilterProvider();
+        filterProvider.setFailOnUnknownId(false);
+        objectMapper.setFilterProvider(filterProvider);
+        return objectMapper;
+    }
 }
@@ -0,0 +1,277 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.integration.config.jms.listener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import javax.jms.Connection;
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageListener;
+import javax.jms.Queue;
+import javax.jms.Session;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Event-driven consumer of a queue, alternative to DefaultMessageListenerContainer for high-rate small messages.
+ *
+ * <p>Messages are pushed by the broker client (async dispatch) to listeners of a few sessions,
+ * instead of being polled by hundreds of container threads. Session threads only hand messages over
+ * to the bounded processing pool; if the pool queue is full, the session thread processes the message itself,
+ * so the consumption is slowed down to the processing rate (and the broker stops dispatching
+ * when the prefetch is full). Sessions are in DUPS_OK_ACKNOWLEDGE mode: messages are acknowledged lazily
+ * in batches, when they are handed over, so a message may be lost if the pod fails while processing it.
+ * It's acceptable for messages nobody waits for after the pod failure, like executor responses.
+ *
+ * <p>A temporary queue may be subscribed too: it's created on the consumer connection, so it's deleted
+ * by the broker (with messages in it) when the connection is closed or lost.
+ *
+ * <p>If the connection fails (it's reported to the exception listener, unless the failover transport
+ * reconnects itself), the connection is closed, and the consumer is restarted with exponential backoff.
+ * Listeners of temporary queue names are notified with null on failure, and with the new queue name on restart.
+ */
+public class AsyncQueueConsumer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncQueueConsumer.class);
+    private static final long RESTART_INITIAL_DELAY_MILLIS = 1000;
+    private static final long RESTART_MAX_DELAY_MILLIS = 60000;
+
+    private final ConnectionFactory connectionFactory;
+    private final int sessionsCount;
+    private final MessageListener listener;
+    private final ThreadPoolExecutor processingPool;
+    private final ScheduledExecutorService restartScheduler;
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private final AtomicLong received = new AtomicLong();
+    private Connection connection;
+    private boolean stopped;
+
+    /**
+     * Constructor.
+     *
+     * @param connectionFactory - JMS connection factory,
+     * @param sessionsCount - count of sessions (and consumers) per queue,
+     * @param poolSize - count of threads processing messages,
+     * @param queueCapacity - max count of messages waiting for processing threads,
+     * @param name - name of the consumer, used as the processing threads name prefix,
+     * @param listener - processor of messages.
+     */
+    public AsyncQueueConsumer(ConnectionFactory connectionFactory, int sessionsCount, int poolSize,
+                              int queueCapacity, String name, MessageListener listener) {
+        this.connectionFactory = connectionFactory;
+        this.sessionsCount = Math.max(1, sessionsCount);
+        this.listener = listener;
+        this.processingPool = new ThreadPoolExecutor(Math.max(1, poolSize), Math.max(1, poolSize),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                daemonThreadFactory(name + "-"), new ThreadPoolExecutor.CallerRunsPolicy());
+        this.restartScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory(name + "-restart-"));
+    }
+
+    /**
+     * Subscribe to the queue; messages are processed after {@link #start()}.
+     *
+     * @param queue - name of queue,
+     * @param selector - message selector, or null.
+     */
+    public synchronized void subscribe(String queue, String selector) {
+        subscriptions.add(new Subscription(queue, selector, null));
+    }
+
+    /**
+     * Subscribe to a temporary queue created on {@link #start()}.
+     *
+     * @param nameListener - listener of the temporary queue name, invoked when the queue is created.
+     */
+    public synchronized void subscribeTemporary(Consumer<String> nameListener) {
+        subscriptions.add(new Subscription(null, null, nameListener));
+    }
+
+    /**
+     * Create connection, sessions and consumers of subscribed queues.
+     *
+     * @throws JMSException - in case the connection or consumers can't be created.
+     */
+    public synchronized void start() throws JMSException {
+        if (connection != null || stopped) {
+            return;
+        }
+        Connection newConnection = connectionFactory.createConnection();
+        newConnection.setExceptionListener(e -> onConnectionFailure(newConnection, e));
+        List<Runnable> temporaryQueueListeners = new ArrayList<>();
+        try {
+            for (Subscription subscription : subscriptions) {
+                Queue queue = null;
+                for (int i = 0; i < sessionsCount; i++) {
+                    Session session = newConnection.createSession(false, Session.DUPS_OK_ACKNOWLEDGE);
+                    if (queue == null) {
+                        queue = subscription.isTemporary()
+                                ? session.createTemporaryQueue()
+                                : session.createQueue(subscription.queue);
+                    }
+                    MessageConsumer consumer = session.createConsumer(queue, subscription.selector);
+                    consumer.setMessageListener(this::dispatch);
+                }
+                String queueName = queue.getQueueName();
+                LOGGER.info("Async consumer ({} sessions) of queue {} is created", sessionsCount, queueName);
+                if (subscription.isTemporary()) {
+                    temporaryQueueListeners.add(() -> subscription.nameListener.accept(queueName));
+                }
+            }
+            newConnection.start();
+        } catch (JMSException e) {
+            newConnection.close();
+            throw e;
+        }
+        connection = newConnection;
+        temporaryQueueListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Close the connection, and process the messages handed over already.
+     * Listeners of temporary queue names are notified with null, as the queues are deleted.
+     */
+    public synchronized void stop() {
+        stopped = true;
+        restartScheduler.shutdownNow();
+        closeConnection();
+        processingPool.shutdown();
+        try {
+            if (!processingPool.awaitTermination(10, TimeUnit.SECONDS)) {
+                processingPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            processingPool.shutdownNow();
+        }
+    }
+
+    /*
+        Invoked by the connection thread, so the connection is closed by the restart thread.
+     */
+    private void onConnectionFailure(Connection failed, JMSException error) {
+        LOGGER.error("Connection of async consumer is failed; the consumer will be restarted", error);
+        try {
+            restartScheduler.execute(() -> {
+                synchronized (this) {
+                    if (connection != failed) {
+                        return;
+                    }
+                    closeConnection();
+                }
+                scheduleRestart(RESTART_INITIAL_DELAY_MILLIS);
+            });
+        } catch (RejectedExecutionException e) {
+            // The consumer is stopped
+        }
+    }
+
+    private void scheduleRestart(long delayMillis) {
+        try {
+            restartScheduler.schedule(() -> restart(delayMillis), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The consumer is stopped
+        }
+    }
+
+    private void restart(long delayMillis) {
+        try {
+            start();
+        } catch (JMSException | RuntimeException e) {
+            long nextDelayMillis = Math.min(delayMillis * 2, RESTART_MAX_DELAY_MILLIS);
+            LOGGER.warn("Async consumer can't be restarted; next attempt in {} ms", nextDelayMillis, e);
+            scheduleRestart(nextDelayMillis);
+        }
+    }
+
+    /*
+        Listeners of temporary queue names are notified with null, as the queues are deleted with the connection.
+     */
+    private synchronized void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        subscriptions.stream().filter(Subscription::isTemporary)
+                .forEach(subscription -> subscription.nameListener.accept(null));
+        try {
+            connection.close();
+        } catch (JMSException e) {
+            LOGGER.warn("Error while closing connection of async consumer", e);
+        }
+        connection = null;
+    }
+
+    public long getReceivedCount() {
+        return received.get();
+    }
+
+    public int getPendingCount() {
+        return processingPool.getQueue().size();
+    }
+
+    private void dispatch(Message message) {
+        received.incrementAndGet();
+        processingPool.execute(() -> {
+            try {
+                listener.onMessage(message);
+            } catch (RuntimeException e) {
+                LOGGER.error("Error while async consumer message processing", e);
+            }
+        });
+    }
+
+    private static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static class Subscription {
+
+        private final String queue;
+        private final String selector;
+        private final Consumer<String> nameListener;
+
+        Subscription(String queue, String selector, Consumer<String> nameListener) {
+            this.queue = queue;
+            this.selector = selector;
+            this.nameListener = nameListener;
+        }
+
+        boolean isTemporary() {
+            return queue == null;
+        }
+    }
+}
@@ -18,11 +18,11 @@
 package org.qubership.automation.itf.integration.config.jms.template;
 
 import org.qubership.atp.multitenancy.interceptor.jms.AtpJmsTemplate;
+import org.qubership.automation.itf.integration.config.jms.ExecutorMessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jms.core.JmsTemplate;
-import org.springframework.jms.support.converter.MessageConverter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -33,7 +33,7 @@ public class ExecutorJmsTemplateConfiguration {
     @Value("${message-broker.stubs-executor-incoming-request.message-time-to-live}")
     private int stubsExecutorIncomingRequestQueueMessagesTimeToLive;
 
-    private final MessageConverter jacksonJmsMessageConverter;
+    private final ExecutorMessageConverter executorJmsMessageConverter;
 
     /**
      * Init JmsTemplate to send messages to executor queue.
@@ -43,7 +43,7 @@ public class ExecutorJmsTemplateConfiguration {
      */
     @Bean
     public AtpJmsTemplate executorJmsTemplate(AtpJmsTemplate executorJmsTemplateInstance) {
-        executorJmsTemplateInstance.setMessageConverter(jacksonJmsMessageConverter);
+        executorJmsTemplateInstance.setMessageConverter(executorJmsMessageConverter);
         executorJmsTemplateInstance.setPubSubDomain(false);
         ((JmsTemplate) executorJmsTemplateInstance).setExplicitQosEnabled(true);
         ((JmsTemplate) executorJmsTemplateInstance).setTimeToLive(stubsExecutorIncomingRequestQueueMessagesTimeToLive);
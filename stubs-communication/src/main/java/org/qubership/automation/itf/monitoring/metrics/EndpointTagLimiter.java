@@ -0,0 +1,270 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.monitoring.metrics;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Limiter of the 'endpoint' tag values of stub metrics.
+ *
+ * <p>Each distinct tag value is a separate time series, so endpoints containing IDs inflate the registry.
+ * Requests of each project are counted by endpoints in Space-Saving sketch, which keeps a bounded number
+ * of the most frequent endpoints with their approximate counts. Endpoints get own tag values while there are
+ * less than the limit of them per project. After that, a new endpoint replaces the least frequent one
+ * only if its guaranteed count (count without overestimation error of the sketch) is greater, and the replaced one
+ * is reported to the listener to drop its meters. Requests of all other endpoints are collapsed into
+ * {@link #OTHER} value.
+ *
+ * <p>Optionally, path segments looking like IDs (numbers, UUIDs, long hex strings) are replaced with
+ * {@link #ID_PLACEHOLDER} before counting.
+ */
+public class EndpointTagLimiter {
+
+    public static final String OTHER = "__other__";
+    public static final String ID_PLACEHOLDER = "{id}";
+
+    private static final int SKETCH_CAPACITY_FACTOR = 4;
+    private static final Pattern ID_SEGMENT = Pattern.compile("\\d+"
+            + "|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}"
+            + "|(?=[a-zA-Z]*\\d)[0-9a-fA-F]{16,}");
+
+    private final int maxPerProject;
+    private final boolean normalizeIds;
+    private final BiConsumer<UUID, String> demotionListener;
+    private final Map<UUID, ProjectEndpoints> projects = new ConcurrentHashMap<>();
+    private final AtomicLong collapsed = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param maxPerProject - max count of own endpoint tag values per project,
+     * @param normalizeIds - replace path segments looking like IDs with placeholder or not,
+     * @param demotionListener - listener of endpoints lost own tag values, accepting project Uuid and endpoint;
+     *                         it's invoked under the project lock.
+     */
+    public EndpointTagLimiter(int maxPerProject, boolean normalizeIds, BiConsumer<UUID, String> demotionListener) {
+        this.maxPerProject = Math.max(0, maxPerProject);
+        this.normalizeIds = normalizeIds;
+        this.demotionListener = demotionListener;
+    }
+
+    /**
+     * Get value of the endpoint tag for the endpoint, and count the request.
+     *
+     * @param projectUuid - project Uuid,
+     * @param endpoint - endpoint of request,
+     * @return endpoint (normalized if enabled) or {@link #OTHER}.
+     */
+    public String limit(UUID projectUuid, String endpoint) {
+        return limit(projectUuid, endpoint, Function.identity());
+    }
+
+    /**
+     * Get value of the endpoint tag for the endpoint, count the request, and apply the function to the value.
+     * Own values are passed to the function under the project lock, like demoted ones to the listener,
+     * so meters registered by the function can't outlive the demotion of the endpoint.
+     *
+     * @param projectUuid - project Uuid,
+     * @param endpoint - endpoint of request,
+     * @param function - function of endpoint tag value (endpoint, normalized if enabled, or {@link #OTHER}),
+     * @return result of the function.
+     */
+    public <T> T limit(UUID projectUuid, String endpoint, Function<String, T> function) {
+        String value = normalizeIds ? normalize(endpoint) : endpoint;
+        if (maxPerProject > 0) {
+            ProjectEndpoints endpoints = projects.computeIfAbsent(projectUuid,
+                    key -> new ProjectEndpoints(maxPerProject));
+            synchronized (endpoints) {
+                String demoted = endpoints.offer(value);
+                if (demoted != null) {
+                    demotionListener.accept(projectUuid, demoted);
+                }
+                if (endpoints.admitted.contains(value)) {
+                    return function.apply(value);
+                }
+            }
+        }
+        collapsed.incrementAndGet();
+        return function.apply(OTHER);
+    }
+
+    /**
+     * Get current count of own endpoint tag values of all projects.
+     *
+     * @return count of endpoint tag values, excluding {@link #OTHER}.
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (ProjectEndpoints endpoints : projects.values()) {
+            synchronized (endpoints) {
+                cardinality += endpoints.admitted.size();
+            }
+        }
+        return cardinality;
+    }
+
+    /**
+     * Get count of requests which endpoints are collapsed into {@link #OTHER}.
+     *
+     * @return count of collapsed requests.
+     */
+    public long collapsedCount() {
+        return collapsed.get();
+    }
+
+    /**
+     * Replace path segments looking like IDs with {@link #ID_PLACEHOLDER}.
+     *
+     * @param endpoint - endpoint to normalize,
+     * @return normalized endpoint.
+     */
+    public static String normalize(String endpoint) {
+        StringBuilder normalized = null;
+        int start = 0;
+        while (start <= endpoint.length()) {
+            int end = endpoint.indexOf('/', start);
+            if (end < 0) {
+                end = endpoint.length();
+            }
+            if (end > start && ID_SEGMENT.matcher(endpoint).region(start, end).matches()) {
+                if (normalized == null) {
+                    normalized = new StringBuilder(endpoint.length()).append(endpoint, 0, start);
+                }
+                normalized.append(ID_PLACEHOLDER);
+            } else if (normalized != null) {
+                normalized.append(endpoint, start, end);
+            }
+            if (normalized != null && end < endpoint.length()) {
+                normalized.append('/');
+            }
+            start = end + 1;
+        }
+        return normalized == null ? endpoint : normalized.toString();
+    }
+
+    /*
+        Space-Saving sketch: when a new endpoint comes and the sketch is full, the least frequent not admitted
+        endpoint is replaced, and the new one inherits its count as overestimation error.
+        Endpoints are grouped into buckets by count, so the least frequent ones are found in O(log n).
+        Admitted endpoints are never replaced in the sketch, so their counts are exact since admission.
+        Guarded by the instance monitor.
+     */
+    private static class ProjectEndpoints {
+
+        private final int maxAdmitted;
+        private final int capacity;
+        private final Set<String> admitted = new HashSet<>();
+        private final Map<String, Counter> counters = new HashMap<>();
+        private final TreeMap<Long, Set<String>> buckets = new TreeMap<>();
+
+        ProjectEndpoints(int maxAdmitted) {
+            this.maxAdmitted = maxAdmitted;
+            this.capacity = maxAdmitted * SKETCH_CAPACITY_FACTOR;
+        }
+
+        /*
+            Count the endpoint and admit it if possible. Returns the endpoint replaced by this one, if any.
+         */
+        String offer(String endpoint) {
+            Counter counter = increment(endpoint);
+            if (admitted.contains(endpoint)) {
+                return null;
+            }
+            if (admitted.size() < maxAdmitted) {
+                admitted.add(endpoint);
+                return null;
+            }
+            long guaranteed = counter.count - counter.error;
+            if (guaranteed <= 1) {
+                // Admitted endpoints are counted at least once, so there is nothing to compare.
+                return null;
+            }
+            String leastFrequent = null;
+            long leastCount = Long.MAX_VALUE;
+            for (String candidate : admitted) {
+                long count = counters.get(candidate).count;
+                if (count < leastCount) {
+                    leastFrequent = candidate;
+                    leastCount = count;
+                }
+            }
+            if (guaranteed <= leastCount) {
+                return null;
+            }
+            admitted.remove(leastFrequent);
+            admitted.add(endpoint);
+            return leastFrequent;
+        }
+
+        private Counter increment(String endpoint) {
+            Counter counter = counters.get(endpoint);
+            if (counter == null) {
+                counter = new Counter();
+                if (counters.size() >= capacity) {
+                    long minCount = evictLeastFrequent();
+                    counter.count = minCount;
+                    counter.error = minCount;
+                }
+                counters.put(endpoint, counter);
+            } else {
+                removeFromBucket(endpoint, counter.count);
+            }
+            counter.count++;
+            buckets.computeIfAbsent(counter.count, key -> new LinkedHashSet<>()).add(endpoint);
+            return counter;
+        }
+
+        private long evictLeastFrequent() {
+            for (Map.Entry<Long, Set<String>> bucket : buckets.entrySet()) {
+                for (String candidate : bucket.getValue()) {
+                    if (!admitted.contains(candidate)) {
+                        removeFromBucket(candidate, bucket.getKey());
+                        counters.remove(candidate);
+                        return bucket.getKey();
+                    }
+                }
+            }
+            return 0;
+        }
+
+        private void removeFromBucket(String endpoint, long count) {
+            Set<String> bucket = buckets.get(count);
+            bucket.remove(endpoint);
+            if (bucket.isEmpty()) {
+                buckets.remove(count);
+            }
+        }
+    }
+
+    private static class Counter {
+
+        private long count;
+        private long error;
+    }
+}
@@ -28,7 +28,22 @@ public enum Metric {
     ATP_ITF_STUBS_ERROR_TRIGGER_BY_PROJECT("atp_itf_stubs_error_trigger_by_project"),
     ATP_ITF_STUBS_INCOMING_REQUEST_BY_PROJECT("atp_itf_stubs_incoming_request_by_project"),
     ATP_ITF_STUBS_INCOMING_REQUEST_SECONDS_BY_PROJECT("atp_itf_stubs_incoming_request_seconds_by_project"),
-    ATP_ITF_STUBS_INCOMING_REQUEST_MESSAGE_SIZE_BY_PROJECT("atp_itf_stubs_incoming_request_message_size_by_project");
+    ATP_ITF_STUBS_INCOMING_REQUEST_MESSAGE_SIZE_BY_PROJECT("atp_itf_stubs_incoming_request_message_size_by_project"),
+    ATP_ITF_STUBS_REPORTING_QUEUE_SIZE("atp_itf_stubs_reporting_queue_size"),
+    ATP_ITF_STUBS_REPORTING_QUEUE_REPORTS("atp_itf_stubs_reporting_queue_reports"),
+    ATP_ITF_STUBS_STARTUP_ACTIVATION_SECONDS("atp_itf_stubs_startup_activation_seconds"),
+    ATP_ITF_STUBS_INCOMING_REQUEST_PHASE_SECONDS("atp_itf_stubs_incoming_request_phase_seconds"),
+    ATP_ITF_STUBS_ENDPOINT_TAG_CARDINALITY("atp_itf_stubs_endpoint_tag_cardinality"),
+    ATP_ITF_STUBS_ENDPOINT_TAG_COLLAPSED("atp_itf_stubs_endpoint_tag_collapsed"),
+    ATP_ITF_STUBS_EXECUTOR_ROUND_TRIP_SECONDS("atp_itf_stubs_executor_round_trip_seconds"),
+    ATP_ITF_STUBS_EXECUTOR_IN_FLIGHT_SESSIONS("atp_itf_stubs_executor_in_flight_sessions"),
+    ATP_ITF_STUBS_EXECUTOR_OLDEST_SESSION_AGE_SECONDS("atp_itf_stubs_executor_oldest_session_age_seconds"),
+    ATP_ITF_STUBS_EXECUTOR_TIMED_OUT_SESSIONS("atp_itf_stubs_executor_timed_out_sessions"),
+    ATP_ITF_STUBS_EXECUTOR_CIRCUIT_BREAKER_STATE("atp_itf_stubs_executor_circuit_breaker_state"),
+    ATP_ITF_STUBS_EXECUTOR_CIRCUIT_BREAKER_TRANSITIONS("atp_itf_stubs_executor_circuit_breaker_transitions"),
+    ATP_ITF_STUBS_EXECUTOR_BULKHEAD_LIMIT("atp_itf_stubs_executor_bulkhead_limit"),
+    ATP_ITF_STUBS_EXECUTOR_BULKHEAD_REJECTIONS("atp_itf_stubs_executor_bulkhead_rejections"),
+    ATP_ITF_STUBS_EXECUTOR_DROPPED_MESSAGES("atp_itf_stubs_executor_dropped_messages");
     private final String value;
 
 }
@@ -27,7 +27,11 @@ public enum MetricTag {
     PROJECT("project_id"),
     RESULT("result"),
     TRANSPORT_TYPE("transport_type"),
-    ENDPOINT("endpoint");
+    ENDPOINT("endpoint"),
+    OUTCOME("outcome"),
+    PHASE("phase"),
+    TRANSPORT("transport"),
+    STATE("state");
     private final String value;
 
 }
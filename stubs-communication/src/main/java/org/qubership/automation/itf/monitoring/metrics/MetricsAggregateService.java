@@ -18,11 +18,18 @@
 package org.qubership.automation.itf.monitoring.metrics;
 
 import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.automation.itf.JvmSettings;
+import org.qubership.automation.itf.communication.ExecutorCircuitBreaker;
+import org.qubership.automation.itf.communication.ExecutorRoundTripTracker;
+import org.qubership.automation.itf.communication.ProjectBulkheads;
 import org.qubership.automation.itf.core.model.communication.TransportType;
 import org.qubership.automation.itf.core.util.config.Config;
 import org.qubership.automation.itf.core.util.mdc.MdcField;
@@ -31,8 +38,12 @@ import org.springframework.stereotype.Service;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.NonNull;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -42,12 +53,30 @@ public class MetricsAggregateService {
     private static final int MAX_SIZE =
             Config.getConfig().getIntOrDefault("logging.incoming.request.message.max.size",5242880);
     private static int MAX_SIZE_TO_MB = MAX_SIZE / (1024 * 1024);
+    private static final int ENDPOINT_TAG_MAX_PER_PROJECT =
+            Config.getConfig().getIntOrDefault("metrics.endpoint.tag.max.per.project", 100);
+    private static final boolean ENDPOINT_TAG_NORMALIZE_IDS = Boolean.parseBoolean(
+            Config.getConfig().getStringOrDefault("metrics.endpoint.tag.normalize.ids", "false"));
 
-    private Counter.Builder stubsActiveTriggerCounter;
-    private Counter.Builder stubsErrorTriggerCounter;
-    private static Counter.Builder stubsIncomingMessageSizeCounter;
-    private static Counter.Builder stubsIncomingRequestCounter;
+    /*
+        Meters are registered once per tags combination and then reused,
+        so the request path does neither build nor look up meters in the registry.
+     */
+    private static final Map<Metric, String> COUNTER_DESCRIPTIONS = new EnumMap<>(Metric.class);
+
+    static {
+        COUNTER_DESCRIPTIONS.put(Metric.ATP_ITF_STUBS_ACTIVE_TRIGGER_BY_PROJECT, "total number of active trigger");
+        COUNTER_DESCRIPTIONS.put(Metric.ATP_ITF_STUBS_ERROR_TRIGGER_BY_PROJECT, "total number of error trigger");
+        COUNTER_DESCRIPTIONS.put(Metric.ATP_ITF_STUBS_INCOMING_REQUEST_MESSAGE_SIZE_BY_PROJECT,
+                "total number of incoming message size");
+        COUNTER_DESCRIPTIONS.put(Metric.ATP_ITF_STUBS_INCOMING_REQUEST_BY_PROJECT, "total number of incoming request");
+    }
+
+    private static final Map<MeterKey, Counter> counters = new ConcurrentHashMap<>();
+    private static final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private static final Map<TransportType, Map<String, Timer>> phaseTimers = new ConcurrentHashMap<>();
     private static MeterRegistry meterRegistry;
+    private static EndpointTagLimiter endpointTagLimiter;
 
     /**
      * Constructor.
@@ -59,15 +88,22 @@ public class MetricsAggregateService {
             justification = "No way due to usage inside Camel .process() method")
     public MetricsAggregateService(MeterRegistry meterRegistry) {
         MetricsAggregateService.meterRegistry = meterRegistry;
-        stubsActiveTriggerCounter = Counter.builder(Metric.ATP_ITF_STUBS_ACTIVE_TRIGGER_BY_PROJECT.getValue())
-                .description("total number of active trigger");
-        stubsErrorTriggerCounter = Counter.builder(Metric.ATP_ITF_STUBS_ERROR_TRIGGER_BY_PROJECT.getValue())
-                .description("total number of error trigger");
-        stubsIncomingMessageSizeCounter = Counter.builder(Metric.ATP_ITF_STUBS_INCOMING_REQUEST_MESSAGE_SIZE_BY_PROJECT
-                        .getValue())
-                .description("total number of incoming message size");
-        stubsIncomingRequestCounter = Counter.builder(Metric.ATP_ITF_STUBS_INCOMING_REQUEST_BY_PROJECT.getValue())
-                .description("total number of incoming request");
+        counters.clear();
+        timers.clear();
+        phaseTimers.clear();
+        endpointTagLimiter = new EndpointTagLimiter(ENDPOINT_TAG_MAX_PER_PROJECT, ENDPOINT_TAG_NORMALIZE_IDS,
+                MetricsAggregateService::removeEndpointTimers);
+        Gauge.builder(Metric.ATP_ITF_STUBS_ENDPOINT_TAG_CARDINALITY.getValue(), endpointTagLimiter,
+                        EndpointTagLimiter::cardinality)
+                .description("current number of endpoint tag values of incoming request metrics")
+                .register(meterRegistry);
+        FunctionCounter.builder(Metric.ATP_ITF_STUBS_ENDPOINT_TAG_COLLAPSED.getValue(), endpointTagLimiter,
+                        EndpointTagLimiter::collapsedCount)
+                .description("total number of incoming requests recorded with collapsed endpoint tag")
+                .register(meterRegistry);
+        ExecutorRoundTripTracker.INSTANCE.bindTo(meterRegistry);
+        ExecutorCircuitBreaker.INSTANCE.bindTo(meterRegistry);
+        ProjectBulkheads.INSTANCE.bindTo(meterRegistry);
     }
 
     /**
@@ -90,12 +126,8 @@ public class MetricsAggregateService {
     public static void incrementIncomingRequestToProject(@NonNull UUID projectUuid,
                                                          @NonNull TransportType transportType,
                                                          boolean result) {
-        stubsIncomingRequestCounter
-                .tag(MetricTag.PROJECT.getValue(), projectUuid.toString())
-                .tag(MetricTag.TRANSPORT_TYPE.getValue(), transportType.name())
-                .tag(MetricTag.RESULT.getValue(), String.valueOf(result))
-                .register(meterRegistry)
-                .increment();
+        counter(new MeterKey(Metric.ATP_ITF_STUBS_INCOMING_REQUEST_BY_PROJECT, projectUuid, transportType, null,
+                result)).increment();
     }
 
     /**
@@ -121,10 +153,8 @@ public class MetricsAggregateService {
         if (length >= MAX_SIZE) {
             log.warn("Received message is more or equal to {} Mb, project UUID:{}, message size: {} bytes.",
                     MAX_SIZE_TO_MB, projectUuid, length);
-            stubsIncomingMessageSizeCounter
-                    .tag(MetricTag.PROJECT.getValue(), projectUuid.toString())
-                    .register(meterRegistry)
-                    .increment();
+            counter(new MeterKey(Metric.ATP_ITF_STUBS_INCOMING_REQUEST_MESSAGE_SIZE_BY_PROJECT, projectUuid, null,
+                    null, null)).increment();
         }
     }
 
@@ -133,15 +163,67 @@ public class MetricsAggregateService {
      *
      * @param projectUuid - project Uuid,
      * @param transportType - transport Type,
-     * @param endPoint - configured endpoint,
+     * @param endPoint - configured endpoint; rare endpoints are recorded as {@link EndpointTagLimiter#OTHER},
      * @param duration - duration of message processing.
      */
     public static void recordIncomingRequestDuration(@NonNull UUID projectUuid, @NonNull TransportType transportType,
                                                      @NonNull String endPoint,  @NonNull Duration duration) {
-        meterRegistry.timer(Metric.ATP_ITF_STUBS_INCOMING_REQUEST_SECONDS_BY_PROJECT.getValue(),
-                            MetricTag.PROJECT.getValue(), projectUuid.toString(),
-                            MetricTag.TRANSPORT_TYPE.getValue(), transportType.name(),
-                            MetricTag.ENDPOINT.getValue(), endPoint)
+        // The timer is looked up (or registered) under the same lock as its removal on the endpoint demotion
+        endpointTagLimiter.limit(projectUuid, endPoint, endpoint -> timers.computeIfAbsent(
+                        new MeterKey(Metric.ATP_ITF_STUBS_INCOMING_REQUEST_SECONDS_BY_PROJECT, projectUuid,
+                                transportType, endpoint, null),
+                        key -> meterRegistry.timer(key.getMetric().getValue(),
+                                MetricTag.PROJECT.getValue(), key.getProjectUuid().toString(),
+                                MetricTag.TRANSPORT_TYPE.getValue(), key.getTransportType().name(),
+                                MetricTag.ENDPOINT.getValue(), key.getEndpoint())))
+                .record(duration);
+    }
+
+    /**
+     * Record duration of inbound request processing phase by transportType.
+     * Percentiles are calculated on the service side (HdrHistogram based) and published with histogram buckets.
+     *
+     * @param transportType - transport Type,
+     * @param phase - processing phase,
+     * @param nanos - duration of the phase, in nanoseconds.
+     */
+    public static void recordIncomingRequestPhaseDuration(@NonNull TransportType transportType,
+                                                          @NonNull String phase, long nanos) {
+        phaseTimers.computeIfAbsent(transportType, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(phase, key -> Timer.builder(
+                                Metric.ATP_ITF_STUBS_INCOMING_REQUEST_PHASE_SECONDS.getValue())
+                        .description("duration of incoming request processing phase")
+                        .tag(MetricTag.TRANSPORT_TYPE.getValue(), transportType.name())
+                        .tag(MetricTag.PHASE.getValue(), phase)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /*
+        Endpoint is displaced by more frequent one, so its time series are removed from the registry.
+     */
+    private static void removeEndpointTimers(UUID projectUuid, String endpoint) {
+        timers.entrySet().removeIf(entry -> {
+            MeterKey key = entry.getKey();
+            if (projectUuid.equals(key.getProjectUuid()) && endpoint.equals(key.getEndpoint())) {
+                meterRegistry.remove(entry.getValue());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Record duration of triggers activation phase at service startup.
+     *
+     * @param phase - activation phase,
+     * @param duration - duration of the phase.
+     */
+    public static void recordStartupActivationDuration(@NonNull String phase, @NonNull Duration duration) {
+        meterRegistry.timer(Metric.ATP_ITF_STUBS_STARTUP_ACTIVATION_SECONDS.getValue(),
+                            MetricTag.PHASE.getValue(), phase)
                      .record(duration);
     }
 
@@ -159,19 +241,41 @@ public class MetricsAggregateService {
     private void requestToProject(UUID projectUuid, Metric metric) {
         switch (metric) {
             case ATP_ITF_STUBS_ACTIVE_TRIGGER_BY_PROJECT:
-                stubsActiveTriggerCounter
-                        .tag(MetricTag.PROJECT.getValue(), projectUuid.toString())
-                        .register(meterRegistry)
-                        .increment();
-                break;
             case ATP_ITF_STUBS_ERROR_TRIGGER_BY_PROJECT:
-                stubsErrorTriggerCounter
-                        .tag(MetricTag.PROJECT.getValue(), projectUuid.toString())
-                        .register(meterRegistry)
-                        .increment();
+                counter(new MeterKey(metric, projectUuid, null, null, null)).increment();
                 break;
             default:
                 break;
         }
     }
+
+    private static Counter counter(MeterKey meterKey) {
+        return counters.computeIfAbsent(meterKey, MetricsAggregateService::registerCounter);
+    }
+
+    private static Counter registerCounter(MeterKey key) {
+        Counter.Builder builder = Counter.builder(key.getMetric().getValue())
+                .description(COUNTER_DESCRIPTIONS.getOrDefault(key.getMetric(), key.getMetric().getValue()))
+                .tag(MetricTag.PROJECT.getValue(), key.getProjectUuid().toString());
+        if (key.getTransportType() != null) {
+            builder.tag(MetricTag.TRANSPORT_TYPE.getValue(), key.getTransportType().name());
+        }
+        if (key.getResult() != null) {
+            builder.tag(MetricTag.RESULT.getValue(), String.valueOf(key.getResult()));
+        }
+        return builder.register(meterRegistry);
+    }
+
+    /*
+        Tags tuple identifying a meter; null components are not used as tags.
+     */
+    @Value
+    private static class MeterKey {
+
+        Metric metric;
+        UUID projectUuid;
+        TransportType transportType;
+        String endpoint;
+        Boolean result;
+    }
 }
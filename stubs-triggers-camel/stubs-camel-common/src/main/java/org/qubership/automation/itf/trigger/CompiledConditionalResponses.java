@@ -0,0 +1,172 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.qubership.automation.itf.core.model.condition.ConditionsHelper;
+import org.qubership.automation.itf.core.model.condition.parameter.ConditionParameter;
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.core.stub.fast.ResponseDescription;
+
+/**
+ * Conditional responses compiled for fast matching.
+ *
+ * <p>Conditions of each response are compiled into the set of equalities which are necessary for the response
+ * to be applicable. It's possible only if all conditions are joined by AND; otherwise the response has no
+ * requirements. Then the variable used in equalities of the most responses is selected as a discriminator,
+ * and responses are put into the decision table by expected value of the discriminator.
+ * While matching, only responses from the decision table cell of the actual value (and responses without
+ * requirement on the discriminator) are checked via {@link ConditionsHelper#isApplicable}.
+ * So, ConditionsHelper remains the reference of conditions semantics; the decision table only skips responses
+ * which can't be applicable.
+ *
+ * <p>Values are put into the decision table in normalized form (trimmed, lower-cased, numbers in canonical form),
+ * so values which ConditionsHelper may consider equal in spite of case, surrounding whitespace
+ * or number format ('A' and ' a', '1' and '1.0') fall into the same cell, and the cell may only have extra
+ * candidates, not miss any.
+ */
+final class CompiledConditionalResponses {
+
+    private static final String EQUALS = "EQUALS";
+    private static final String AND = "AND";
+    /*
+        Only top-level variables are compiled; paths and indexes (like 'a.b' or 'a[0]')
+        are left to ConditionsHelper.
+     */
+    private static final Pattern SIMPLE_NAME = Pattern.compile("[\\w-]+");
+    private static final Pattern NUMBER_START = Pattern.compile("[+-]?\\.?\\d");
+
+    private final List<ResponseDescription> responses;
+    private final String discriminator;
+    private final Map<String, List<Integer>> decisionTable = new HashMap<>();
+    private final List<Integer> unconstrained = new ArrayList<>();
+
+    CompiledConditionalResponses(List<ResponseDescription> responses) {
+        this.responses = Collections.unmodifiableList(new ArrayList<>(responses));
+        List<Map<String, String>> requirements = new ArrayList<>(responses.size());
+        Map<String, Integer> usage = new HashMap<>();
+        for (ResponseDescription responseDescription : responses) {
+            Map<String, String> equalities = compile(responseDescription.getResponseCondition()
+                    .getConditionParameters());
+            requirements.add(equalities);
+            equalities.keySet().forEach(name -> usage.merge(name, 1, Integer::sum));
+        }
+        discriminator = usage.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(null);
+        for (int i = 0; i < requirements.size(); i++) {
+            String expected = discriminator == null ? null : requirements.get(i).get(discriminator);
+            if (expected == null) {
+                unconstrained.add(i);
+            } else {
+                decisionTable.computeIfAbsent(normalize(expected), value -> new ArrayList<>()).add(i);
+            }
+        }
+    }
+
+    /*
+        Returns equalities (variable name -> expected value) necessary for conditions to be true,
+        or empty map if conditions can't be compiled.
+     */
+    private static Map<String, String> compile(List<ConditionParameter> conditionParameters) {
+        if (conditionParameters == null || conditionParameters.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> equalities = new HashMap<>();
+        for (int i = 0; i < conditionParameters.size(); i++) {
+            ConditionParameter parameter = conditionParameters.get(i);
+            boolean joinedByAnd = parameter.getEtc() == null
+                    ? i == conditionParameters.size() - 1
+                    : AND.equalsIgnoreCase(String.valueOf(parameter.getEtc()));
+            if (!joinedByAnd) {
+                return Collections.emptyMap();
+            }
+            if (EQUALS.equals(String.valueOf(parameter.getCondition()))
+                    && parameter.getName() != null && SIMPLE_NAME.matcher(parameter.getName()).matches()
+                    && parameter.getValue() != null && !containsVelocityMarkup(parameter.getValue())) {
+                equalities.putIfAbsent(parameter.getName(), parameter.getValue());
+            }
+        }
+        return equalities;
+    }
+
+    private static String normalize(String value) {
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        if (!NUMBER_START.matcher(normalized).lookingAt()) {
+            return normalized;
+        }
+        try {
+            return new BigDecimal(normalized).stripTrailingZeros().toPlainString();
+        } catch (NumberFormatException e) {
+            return normalized;
+        }
+    }
+
+    private static boolean containsVelocityMarkup(String value) {
+        return value.indexOf('$') >= 0 || value.indexOf('#') >= 0;
+    }
+
+    /**
+     * Find the first applicable response, in configuration order.
+     *
+     * @param context - JsonContext of variables,
+     * @return applicable ResponseDescription or null.
+     */
+    ResponseDescription match(JsonContext context) {
+        Object actual = discriminator == null ? null : context.get(discriminator);
+        if (!(actual instanceof String)) {
+            for (ResponseDescription responseDescription : responses) {
+                if (isApplicable(context, responseDescription)) {
+                    return responseDescription;
+                }
+            }
+            return null;
+        }
+        List<Integer> matched = decisionTable.getOrDefault(normalize((String) actual), Collections.emptyList());
+        int i = 0;
+        int j = 0;
+        while (i < matched.size() || j < unconstrained.size()) {
+            int index = j >= unconstrained.size()
+                    || (i < matched.size() && matched.get(i) < unconstrained.get(j))
+                    ? matched.get(i++) : unconstrained.get(j++);
+            ResponseDescription responseDescription = responses.get(index);
+            if (isApplicable(context, responseDescription)) {
+                return responseDescription;
+            }
+        }
+        return null;
+    }
+
+    List<ResponseDescription> getResponses() {
+        return responses;
+    }
+
+    private static boolean isApplicable(JsonContext context, ResponseDescription responseDescription) {
+        return ConditionsHelper.isApplicable(context, responseDescription.getResponseCondition()
+                .getConditionParameters());
+    }
+}
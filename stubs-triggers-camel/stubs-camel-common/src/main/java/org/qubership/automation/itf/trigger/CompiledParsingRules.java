@@ -0,0 +1,342 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger;
+
+import static org.qubership.automation.itf.trigger.camel.Helper.isTrue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import javax.xml.xpath.XPathExpressionException;
+
+import org.qubership.automation.itf.core.message.parser.Parser;
+import org.qubership.automation.itf.core.model.condition.parameter.ConditionParameter;
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.core.stub.fast.ResponseDescription;
+import org.qubership.automation.itf.core.stub.fast.StubEndpointConfig;
+import org.qubership.automation.itf.core.stub.parser.SimpleParsingRule;
+import org.qubership.automation.itf.core.util.config.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Parsing rules of a fast stub endpoint configuration, compiled once per configuration instance
+ * (the same way as {@link ConditionalResponsesIndex}).
+ *
+ * <p>Compilation:
+ * <ul>
+ *     <li>rules which variables aren't referenced by conditions, response templates and operation definition script
+ *     are skipped (if enabled by 'fast.stubs.parsing.skip-unreferenced' property, off by default), unless
+ *     a response of the endpoint may be reported, since parsed variables are reported; references are searched
+ *     conservatively: any occurrence of the variable name as a whole word, any reference to 'tc' context,
+ *     or any reference to 'sp' context other than its property (like '$sp.entrySet()' or '$sp.get($name)'),
+ *     keeps the rule,</li>
+ *     <li>if all remaining rules are supported by {@link RuleExtractor} (REGEX, XPATH and simple JSONPATH ones),
+ *     their expressions are compiled, and rules with the same expression are evaluated once. The message body
+ *     is parsed into DOM or JSON tree once per request, by {@link MessageDocument} shared by all rule sets.</li>
+ * </ul>
+ *
+ * <p>{@link Parser} remains the reference of parsing semantics: for the first parsings of each rule set
+ * (count is set by 'fast.stubs.parsing.verifications' property), the message is parsed by Parser too,
+ * and its result is used. If results differ, the rule set is parsed by Parser only since then.
+ * After that, each N-th parsing is verified the same way (N is set by 'fast.stubs.parsing.reverification-interval'
+ * property; 0 means verified rule sets are trusted permanently), so messages of a shape not met
+ * by the first parsings are verified too.
+ */
+public final class CompiledParsingRules {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledParsingRules.class);
+    private static final boolean SKIP_UNREFERENCED = Boolean.parseBoolean(Config.getConfig()
+            .getStringOrDefault("fast.stubs.parsing.skip-unreferenced", "false"));
+    private static final int VERIFICATIONS = Config.getConfig().getIntOrDefault("fast.stubs.parsing.verifications", 3);
+    private static final int REVERIFICATION_INTERVAL = Config.getConfig()
+            .getIntOrDefault("fast.stubs.parsing.reverification-interval", 100);
+    // Any 'tc' reference, or 'sp' reference other than '$sp.name' / '${sp.name}' property (not method) access
+    private static final Pattern WHOLE_CONTEXT_REFERENCE = Pattern.compile(
+            "\\$!?\\{?(?:tc\\b|sp\\b(?!\\.\\w++(?!\\s*\\()))");
+    private static final Cache<StubEndpointConfig, CompiledParsingRules> COMPILED = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+
+    private final RuleSet parsingRules;
+    private final Map<String, RuleSet> operationParsingRules = new HashMap<>();
+
+    private CompiledParsingRules(StubEndpointConfig cfg, boolean skipUnreferenced) {
+        Predicate<String> referenced = skipUnreferenced && !mayBeReported(cfg) ? referencedVariables(cfg)
+                : name -> true;
+        parsingRules = new RuleSet(cfg.getParsingRules(), referenced);
+        if (cfg.getOperationParsingRules() != null) {
+            cfg.getOperationParsingRules().forEach((key, rules) -> operationParsingRules.put(key,
+                    new RuleSet(rules, referenced)));
+        }
+    }
+
+    /**
+     * Get (or compile) parsing rules of the configuration.
+     *
+     * @param cfg - Stubs configuration,
+     * @return compiled parsing rules of the configuration.
+     */
+    public static CompiledParsingRules of(StubEndpointConfig cfg) {
+        CompiledParsingRules compiled = COMPILED.getIfPresent(cfg);
+        if (compiled == null) {
+            compiled = new CompiledParsingRules(cfg, SKIP_UNREFERENCED);
+            COMPILED.put(cfg, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Compile parsing rules of the configuration, regardless of 'fast.stubs.parsing.skip-unreferenced' property.
+     *
+     * @param cfg - Stubs configuration,
+     * @param skipUnreferenced - skip rules which variables aren't referenced, or not,
+     * @return compiled parsing rules of the configuration, not cached.
+     */
+    static CompiledParsingRules compile(StubEndpointConfig cfg, boolean skipUnreferenced) {
+        return new CompiledParsingRules(cfg, skipUnreferenced);
+    }
+
+    /**
+     * Parse the message by parsing rules of the configuration.
+     *
+     * @param message - incoming message,
+     * @param projectId - project id,
+     * @return JsonContext of parsed variables.
+     */
+    public JsonContext parse(Message message, BigInteger projectId) {
+        return parse(message, new MessageDocument(message.getText()), projectId);
+    }
+
+    /**
+     * Parse the message by parsing rules of the configuration.
+     *
+     * @param message - incoming message,
+     * @param document - body of the message, shared by all parsings of the request,
+     * @param projectId - project id,
+     * @return JsonContext of parsed variables.
+     */
+    public JsonContext parse(Message message, MessageDocument document, BigInteger projectId) {
+        return parsingRules.parse(message, document, projectId);
+    }
+
+    /**
+     * Parse the message by parsing rules of the operation.
+     *
+     * @param message - incoming message,
+     * @param document - body of the message, shared by all parsings of the request,
+     * @param operationDefinitionKey - operation definition key calculated for the request,
+     * @param projectId - project id,
+     * @return JsonContext of parsed variables, or null if there are no parsing rules for the operation.
+     */
+    public JsonContext parseOperation(Message message, MessageDocument document, String operationDefinitionKey,
+                                      BigInteger projectId) {
+        RuleSet ruleSet = operationParsingRules.get(operationDefinitionKey);
+        return ruleSet == null ? null : ruleSet.parse(message, document, projectId);
+    }
+
+    /**
+     * Get count of rules to be applied, of all rule sets.
+     *
+     * @return count of rules which aren't skipped.
+     */
+    int getAppliedRulesCount() {
+        return parsingRules.rules.size() + operationParsingRules.values().stream()
+                .mapToInt(ruleSet -> ruleSet.rules.size())
+                .sum();
+    }
+
+    /**
+     * Check if rules are parsed without Parser (after verification).
+     *
+     * @return true if all rule sets are compiled and aren't fallen back to Parser.
+     */
+    boolean isCompiled() {
+        return !parsingRules.parserOnly && operationParsingRules.values().stream()
+                .noneMatch(ruleSet -> ruleSet.parserOnly);
+    }
+
+    private static boolean mayBeReported(StubEndpointConfig cfg) {
+        if (mayBeReported(cfg, cfg.getDefaultResponse())) {
+            return true;
+        }
+        return cfg.getConditionalResponses() != null && cfg.getConditionalResponses().stream()
+                .anyMatch(responseDescription -> mayBeReported(cfg, responseDescription));
+    }
+
+    private static boolean mayBeReported(StubEndpointConfig cfg, ResponseDescription responseDescription) {
+        return responseDescription != null
+                && !FastStubsHelper.isReportingSkipped(responseDescription.getSkipReporting(), cfg.getSkipReporting());
+    }
+
+    private static Predicate<String> referencedVariables(StubEndpointConfig cfg) {
+        StringBuilder texts = new StringBuilder();
+        append(texts, cfg.getOperationDefinitionScript());
+        append(texts, cfg.getDefaultResponse());
+        if (cfg.getConditionalResponses() != null) {
+            cfg.getConditionalResponses().forEach(responseDescription -> append(texts, responseDescription));
+        }
+        String allTexts = texts.toString();
+        if (WHOLE_CONTEXT_REFERENCE.matcher(allTexts).find()) {
+            return name -> true;
+        }
+        return name -> name == null || Pattern.compile("(?<!\\w)" + Pattern.quote(name) + "(?!\\w)")
+                .matcher(allTexts).find();
+    }
+
+    private static void append(StringBuilder texts, ResponseDescription responseDescription) {
+        if (responseDescription == null) {
+            return;
+        }
+        append(texts, responseDescription.getName());
+        append(texts, responseDescription.getBody());
+        append(texts, responseDescription.getResponseCode());
+        if (responseDescription.getHeaders() != null) {
+            responseDescription.getHeaders().values().forEach(value -> append(texts, String.valueOf(value)));
+        }
+        if (responseDescription.getResponseCondition() != null
+                && responseDescription.getResponseCondition().getConditionParameters() != null) {
+            for (ConditionParameter parameter : responseDescription.getResponseCondition().getConditionParameters()) {
+                append(texts, parameter.getName());
+                append(texts, parameter.getValue());
+            }
+        }
+    }
+
+    private static void append(StringBuilder texts, String text) {
+        if (text != null) {
+            texts.append(text).append('\n');
+        }
+    }
+
+    /*
+        Rules applied together, by one Parser call.
+     */
+    private static final class RuleSet {
+
+        private final List<SimpleParsingRule> rules = new ArrayList<>();
+        private final Map<RuleExtractor, List<SimpleParsingRule>> extractors;
+        private final AtomicInteger verificationsLeft = new AtomicInteger(VERIFICATIONS);
+        private final AtomicLong trustedParsings = new AtomicLong();
+        private volatile boolean parserOnly;
+
+        RuleSet(List<SimpleParsingRule> allRules, Predicate<String> referenced) {
+            if (allRules != null) {
+                for (SimpleParsingRule rule : allRules) {
+                    if (referenced.test(rule.getParamName())) {
+                        rules.add(rule);
+                    }
+                }
+            }
+            extractors = compile(rules);
+            parserOnly = extractors == null;
+        }
+
+        /*
+            Rules are grouped by parsing type and expression, so each expression is evaluated once;
+            null is returned if some rule can't be applied without Parser.
+         */
+        private static Map<RuleExtractor, List<SimpleParsingRule>> compile(List<SimpleParsingRule> rules) {
+            Map<String, List<SimpleParsingRule>> byExpression = new LinkedHashMap<>();
+            Map<String, RuleExtractor> compiled = new HashMap<>();
+            for (SimpleParsingRule rule : rules) {
+                String parsingType = String.valueOf(rule.getParsingType());
+                String key = parsingType + ':' + rule.getExpression();
+                if (!compiled.containsKey(key)) {
+                    RuleExtractor extractor = RuleExtractor.compile(parsingType, rule.getExpression());
+                    if (extractor == null) {
+                        // Unsupported rules and errors in expressions are left to Parser
+                        return null;
+                    }
+                    compiled.put(key, extractor);
+                }
+                byExpression.computeIfAbsent(key, expression -> new ArrayList<>()).add(rule);
+            }
+            Map<RuleExtractor, List<SimpleParsingRule>> extractors = new LinkedHashMap<>();
+            byExpression.forEach((key, sameRules) -> extractors.put(compiled.get(key),
+                    Collections.unmodifiableList(sameRules)));
+            return extractors;
+        }
+
+        JsonContext parse(Message message, MessageDocument document, BigInteger projectId) {
+            if (rules.isEmpty()) {
+                return new JsonContext();
+            }
+            JsonContext extracted = parserOnly || document.getText() == null ? null : extract(document);
+            if (extracted == null) {
+                return new Parser().parseToJsonContext(message, rules, projectId);
+            }
+            if (verificationsLeft.get() <= 0 && (REVERIFICATION_INTERVAL <= 0
+                    || trustedParsings.incrementAndGet() % REVERIFICATION_INTERVAL != 0)) {
+                return extracted;
+            }
+            JsonContext expected = new Parser().parseToJsonContext(message, rules, projectId);
+            if (expected.equals(extracted)) {
+                verificationsLeft.decrementAndGet();
+            } else {
+                parserOnly = true;
+                LOGGER.warn("Compiled parsing rules {} differ from Parser: {} vs {}; Parser is used since now",
+                        rules.stream().map(SimpleParsingRule::getParamName).toArray(), extracted, expected);
+            }
+            return expected;
+        }
+
+        /*
+            Returns null if the message can't be parsed as required by some rule.
+         */
+        private JsonContext extract(MessageDocument document) {
+            JsonContext context = new JsonContext();
+            for (Map.Entry<RuleExtractor, List<SimpleParsingRule>> extractor : extractors.entrySet()) {
+                boolean multiple = extractor.getValue().stream().anyMatch(rule -> isTrue(rule.getMultiple()));
+                List<String> values;
+                try {
+                    values = extractor.getKey().extract(document, multiple);
+                } catch (XPathExpressionException | RuntimeException e) {
+                    parserOnly = true;
+                    LOGGER.warn("Compiled parsing rules {} can't be evaluated; Parser is used since now",
+                            rules.stream().map(SimpleParsingRule::getParamName).toArray(), e);
+                    return null;
+                }
+                if (values == null) {
+                    return null;
+                }
+                if (values.isEmpty()) {
+                    continue;
+                }
+                for (SimpleParsingRule rule : extractor.getValue()) {
+                    context.put(rule.getParamName(), isTrue(rule.getMultiple())
+                            ? new ArrayList<>(values) : values.get(0));
+                }
+            }
+            return context;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger;
+
+import static org.qubership.automation.itf.trigger.camel.Helper.isTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.core.stub.fast.ResponseDescription;
+import org.qubership.automation.itf.core.stub.fast.StubEndpointConfig;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Immutable index of enabled conditional responses of a fast stub endpoint configuration,
+ * by operation definition key. Order of responses is the same as in the configuration.
+ * Indexes are built once per configuration instance; configuration reloaded into FastResponseConfigsHolder
+ * is a new instance, so it gets a new index, and the old one is garbage collected together with the old config.
+ */
+public final class ConditionalResponsesIndex {
+
+    private static final Cache<StubEndpointConfig, ConditionalResponsesIndex> INDEXES = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+
+    private static final CompiledConditionalResponses NO_RESPONSES =
+            new CompiledConditionalResponses(Collections.emptyList());
+
+    private final CompiledConditionalResponses allResponses;
+    private final Map<String, CompiledConditionalResponses> responsesByOperation;
+
+    private ConditionalResponsesIndex(StubEndpointConfig cfg) {
+        List<ResponseDescription> all = new ArrayList<>();
+        Map<String, List<ResponseDescription>> byOperation = new HashMap<>();
+        if (cfg.getConditionalResponses() != null) {
+            for (ResponseDescription responseDescription : cfg.getConditionalResponses()) {
+                if (isTrue(responseDescription.getDisabled())) {
+                    continue;
+                }
+                all.add(responseDescription);
+                String operationDefinitionKey = responseDescription.getResponseCondition().getOperationDefinitionKey();
+                if (operationDefinitionKey != null) {
+                    byOperation.computeIfAbsent(operationDefinitionKey, key -> new ArrayList<>())
+                            .add(responseDescription);
+                }
+            }
+        }
+        Map<String, CompiledConditionalResponses> compiledByOperation = new HashMap<>();
+        byOperation.forEach((key, responses) -> compiledByOperation.put(key,
+                new CompiledConditionalResponses(responses)));
+        this.allResponses = new CompiledConditionalResponses(all);
+        this.responsesByOperation = Collections.unmodifiableMap(compiledByOperation);
+    }
+
+    /**
+     * Get (or build) index of the configuration.
+     *
+     * @param cfg - Stubs configuration,
+     * @return index of conditional responses of the configuration.
+     */
+    public static ConditionalResponsesIndex of(StubEndpointConfig cfg) {
+        ConditionalResponsesIndex index = INDEXES.getIfPresent(cfg);
+        if (index == null) {
+            index = new ConditionalResponsesIndex(cfg);
+            INDEXES.put(cfg, index);
+        }
+        return index;
+    }
+
+    /**
+     * Find the first applicable enabled conditional response for the operation.
+     *
+     * @param context - JsonContext of variables,
+     * @param operationDefinitionKey - operation definition key calculated for the request,
+     * @return applicable ResponseDescription or null.
+     */
+    public ResponseDescription match(JsonContext context, String operationDefinitionKey) {
+        return getCompiled(operationDefinitionKey).match(context);
+    }
+
+    /**
+     * Get enabled conditional responses to be checked for the operation.
+     *
+     * @param operationDefinitionKey - operation definition key calculated for the request,
+     * @return all enabled responses if the key is empty, otherwise responses of the operation only.
+     */
+    public List<ResponseDescription> getCandidates(String operationDefinitionKey) {
+        return getCompiled(operationDefinitionKey).getResponses();
+    }
+
+    private CompiledConditionalResponses getCompiled(String operationDefinitionKey) {
+        return StringUtils.isEmpty(operationDefinitionKey)
+                ? allResponses
+                : responsesByOperation.getOrDefault(operationDefinitionKey, NO_RESPONSES);
+    }
+}
@@ -30,12 +30,15 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jms.core.JmsTemplate;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
 @RequiredArgsConstructor
 public class FastStubsConfiguration {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${message-broker.url}")
     private String brokerUrl;
     @Value("${message-broker.reports.useCompression}")
@@ -51,7 +54,9 @@ public class FastStubsConfiguration {
 
     @Bean
     public VelocityTemplateEngine fastStubVelocityTemplateEngine() {
-        return new VelocityTemplateEngine();
+        VelocityTemplateEngine velocityTemplateEngine = new VelocityTemplateEngine();
+        velocityTemplateEngine.bindCacheMetrics(meterRegistry);
+        return velocityTemplateEngine;
     }
 
     /**
@@ -17,8 +17,6 @@
 
 package org.qubership.automation.itf.trigger;
 
-import static org.qubership.automation.itf.trigger.camel.Helper.isTrue;
-
 import java.util.Date;
 
 import javax.jms.JMSException;
@@ -28,7 +26,6 @@ import org.apache.activemq.command.ActiveMQTextMessage;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.atp.multitenancy.core.header.CustomHeader;
-import org.qubership.automation.itf.core.model.condition.ConditionsHelper;
 import org.qubership.automation.itf.core.model.jpa.context.InstanceContext;
 import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
 import org.qubership.automation.itf.core.model.jpa.context.TcContext;
@@ -43,6 +40,8 @@ import org.qubership.automation.itf.core.util.descriptor.StorableDescriptor;
 import org.qubership.automation.itf.core.util.engine.TemplateEngineFactory;
 import org.qubership.automation.itf.trigger.camel.ToReportingMessageSender;
 import org.qubership.automation.itf.trigger.template.velocity.VelocityTemplateEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -52,6 +51,7 @@ import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 
 public class FastStubsHelper {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FastStubsHelper.class);
     private static final ObjectMapper reportingObjectMapper;
 
     static {
@@ -66,27 +66,12 @@ public class FastStubsHelper {
      *
      * @param context - JsonContext of variables,
      * @param cfg - Stubs configuration,
+     * @param operationDefinitionKey - operation definition key calculated for the request,
      * @return ResponseDescription if conditions are evaluated to true, null otherwise.
      */
-    public static ResponseDescription checkConditions(JsonContext context, StubEndpointConfig cfg) {
-
-        if (cfg.getConditionalResponses() != null) {
-            for (ResponseDescription responseDescription : cfg.getConditionalResponses()) {
-                if (isTrue(responseDescription.getDisabled())) {
-                    continue;
-                }
-                if (StringUtils.isNotEmpty(cfg.getOperationDefinitionKey())
-                        && !cfg.getOperationDefinitionKey()
-                                .equals(responseDescription.getResponseCondition().getOperationDefinitionKey())) {
-                    continue;
-                }
-                if (ConditionsHelper.isApplicable(context,
-                        responseDescription.getResponseCondition().getConditionParameters())) {
-                    return responseDescription;
-                }
-            }
-        }
-        return null;
+    public static ResponseDescription checkConditions(JsonContext context, StubEndpointConfig cfg,
+                                                      String operationDefinitionKey) {
+        return ConditionalResponsesIndex.of(cfg).match(context, operationDefinitionKey);
     }
 
     /**
@@ -124,7 +109,8 @@ public class FastStubsHelper {
     }
 
     /**
-     * Compose combined message and send it to reporting.
+     * Enqueue combined message to be composed and sent to reporting asynchronously.
+     * Request thread only enqueues the report; message is composed and sent by reporting queue sender threads.
      *
      * @param incoming - incoming message,
      * @param outgoing - outgoing message,
@@ -133,17 +119,30 @@ public class FastStubsHelper {
      * @param endTime - end time of processing,
      * @param parsedContext - context of variables,
      * @param endPoint - configured endpoint,
-     * @throws JsonProcessingException - in case JSON serialization exceptions,
-     * @throws JMSException - in case exceptions while message composing and sending.
+     * @param responseDescription - response sent.
      */
     public static void sendMessageToReport(Message incoming,
-                                            Message outgoing,
-                                            StorableDescriptor triggerDescriptor,
-                                            Date startTime,
-                                            Date endTime,
-                                            JsonContext parsedContext,
-                                            String endPoint,
-                                           ResponseDescription responseDescription)
+                                           Message outgoing,
+                                           StorableDescriptor triggerDescriptor,
+                                           Date startTime,
+                                           Date endTime,
+                                           JsonContext parsedContext,
+                                           String endPoint,
+                                           ResponseDescription responseDescription) {
+        if (!ToReportingMessageSender.enqueueMessageToReportingQueueStatic(() -> composeReportMessage(incoming,
+                outgoing, triggerDescriptor, startTime, endTime, parsedContext, endPoint, responseDescription))) {
+            LOGGER.debug("Fast Stub report is dropped due to reporting queue overflow, endpoint {}", endPoint);
+        }
+    }
+
+    private static TextMessage composeReportMessage(Message incoming,
+                                                    Message outgoing,
+                                                    StorableDescriptor triggerDescriptor,
+                                                    Date startTime,
+                                                    Date endTime,
+                                                    JsonContext parsedContext,
+                                                    String endPoint,
+                                                    ResponseDescription responseDescription)
             throws JsonProcessingException, JMSException {
         TcContext tcContext = new TcContext();
         InstanceContext instanceContext = new InstanceContext();
@@ -189,13 +188,12 @@ public class FastStubsHelper {
                 + ", \"StepInstance\":" + reportingObjectMapper.writeValueAsString(stepInstance)
                 + "}";
 
-        TextMessage preparedMessage = FastStubsHelper.createTextMessage(
+        return FastStubsHelper.createTextMessage(
                 combinedMessage,
                 System.currentTimeMillis(),
                 Config.getConfig().getRunningHostname() + "/" + tcContext.getID(),
                 "combinedFastStubMessage",
                 triggerDescriptor.getProjectUuid().toString());
-        ToReportingMessageSender.sendMessageToReportingQueueStatic(preparedMessage);
     }
 
     private static SimpleFilterProvider configureFilterProvider() {
@@ -229,18 +227,18 @@ public class FastStubsHelper {
 
     /**
      * Evaluate OperationDefinitionKey against context.
+     * The key is request-specific, so it's returned instead of storing into shared cfg.
      *
      * @param cfg - Stub Endpoint Config,
-     * @param context - context object.
+     * @param context - context object,
+     * @return operation definition key, or null if operation definition script is empty.
      */
-    public static void recalculateOperationDefinitionKey(StubEndpointConfig cfg, JsonContext context) {
-        cfg.setOperationDefinitionKey(null);
-        if (StringUtils.isNotEmpty(cfg.getOperationDefinitionScript())) {
-            cfg.setOperationDefinitionKey(
-                ((VelocityTemplateEngine) TemplateEngineFactory.get())
-                        .process(cfg.getOperationDefinitionScript(), context).trim()
-            );
+    public static String calculateOperationDefinitionKey(StubEndpointConfig cfg, JsonContext context) {
+        if (StringUtils.isEmpty(cfg.getOperationDefinitionScript())) {
+            return null;
         }
+        return ((VelocityTemplateEngine) TemplateEngineFactory.get())
+                .process(cfg.getOperationDefinitionScript(), context).trim();
     }
 
 }
@@ -0,0 +1,343 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+
+/**
+ * Copy-on-write view of parsed variables.
+ *
+ * <p>Variables parsed from a fast stub request are put into the context itself and are duplicated
+ * into 'sp' and 'tc.saved' contexts. Instead of copies, all of them are views over the same base map
+ * of variables. Reads go to own entries of the view first, then to the base. Puts go to own entries
+ * of the view only; other modifications (remove, clear, compute...) copy the base into the view first.
+ * So, writes through one view are never visible in the others. The base must not be modified after
+ * views are created.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class LayeredJsonContext extends JsonContext {
+
+    private Map base;
+
+    /**
+     * Constructor.
+     *
+     * @param base - variables to read through; must not be modified after the view is created.
+     */
+    public LayeredJsonContext(Map base) {
+        this.base = base;
+    }
+
+    /**
+     * Build context of parsed variables with 'sp' and 'tc.saved' views of them,
+     * like it's done by executor for situation and test case contexts.
+     *
+     * @param variables - parsed variables; must not be modified after that,
+     * @return context containing the variables, 'sp' and 'tc' entries.
+     */
+    public static JsonContext withSpAndTc(JsonContext variables) {
+        JsonContext tc = new JsonContext();
+        tc.put("saved", new LayeredJsonContext(variables));
+        JsonContext context = new LayeredJsonContext(variables);
+        context.put("sp", new LayeredJsonContext(variables));
+        context.put("tc", tc);
+        return context;
+    }
+
+    /**
+     * Check if the view still reads through the base, i.e. it isn't copied yet.
+     *
+     * @return true if the base isn't copied into the view.
+     */
+    public boolean isShared() {
+        return base != null;
+    }
+
+    /*
+        Own entries are stored in the map itself; after copying, the view is a plain JsonContext.
+     */
+    private void copyBase() {
+        if (base != null) {
+            Map copied = base;
+            base = null;
+            for (Object entry : copied.entrySet()) {
+                Map.Entry baseEntry = (Map.Entry) entry;
+                if (!super.containsKey(baseEntry.getKey())) {
+                    super.put(baseEntry.getKey(), baseEntry.getValue());
+                }
+            }
+        }
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = super.get(key);
+        return value != null || base == null || super.containsKey(key) ? value : base.get(key);
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        return containsKey(key) ? get(key) : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return super.containsKey(key) || base != null && base.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return values().contains(value);
+    }
+
+    @Override
+    public int size() {
+        if (base == null) {
+            return super.size();
+        }
+        int size = base.size();
+        for (Object key : super.keySet()) {
+            if (!base.containsKey(key)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Set entrySet() {
+        return base == null ? super.entrySet() : new LayeredEntrySet();
+    }
+
+    @Override
+    public Set keySet() {
+        if (base == null) {
+            return super.keySet();
+        }
+        return new AbstractSet() {
+            @Override
+            public Iterator iterator() {
+                Iterator<Map.Entry> entries = entrySet().iterator();
+                return new Iterator() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Object next() {
+                        return entries.next().getKey();
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object key) {
+                return containsKey(key);
+            }
+
+            @Override
+            public int size() {
+                return LayeredJsonContext.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Collection values() {
+        if (base == null) {
+            return super.values();
+        }
+        return new AbstractCollection() {
+            @Override
+            public Iterator iterator() {
+                Iterator<Map.Entry> entries = entrySet().iterator();
+                return new Iterator() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Object next() {
+                        return entries.next().getValue();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return LayeredJsonContext.this.size();
+            }
+        };
+    }
+
+    @Override
+    public void forEach(BiConsumer action) {
+        for (Object entry : entrySet()) {
+            action.accept(((Map.Entry) entry).getKey(), ((Map.Entry) entry).getValue());
+        }
+    }
+
+    @Override
+    public Object put(Object key, Object value) {
+        Object previous = get(key);
+        super.put(key, value);
+        return previous;
+    }
+
+    @Override
+    public void putAll(Map map) {
+        for (Object entry : map.entrySet()) {
+            put(((Map.Entry) entry).getKey(), ((Map.Entry) entry).getValue());
+        }
+    }
+
+    @Override
+    public Object putIfAbsent(Object key, Object value) {
+        Object previous = get(key);
+        return previous == null ? put(key, value) : previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        copyBase();
+        return super.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        copyBase();
+        return super.remove(key, value);
+    }
+
+    @Override
+    public void clear() {
+        base = null;
+        super.clear();
+    }
+
+    @Override
+    public Object replace(Object key, Object value) {
+        copyBase();
+        return super.replace(key, value);
+    }
+
+    @Override
+    public boolean replace(Object key, Object oldValue, Object newValue) {
+        copyBase();
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public void replaceAll(BiFunction function) {
+        copyBase();
+        super.replaceAll(function);
+    }
+
+    @Override
+    public Object computeIfAbsent(Object key, Function mappingFunction) {
+        copyBase();
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public Object computeIfPresent(Object key, BiFunction remappingFunction) {
+        copyBase();
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public Object compute(Object key, BiFunction remappingFunction) {
+        copyBase();
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public Object merge(Object key, Object value, BiFunction remappingFunction) {
+        copyBase();
+        return super.merge(key, value, remappingFunction);
+    }
+
+    /*
+        Own entries, then base entries not overridden by own ones. Entries are read-only.
+     */
+    private class LayeredEntrySet extends AbstractSet {
+
+        @Override
+        public Iterator iterator() {
+            Iterator<Map.Entry> own = LayeredJsonContext.super.entrySet().iterator();
+            Iterator<Map.Entry> inherited = base.entrySet().iterator();
+            return new Iterator() {
+                private Map.Entry next;
+
+                @Override
+                public boolean hasNext() {
+                    if (next != null) {
+                        return true;
+                    }
+                    if (own.hasNext()) {
+                        Map.Entry entry = own.next();
+                        next = new AbstractMap.SimpleImmutableEntry(entry.getKey(), entry.getValue());
+                        return true;
+                    }
+                    while (inherited.hasNext()) {
+                        Map.Entry entry = inherited.next();
+                        if (!LayeredJsonContext.super.containsKey(entry.getKey())) {
+                            next = new AbstractMap.SimpleImmutableEntry(entry.getKey(), entry.getValue());
+                            return true;
+                        }
+                    }
+                    return false;
+                }
+
+                @Override
+                public Object next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Map.Entry entry = next;
+                    next = null;
+                    return entry;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return LayeredJsonContext.this.size();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Body of an incoming message, parsed lazily for parsing rules of a request.
+ *
+ * <p>The body is parsed into DOM (for XPath rules) or JsonNode (for JSONPath rules) on the first use only,
+ * so parse cost doesn't depend on the count of rules. The document is created per request and is released
+ * together with the request; it isn't thread-safe.
+ */
+public final class MessageDocument {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MessageDocument.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDERS = ThreadLocal.withInitial(
+            MessageDocument::createDocumentBuilder);
+
+    private final String text;
+    private Document xml;
+    private JsonNode json;
+    private boolean xmlParsed;
+    private boolean jsonParsed;
+    private int parsings;
+
+    /**
+     * Constructor.
+     *
+     * @param text - body of the message.
+     */
+    public MessageDocument(String text) {
+        this.text = text;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Get body parsed as XML.
+     *
+     * @return DOM document, or null if the body isn't well-formed XML.
+     */
+    public Document getXml() {
+        if (!xmlParsed) {
+            xmlParsed = true;
+            parsings++;
+            DocumentBuilder documentBuilder = DOCUMENT_BUILDERS.get();
+            try {
+                xml = documentBuilder.parse(new InputSource(new StringReader(text)));
+            } catch (SAXException | IOException e) {
+                LOGGER.debug("Message body isn't parsed as XML: {}", e.getMessage());
+            } finally {
+                documentBuilder.reset();
+                documentBuilder.setErrorHandler(new DefaultHandler());
+            }
+        }
+        return xml;
+    }
+
+    /**
+     * Get body parsed as JSON.
+     *
+     * @return JSON tree, or null if the body isn't valid JSON.
+     */
+    public JsonNode getJson() {
+        if (!jsonParsed) {
+            jsonParsed = true;
+            parsings++;
+            try {
+                json = OBJECT_MAPPER.readTree(text);
+            } catch (IOException e) {
+                LOGGER.debug("Message body isn't parsed as JSON: {}", e.getMessage());
+            }
+        }
+        return json;
+    }
+
+    /**
+     * Get count of body parsings (XML and JSON) done by the document.
+     *
+     * @return count of parsings, 2 at most.
+     */
+    int getParsings() {
+        return parsings;
+    }
+
+    /*
+        DOCTYPE declarations are disallowed, so external entities aren't resolved;
+        such messages are left to Parser.
+     */
+    private static DocumentBuilder createDocumentBuilder() {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        try {
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setExpandEntityReferences(false);
+            DocumentBuilder documentBuilder = factory.newDocumentBuilder();
+            documentBuilder.setErrorHandler(new DefaultHandler());
+            return documentBuilder;
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("XML document builder can't be configured", e);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Precompiled expression of a parsing rule, evaluated against a {@link MessageDocument}.
+ *
+ * <p>Value of a rule is: for REGEX - the first group of the match (or the whole match if there are no groups),
+ * for XPATH - text content of the node, for JSONPATH - text of the value node (or JSON of the container node).
+ * Multiple rules get the list of values of all matches, others get the value of the first match.
+ */
+interface RuleExtractor {
+
+    String REGEX = "REGEX";
+    String XPATH = "XPATH";
+    String JSONPATH = "JSONPATH";
+
+    /**
+     * Evaluate the expression.
+     *
+     * @param document - parsed message,
+     * @param multiple - collect values of all matches or the first one only,
+     * @return values found, or null if the message can't be parsed as required by the expression.
+     * @throws XPathExpressionException - if XPath expression can't be evaluated.
+     */
+    List<String> extract(MessageDocument document, boolean multiple) throws XPathExpressionException;
+
+    /**
+     * Compile the expression of a rule.
+     *
+     * @param parsingType - parsing type of the rule,
+     * @param expression - expression of the rule,
+     * @return compiled extractor, or null if the rule isn't supported or its expression is invalid.
+     */
+    static RuleExtractor compile(String parsingType, String expression) {
+        if (expression == null) {
+            return null;
+        }
+        switch (parsingType) {
+            case REGEX:
+                try {
+                    return new RegexExtractor(Pattern.compile(expression));
+                } catch (PatternSyntaxException e) {
+                    return null;
+                }
+            case XPATH:
+                return XPathExtractor.compile(expression);
+            case JSONPATH:
+                return JsonPathExtractor.compile(expression);
+            default:
+                return null;
+        }
+    }
+
+    final class RegexExtractor implements RuleExtractor {
+
+        private final Pattern pattern;
+
+        private RegexExtractor(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        public List<String> extract(MessageDocument document, boolean multiple) {
+            List<String> values = new ArrayList<>();
+            Matcher matcher = pattern.matcher(document.getText());
+            while (matcher.find()) {
+                values.add(matcher.groupCount() > 0 ? matcher.group(1) : matcher.group());
+                if (!multiple) {
+                    break;
+                }
+            }
+            return values;
+        }
+    }
+
+    /*
+        XPathExpression isn't thread-safe, so the expression is compiled once for validation
+        and then once per thread.
+     */
+    final class XPathExtractor implements RuleExtractor {
+
+        private final ThreadLocal<XPathExpression> expressions;
+
+        private XPathExtractor(String expression) {
+            this.expressions = ThreadLocal.withInitial(() -> {
+                try {
+                    return compileExpression(expression);
+                } catch (XPathExpressionException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        private static XPathExtractor compile(String expression) {
+            try {
+                compileExpression(expression);
+                return new XPathExtractor(expression);
+            } catch (XPathExpressionException e) {
+                return null;
+            }
+        }
+
+        private static XPathExpression compileExpression(String expression) throws XPathExpressionException {
+            return XPathFactory.newInstance().newXPath().compile(expression);
+        }
+
+        @Override
+        public List<String> extract(MessageDocument document, boolean multiple) throws XPathExpressionException {
+            Document xml = document.getXml();
+            if (xml == null) {
+                return null;
+            }
+            NodeList nodes = (NodeList) expressions.get().evaluate(xml, XPathConstants.NODESET);
+            int count = multiple ? nodes.getLength() : Math.min(1, nodes.getLength());
+            List<String> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(nodes.item(i).getTextContent());
+            }
+            return values;
+        }
+    }
+
+    /*
+        Subset of JSONPath is supported: root '$', child '.name' or ['name'], array index [n], wildcards
+        '.*' and [*]. Other expressions (deep scan, filters, slices, functions) are left to Parser.
+     */
+    final class JsonPathExtractor implements RuleExtractor {
+
+        private static final Pattern STEP = Pattern.compile(
+                "\\.([A-Za-z_$][\\w$-]*)|\\.\\*|\\['([^'\\\\]*)']|\\[(\\d+)]|\\[\\*]");
+
+        private final List<Object> steps;
+
+        private JsonPathExtractor(List<Object> steps) {
+            this.steps = Collections.unmodifiableList(steps);
+        }
+
+        /*
+            Steps are field names (String), array indexes (Integer) and wildcards (null).
+         */
+        private static JsonPathExtractor compile(String expression) {
+            if (!expression.startsWith("$")) {
+                return null;
+            }
+            List<Object> steps = new ArrayList<>();
+            Matcher matcher = STEP.matcher(expression);
+            int position = 1;
+            while (position < expression.length()) {
+                if (!matcher.find(position) || matcher.start() != position) {
+                    return null;
+                }
+                if (matcher.group(1) != null) {
+                    steps.add(matcher.group(1));
+                } else if (matcher.group(2) != null) {
+                    steps.add(matcher.group(2));
+                } else if (matcher.group(3) != null) {
+                    steps.add(Integer.valueOf(matcher.group(3)));
+                } else {
+                    steps.add(null);
+                }
+                position = matcher.end();
+            }
+            return new JsonPathExtractor(steps);
+        }
+
+        @Override
+        public List<String> extract(MessageDocument document, boolean multiple) {
+            JsonNode json = document.getJson();
+            if (json == null) {
+                return null;
+            }
+            List<JsonNode> nodes = Collections.singletonList(json);
+            for (Object step : steps) {
+                List<JsonNode> next = new ArrayList<>();
+                for (JsonNode node : nodes) {
+                    if (step == null) {
+                        node.elements().forEachRemaining(next::add);
+                    } else {
+                        JsonNode child = step instanceof Integer ? node.get((Integer) step) : node.get((String) step);
+                        if (child != null) {
+                            next.add(child);
+                        }
+                    }
+                }
+                nodes = next;
+            }
+            int count = multiple ? nodes.size() : Math.min(1, nodes.size());
+            List<String> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                JsonNode node = nodes.get(i);
+                values.add(node.isValueNode() ? node.asText() : node.toString());
+            }
+            return values;
+        }
+    }
+}
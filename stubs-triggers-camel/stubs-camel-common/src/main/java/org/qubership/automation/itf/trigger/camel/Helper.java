@@ -25,21 +25,11 @@ import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.automation.itf.JvmSettings;
 import org.qubership.automation.itf.core.util.config.Config;
-import org.springframework.beans.factory.annotation.Value;
 
 import com.google.common.collect.Maps;
 
 public class Helper {
 
-    @Value("${lock.provider.check.interval:100}")
-    private static int lockProviderCheckInterval;
-
-    @Value("${lock.provider.check.maxInterval:800}")
-    private static int lockProviderCheckMaxInterval;
-
-    @Value("${lock.provider.check.multiplier:1.2}")
-    private static float lockProviderCheckMultiplier;
-
     /**
      * Fill Camel route URL parameters from properties map, for not empty keys/values.
      */
@@ -84,18 +74,6 @@ public class Helper {
         return Config.getConfig().getRunningHostname();
     }
 
-    public static int getLockProviderCheckInterval() {
-        return lockProviderCheckInterval;
-    }
-
-    public static int getLockProviderCheckMaxInterval() {
-        return lockProviderCheckMaxInterval;
-    }
-
-    public static float getLockProviderCheckMultiplier() {
-        return lockProviderCheckMultiplier;
-    }
-
     public static boolean isTrue(Boolean value) {
         return value != null && value;
     }
@@ -0,0 +1,100 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger.camel;
+
+import java.util.Arrays;
+
+import org.apache.camel.Exchange;
+import org.qubership.automation.itf.core.model.communication.TransportType;
+import org.qubership.automation.itf.monitoring.metrics.MetricsAggregateService;
+
+/**
+ * Durations of request processing phases, stored in the Camel exchange.
+ *
+ * <p>Phases are measured as System.nanoTime() deltas: the caller takes the phase start time
+ * and passes it to {@link #add(Exchange, RequestPhase, long)} when the phase is completed.
+ * If timings aren't started for the exchange, nothing is measured. Time not covered by any phase
+ * (logging, filters, etc.) is recorded as {@link RequestPhase#OTHER}, so phases sum up to the total time.
+ */
+public class PhaseTimings {
+
+    public static final String EXCHANGE_PROPERTY = "itfPhaseTimings";
+    private static final long NOT_MEASURED = -1L;
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+
+    private final long started = System.nanoTime();
+    private final long[] durations = new long[PHASES.length];
+
+    private PhaseTimings() {
+        Arrays.fill(durations, NOT_MEASURED);
+    }
+
+    /**
+     * Start measuring of request processing phases for the exchange.
+     *
+     * @param exchange - Camel exchange.
+     */
+    public static void start(Exchange exchange) {
+        exchange.setProperty(EXCHANGE_PROPERTY, new PhaseTimings());
+    }
+
+    /**
+     * Add duration of the phase completed now.
+     *
+     * @param exchange - Camel exchange,
+     * @param phase - completed phase,
+     * @param phaseStarted - System.nanoTime() value at the phase start.
+     */
+    public static void add(Exchange exchange, RequestPhase phase, long phaseStarted) {
+        PhaseTimings timings = exchange.getProperty(EXCHANGE_PROPERTY, PhaseTimings.class);
+        if (timings != null) {
+            timings.add(phase, System.nanoTime() - phaseStarted);
+        }
+    }
+
+    /**
+     * Record durations of measured phases and stop measuring for the exchange.
+     *
+     * @param exchange - Camel exchange,
+     * @param transportType - transport type of the trigger.
+     */
+    public static void record(Exchange exchange, TransportType transportType) {
+        Object property = exchange.removeProperty(EXCHANGE_PROPERTY);
+        if (!(property instanceof PhaseTimings)) {
+            return;
+        }
+        PhaseTimings timings = (PhaseTimings) property;
+        long total = System.nanoTime() - timings.started;
+        long measured = 0;
+        for (RequestPhase phase : PHASES) {
+            long duration = timings.durations[phase.ordinal()];
+            if (duration != NOT_MEASURED && phase != RequestPhase.OTHER) {
+                measured += duration;
+                MetricsAggregateService.recordIncomingRequestPhaseDuration(transportType, phase.getValue(),
+                        duration);
+            }
+        }
+        MetricsAggregateService.recordIncomingRequestPhaseDuration(transportType, RequestPhase.OTHER.getValue(),
+                Math.max(0, total - measured));
+    }
+
+    private void add(RequestPhase phase, long duration) {
+        int index = phase.ordinal();
+        durations[index] = durations[index] == NOT_MEASURED ? duration : durations[index] + duration;
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger.camel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded queue of reports, drained by dedicated sender threads.
+ *
+ * <p>Request threads only enqueue report builders; building, serialization and sending of reports are performed
+ * by sender threads, in batches of up to batchSize reports. When the queue is full, the overflow policy is applied.
+ * The queue is lock-free: capacity is reserved via atomic counter, so enqueue never waits for sender threads
+ * (except the BLOCK policy, which waits for free space up to blockTimeout).
+ * Idle sender threads are blocked until a report is enqueued.
+ */
+public class ReportingQueue {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportingQueue.class);
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT = 5000;
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int DROP_OLDEST_ATTEMPTS = 3;
+
+    private final Queue<Callable<Object>> queue = new ConcurrentLinkedQueue<>();
+    private final Semaphore signal = new Semaphore(0);
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong droppedOldest = new AtomicLong();
+    private final AtomicLong droppedNew = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final int batchSize;
+    private final Consumer<List<Object>> sender;
+    private final List<Thread> senderThreads = new ArrayList<>();
+    private volatile boolean running = true;
+
+    /**
+     * Constructor. Sender threads are started immediately.
+     *
+     * @param capacity - max count of reports waiting to be sent,
+     * @param overflowPolicy - what to do with a new report when the queue is full,
+     * @param blockTimeout - max waiting time for free space, in milliseconds (BLOCK policy only),
+     * @param batchSize - max count of reports sent at once,
+     * @param sendersCount - count of sender threads,
+     * @param sender - sender of a batch of built reports.
+     */
+    public ReportingQueue(int capacity, OverflowPolicy overflowPolicy, long blockTimeout, int batchSize,
+                          int sendersCount, Consumer<List<Object>> sender) {
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeout);
+        this.batchSize = batchSize;
+        this.sender = sender;
+        for (int i = 0; i < sendersCount; i++) {
+            Thread thread = new Thread(this::drain, "reportingQueueSender-" + i);
+            thread.setDaemon(true);
+            senderThreads.add(thread);
+            thread.start();
+        }
+    }
+
+    /**
+     * Enqueue report builder. Builder is invoked later by a sender thread.
+     *
+     * @param report - report builder,
+     * @return true if the report is enqueued, false if it's dropped due to queue overflow.
+     */
+    public boolean offer(Callable<Object> report) {
+        if (tryReserve()) {
+            return enqueue(report);
+        }
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                // Space is reserved before a report is put into the queue, so the queue may look full
+                // while it's (almost) empty; then the new report is dropped after a few short waits.
+                for (int attempt = 0; attempt < DROP_OLDEST_ATTEMPTS; attempt++) {
+                    if (queue.poll() != null) {
+                        // Space of the dropped report is taken by the new one.
+                        droppedOldest.incrementAndGet();
+                        return enqueue(report);
+                    }
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                    if (tryReserve()) {
+                        return enqueue(report);
+                    }
+                }
+                droppedNew.incrementAndGet();
+                return false;
+            case BLOCK:
+                long deadline = System.nanoTime() + blockTimeoutNanos;
+                while (System.nanoTime() < deadline) {
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                    if (tryReserve()) {
+                        return enqueue(report);
+                    }
+                }
+                droppedNew.incrementAndGet();
+                return false;
+            case DROP_NEW:
+            default:
+                droppedNew.incrementAndGet();
+                return false;
+        }
+    }
+
+    /**
+     * Stop sender threads, waiting up to 5 seconds while reports already enqueued are sent.
+     *
+     * @return true if all enqueued reports are processed, false if the timeout is elapsed.
+     */
+    public boolean shutdown() {
+        return shutdown(DEFAULT_SHUTDOWN_TIMEOUT);
+    }
+
+    /**
+     * Stop sender threads. Reports already enqueued are sent before the threads exit;
+     * the caller waits for it up to the timeout. Reports still enqueued after the timeout are lost.
+     *
+     * @param timeout - max waiting time, in milliseconds,
+     * @return true if all enqueued reports are processed, false if the timeout is elapsed.
+     */
+    public boolean shutdown(long timeout) {
+        running = false;
+        signal.release(senderThreads.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        try {
+            for (Thread thread : senderThreads) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining > 0) {
+                    thread.join(remaining);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (size.get() > 0 || senderThreads.stream().anyMatch(Thread::isAlive)) {
+            LOGGER.warn("{} report(s) are not sent to reporting queue within shutdown timeout", size.get());
+            return false;
+        }
+        return true;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public long getEnqueuedCount() {
+        return enqueued.get();
+    }
+
+    public long getSentCount() {
+        return sent.get();
+    }
+
+    public long getDroppedOldestCount() {
+        return droppedOldest.get();
+    }
+
+    public long getDroppedNewCount() {
+        return droppedNew.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    private boolean tryReserve() {
+        int current;
+        do {
+            current = size.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!size.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private boolean enqueue(Callable<Object> report) {
+        queue.offer(report);
+        enqueued.incrementAndGet();
+        signal.release();
+        return true;
+    }
+
+    private void drain() {
+        List<Object> batch = new ArrayList<>(batchSize);
+        while (true) {
+            Callable<Object> report;
+            while (batch.size() < batchSize && (report = queue.poll()) != null) {
+                size.decrementAndGet();
+                try {
+                    batch.add(report.call());
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                    LOGGER.error("Error while building report", e);
+                }
+            }
+            if (!batch.isEmpty()) {
+                send(batch);
+                batch = new ArrayList<>(batchSize);
+            } else if (running) {
+                // Permits of reports already taken by this or other senders are dropped: the queue is drained
+                // until empty after each wakeup, so one permit is enough to not miss a report.
+                signal.acquireUninterruptibly();
+                signal.drainPermits();
+                if (!running) {
+                    // Pass shutdown signal to other senders, its permits could be drained above.
+                    signal.release();
+                }
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void send(List<Object> batch) {
+        try {
+            sender.accept(batch);
+            sent.addAndGet(batch.size());
+        } catch (Exception e) {
+            failed.addAndGet(batch.size());
+            LOGGER.error("Error while sending {} report(s) to reporting queue", batch.size(), e);
+        }
+    }
+
+    public enum OverflowPolicy {
+        BLOCK,
+        DROP_OLDEST,
+        DROP_NEW
+    }
+}
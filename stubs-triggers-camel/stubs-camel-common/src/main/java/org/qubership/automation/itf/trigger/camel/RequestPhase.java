@@ -0,0 +1,40 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger.camel;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Phases of inbound request processing, measured by {@link PhaseTimings}.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RequestPhase {
+
+    INCOMING_MESSAGE("incoming_message"),
+    FAST_STUB_PARSING("fast_stub_parsing"),
+    CONDITIONS_MATCHING("conditions_matching"),
+    FAST_RESPONSE_BUILDING("fast_response_building"),
+    EXECUTOR_SEND("executor_send"),
+    EXECUTOR_WAIT("executor_wait"),
+    RESPONSE_BUILDING("response_building"),
+    OTHER("other");
+
+    private final String value;
+}
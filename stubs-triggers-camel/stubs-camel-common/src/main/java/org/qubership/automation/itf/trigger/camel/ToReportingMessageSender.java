@@ -17,12 +17,23 @@
 
 package org.qubership.automation.itf.trigger.camel;
 
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.ToDoubleFunction;
+
+import javax.annotation.PreDestroy;
+
 import org.qubership.atp.multitenancy.interceptor.jms.AtpJmsTemplate;
+import org.qubership.automation.itf.monitoring.metrics.Metric;
+import org.qubership.automation.itf.monitoring.metrics.MetricTag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Component
 public class ToReportingMessageSender {
@@ -30,25 +41,48 @@ public class ToReportingMessageSender {
 
     private static AtpJmsTemplate reportsQueueJmsTemplateStatic;
     private static String reportsIntegrationQueueStatic;
+    private static ReportingQueue reportingQueueStatic;
 
     private AtpJmsTemplate reportsQueueJmsTemplate;
     private String reportsIntegrationQueue;
+    private ReportingQueue reportingQueue;
+    private long shutdownTimeout;
 
     /**
      * Constructor.
      *
      * @param reportsQueueJmsTemplate - JmsTemplate to send messages to reporting queue,
-     * @param reportsIntegrationQueue - Name of reporting queue.
+     * @param reportsIntegrationQueue - Name of reporting queue,
+     * @param queueCapacity - max count of reports waiting to be sent,
+     * @param overflowPolicy - what to do with a new report when the queue is full: BLOCK, DROP_OLDEST, DROP_NEW,
+     * @param blockTimeout - max waiting time for free space in the queue, in milliseconds (BLOCK policy only),
+     * @param batchSize - max count of reports taken by a sender thread at once,
+     * @param sendersCount - count of threads sending reports,
+     * @param shutdownTimeout - max waiting time for enqueued reports to be sent on shutdown, in milliseconds,
+     * @param meterRegistry - registry of metrics.
      */
     @Autowired
     @SuppressFBWarnings(value = "ST_WRITE_TO_STATIC_FROM_INSTANCE_METHOD",
             justification = "No way due to usage inside Camel .process() method")
     public ToReportingMessageSender(AtpJmsTemplate reportsQueueJmsTemplate,
-                                    @Value("${message-broker.reports.queue}") String reportsIntegrationQueue) {
+                                    @Value("${message-broker.reports.queue}") String reportsIntegrationQueue,
+                                    @Value("${message-broker.reports.queue-capacity:10000}") int queueCapacity,
+                                    @Value("${message-broker.reports.overflow-policy:DROP_OLDEST}")
+                                    ReportingQueue.OverflowPolicy overflowPolicy,
+                                    @Value("${message-broker.reports.block-timeout:1000}") long blockTimeout,
+                                    @Value("${message-broker.reports.batch-size:50}") int batchSize,
+                                    @Value("${message-broker.reports.senders-count:2}") int sendersCount,
+                                    @Value("${message-broker.reports.shutdown-timeout:5000}") long shutdownTimeout,
+                                    MeterRegistry meterRegistry) {
         this.reportsQueueJmsTemplate = reportsQueueJmsTemplate;
         this.reportsIntegrationQueue = reportsIntegrationQueue;
+        this.shutdownTimeout = shutdownTimeout;
+        this.reportingQueue = new ReportingQueue(queueCapacity, overflowPolicy, blockTimeout, batchSize,
+                sendersCount, this::sendMessagesToReportingQueue);
+        bindMetrics(meterRegistry, reportingQueue);
         reportsQueueJmsTemplateStatic = reportsQueueJmsTemplate;
         reportsIntegrationQueueStatic = reportsIntegrationQueue;
+        reportingQueueStatic = reportingQueue;
     }
 
     public void sendMessageToReportingQueue(Object message) {
@@ -58,4 +92,47 @@ public class ToReportingMessageSender {
     public static void sendMessageToReportingQueueStatic(Object message) {
         reportsQueueJmsTemplateStatic.convertAndSend(reportsIntegrationQueueStatic, message);
     }
+
+    /**
+     * Enqueue report to be built and sent to reporting queue asynchronously.
+     *
+     * @param report - builder of message to reporting queue,
+     * @return true if the report is enqueued, false if it's dropped due to queue overflow.
+     */
+    public static boolean enqueueMessageToReportingQueueStatic(Callable<Object> report) {
+        return reportingQueueStatic.offer(report);
+    }
+
+    /**
+     * Send messages to reporting queue one by one, via the same send path as single messages
+     * (so AtpJmsTemplate interception is applied to each of them).
+     *
+     * @param messages - messages to send.
+     */
+    public void sendMessagesToReportingQueue(List<Object> messages) {
+        messages.forEach(this::sendMessageToReportingQueue);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reportingQueue.shutdown(shutdownTimeout);
+    }
+
+    private static void bindMetrics(MeterRegistry meterRegistry, ReportingQueue queue) {
+        Gauge.builder(Metric.ATP_ITF_STUBS_REPORTING_QUEUE_SIZE.getValue(), queue, ReportingQueue::size)
+                .description("count of reports waiting to be sent")
+                .register(meterRegistry);
+        bindCounter(meterRegistry, queue, "sent", ReportingQueue::getSentCount);
+        bindCounter(meterRegistry, queue, "failed", ReportingQueue::getFailedCount);
+        bindCounter(meterRegistry, queue, "dropped_oldest", ReportingQueue::getDroppedOldestCount);
+        bindCounter(meterRegistry, queue, "dropped_new", ReportingQueue::getDroppedNewCount);
+    }
+
+    private static void bindCounter(MeterRegistry meterRegistry, ReportingQueue queue, String outcome,
+                                    ToDoubleFunction<ReportingQueue> count) {
+        FunctionCounter.builder(Metric.ATP_ITF_STUBS_REPORTING_QUEUE_REPORTS.getValue(), queue, count)
+                .description("total number of reports by outcome")
+                .tag(MetricTag.OUTCOME.getValue(), outcome)
+                .register(meterRegistry);
+    }
 }
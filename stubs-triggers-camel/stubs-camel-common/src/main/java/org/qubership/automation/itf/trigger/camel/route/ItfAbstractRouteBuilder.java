@@ -46,6 +46,8 @@ import org.qubership.automation.itf.core.util.config.Config;
 import org.qubership.automation.itf.core.util.descriptor.StorableDescriptor;
 import org.qubership.automation.itf.monitoring.metrics.MetricsAggregateService;
 import org.qubership.automation.itf.trigger.camel.Helper;
+import org.qubership.automation.itf.trigger.camel.PhaseTimings;
+import org.qubership.automation.itf.trigger.camel.RequestPhase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -99,11 +101,16 @@ public abstract class ItfAbstractRouteBuilder extends RouteBuilder {
             }
         }
         String brokerMessageSelectorValue = Helper.getBrokerMessageSelectorValue();
-        TriggerExecutionMessageSender.send(
-                new CommonTriggerExecutionMessage(
-                        transportClassName, message, triggerConfig, sessionId, brokerMessageSelectorValue
-                ), triggerConfig.getProjectUuid()
-        );
+        long phaseStarted = System.nanoTime();
+        CommonTriggerExecutionMessage executionMessage = new CommonTriggerExecutionMessage(
+                transportClassName, message, triggerConfig, sessionId, brokerMessageSelectorValue);
+        if (isResponseAwaited()) {
+            TriggerExecutionMessageSender.sendAndTrack(executionMessage, triggerConfig.getProjectUuid(),
+                    transportClassName);
+        } else {
+            TriggerExecutionMessageSender.send(executionMessage, triggerConfig.getProjectUuid());
+        }
+        PhaseTimings.add(exchange, RequestPhase.EXECUTOR_SEND, phaseStarted);
         LOGGER.debug("Project: {}, SessionId: {}, Broker Message Selector Value: {}, transport: '{}' - message to "
                         + "executor is sent.", triggerConfig.getProjectUuid(), sessionId, brokerMessageSelectorValue,
                 transportClassName);
@@ -125,6 +132,7 @@ public abstract class ItfAbstractRouteBuilder extends RouteBuilder {
                                           @Nonnull ConnectionProperties transportConfig,
                                           @Nonnull StorableDescriptor triggerConfig,
                                           @Nonnull String sessionId) throws Exception {
+        long phaseStarted = System.nanoTime();
         org.apache.camel.Message input = exchange.getIn();
         Object messageBody = input.getBody();
         Message message;
@@ -171,6 +179,7 @@ public abstract class ItfAbstractRouteBuilder extends RouteBuilder {
                 transportClassName, bodyLength);
         message.getConnectionProperties().putAll(transportConfig);
         message.getConnectionProperties().putAll(getAdditionalProperties(exchange));
+        PhaseTimings.add(exchange, RequestPhase.INCOMING_MESSAGE, phaseStarted);
         return message;
     }
 
@@ -194,6 +203,17 @@ public abstract class ItfAbstractRouteBuilder extends RouteBuilder {
                 projectUuid, sessionId, brokerMessageSelectorValue, transportClassName);
     }
 
+    /**
+     * Whether the route waits for executor response after the session is started.
+     * Round trips of such sessions are tracked, and they are sent via the synchronous lane
+     * (other sessions are sent via the one-way lane, see {@link TriggerExecutionMessageSender}).
+     *
+     * @return true if the response is awaited, false otherwise.
+     */
+    protected boolean isResponseAwaited() {
+        return false;
+    }
+
     public abstract Map<String, Object> getAdditionalProperties(Exchange exchange);
 
     public abstract List<String> getExcludeHeadersList();
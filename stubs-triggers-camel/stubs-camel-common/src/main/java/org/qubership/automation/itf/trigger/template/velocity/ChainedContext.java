@@ -0,0 +1,89 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger.template.velocity;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.velocity.context.AbstractContext;
+
+/**
+ * Velocity context of one render, chained over caller's variables and lazy toolbox instead of copying them.
+ *
+ * <p>Lookup order is the same as in ToolContext with user values overwriting tools: variables set by the template
+ * (#set, #foreach), then caller's variables, then tools. Variables set by the template are kept in the context
+ * itself, so caller's map isn't modified.
+ */
+class ChainedContext extends AbstractContext {
+
+    private final Map<?, ?> variables;
+    private final LazyToolbox toolbox;
+    private Map<String, Object> local;
+
+    /**
+     * Constructor.
+     *
+     * @param variables - caller's variables, read-only,
+     * @param toolbox - tools available to templates.
+     */
+    ChainedContext(Map<?, ?> variables, LazyToolbox toolbox) {
+        this.variables = variables;
+        this.toolbox = toolbox;
+    }
+
+    @Override
+    public Object internalGet(String key) {
+        if (local != null && local.containsKey(key)) {
+            return local.get(key);
+        }
+        Object value = variables.get(key);
+        return value != null ? value : toolbox.get(key);
+    }
+
+    @Override
+    public Object internalPut(String key, Object value) {
+        if (local == null) {
+            local = new HashMap<>();
+        }
+        return local.put(key, value);
+    }
+
+    @Override
+    public boolean internalContainsKey(Object key) {
+        return local != null && local.containsKey(key) || variables.containsKey(key)
+                || key instanceof String && toolbox.containsKey((String) key);
+    }
+
+    @Override
+    public Object[] internalGetKeys() {
+        Set<Object> keys = new LinkedHashSet<>();
+        if (local != null) {
+            keys.addAll(local.keySet());
+        }
+        keys.addAll(variables.keySet());
+        keys.addAll(toolbox.keySet());
+        return keys.toArray();
+    }
+
+    @Override
+    public Object internalRemove(Object key) {
+        return local == null ? null : local.remove(key);
+    }
+}
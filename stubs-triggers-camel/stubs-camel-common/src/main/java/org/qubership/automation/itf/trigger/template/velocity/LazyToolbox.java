@@ -0,0 +1,80 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger.template.velocity;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.velocity.tools.ToolInfo;
+import org.apache.velocity.tools.config.ToolConfiguration;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Toolbox of application-scoped Velocity tools, instantiated on first reference from a template
+ * and then shared by all renders (like application toolbox of ToolManager does).
+ * Request-scoped tools (which depend on the context of render) aren't supported.
+ */
+@Slf4j
+class LazyToolbox {
+
+    private final Map<String, ToolInfo> infos = new LinkedHashMap<>();
+    private final Map<String, Object> tools = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param classNames - class names of tools; keys of tools are default keys of their classes.
+     */
+    LazyToolbox(Iterable<String> classNames) {
+        for (String className : classNames) {
+            try {
+                ToolConfiguration toolConfiguration = new ToolConfiguration();
+                toolConfiguration.setClassname(className);
+                infos.put(toolConfiguration.getKey(), toolConfiguration.createInfo());
+            } catch (RuntimeException e) {
+                log.warn("Velocity tool {} can't be configured and is skipped", className, e);
+            }
+        }
+    }
+
+    /**
+     * Get the tool, creating it on the first call.
+     *
+     * @param key - key of the tool, like 'esc' or 'math',
+     * @return the tool, or null if there is no tool with the key.
+     */
+    Object get(String key) {
+        ToolInfo info = infos.get(key);
+        if (info == null) {
+            return null;
+        }
+        return tools.computeIfAbsent(key, toolKey -> info.create(Collections.emptyMap()));
+    }
+
+    boolean containsKey(String key) {
+        return infos.containsKey(key);
+    }
+
+    Set<String> keySet() {
+        return Collections.unmodifiableSet(infos.keySet());
+    }
+}
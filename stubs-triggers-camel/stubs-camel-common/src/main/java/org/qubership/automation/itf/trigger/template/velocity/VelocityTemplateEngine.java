@@ -19,16 +19,27 @@ package org.qubership.automation.itf.trigger.template.velocity;
 
 import static org.qubership.automation.itf.core.util.constants.InstanceSettingsConstants.VELOCITY_CONFIG;
 
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.velocity.Template;
 import org.apache.velocity.app.VelocityEngine;
 import org.apache.velocity.context.Context;
 import org.apache.velocity.exception.VelocityException;
+import org.apache.velocity.runtime.RuntimeServices;
 import org.apache.velocity.runtime.directive.Directive;
+import org.apache.velocity.runtime.parser.node.SimpleNode;
 import org.apache.velocity.tools.ToolManager;
 import org.apache.velocity.tools.config.Data;
 import org.apache.velocity.tools.config.FactoryConfiguration;
@@ -41,18 +52,108 @@ import org.qubership.automation.itf.core.util.engine.TemplateEngine;
 import org.qubership.automation.itf.core.util.helper.ClassResolver;
 
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class VelocityTemplateEngine implements TemplateEngine {
 
+    private static final String TEMPLATE_CACHE_SIZE_PROPERTY = "velocity.template.cache.size";
+    private static final int DEFAULT_TEMPLATE_CACHE_SIZE = 1000;
+    private static final String TEMPLATE_CACHE_NAME = "velocity.templates";
+    private static final String TOOLS_MODE_PROPERTY = "velocity.tools.mode";
+    private static final String FULL_TOOLS_MODE = "full";
+    private static final String LIGHTWEIGHT_TOOLS_PROPERTY = "velocity.tools.lightweight";
+    private static final String[] GENERIC_APPLICATION_TOOLS = {
+            "org.apache.velocity.tools.generic.AlternatorTool",
+            "org.apache.velocity.tools.generic.ClassTool",
+            "org.apache.velocity.tools.generic.ComparisonDateTool",
+            "org.apache.velocity.tools.generic.ConversionTool",
+            "org.apache.velocity.tools.generic.DisplayTool",
+            "org.apache.velocity.tools.generic.EscapeTool",
+            "org.apache.velocity.tools.generic.FieldTool",
+            "org.apache.velocity.tools.generic.MathTool",
+            "org.apache.velocity.tools.generic.NumberTool",
+            "org.apache.velocity.tools.generic.ResourceTool",
+            "org.apache.velocity.tools.generic.SortTool",
+            "org.apache.velocity.tools.generic.XmlTool"};
+    private static final String[] GENERIC_REQUEST_TOOLS = {
+            "org.apache.velocity.tools.generic.ContextTool",
+            "org.apache.velocity.tools.generic.LinkTool",
+            "org.apache.velocity.tools.generic.LoopTool",
+            "org.apache.velocity.tools.generic.RenderTool"};
+    private static final String[] STRUTS_REQUEST_TOOLS = {
+            "org.apache.velocity.tools.struts.ActionMessagesTool",
+            "org.apache.velocity.tools.struts.ErrorsTool",
+            "org.apache.velocity.tools.struts.FormTool",
+            "org.apache.velocity.tools.struts.MessageTool",
+            "org.apache.velocity.tools.struts.StrutsLinkTool",
+            "org.apache.velocity.tools.struts.TilesTool",
+            "org.apache.velocity.tools.struts.ValidatorTool"};
+    private static final String[] VIEW_REQUEST_TOOLS = {
+            "org.apache.velocity.tools.view.CookieTool",
+            "org.apache.velocity.tools.view.ImportTool",
+            "org.apache.velocity.tools.view.IncludeTool",
+            "org.apache.velocity.tools.view.LinkTool",
+            "org.apache.velocity.tools.view.PagerTool",
+            "org.apache.velocity.tools.view.ParameterTool",
+            "org.apache.velocity.tools.view.ViewContextTool",
+            "org.apache.velocity.tools.generic.ResourceTool"};
+    private static final String[] VIEW_SESSION_TOOLS = {
+            "org.apache.velocity.tools.view.BrowserTool"};
+    private static final String TOOLS_VERSION_KEY = "TOOLS_VERSION";
+    private static final String GENERIC_TOOLS_AVAILABLE_KEY = "GENERIC_TOOLS_AVAILABLE";
+    private static final String STRUTS_TOOLS_AVAILABLE_KEY = "STRUTS_TOOLS_AVAILABLE";
+    private static final String VIEW_TOOLS_AVAILABLE_KEY = "VIEW_TOOLS_AVAILABLE";
+
     private VelocityEngine engine;
+    /*
+        Full mode: ToolManager creates context with generic, struts and view toolboxes on each processing,
+        and variables are copied into it.
+        Lightweight mode: variables are wrapped by ChainedContext, and only tools of lazyToolbox are available.
+        Templates referencing keys which only full mode provides ($render, $loop, $link, struts and view tools...)
+        are processed in full mode, so lightweight mode doesn't change results of rendering.
+     */
     private ToolManager toolManager;
+    private LazyToolbox lazyToolbox;
+    private Pattern fullModeReference;
+    private RuntimeServices runtimeServices;
+    /*
+        Parsed templates, keyed by template text itself.
+        So, fast-stub bodies, headers and response codes are lexed and parsed once, not on each request.
+     */
+    private final Cache<String, Template> templateCache = CacheBuilder.newBuilder()
+            .maximumSize(Config.getConfig().getIntOrDefault(TEMPLATE_CACHE_SIZE_PROPERTY, DEFAULT_TEMPLATE_CACHE_SIZE))
+            .recordStats()
+            .build();
+    /*
+        Lightweight mode only: whether the template references keys which only full mode provides.
+     */
+    private final Cache<String, Boolean> fullModeTemplates = CacheBuilder.newBuilder()
+            .maximumSize(Config.getConfig().getIntOrDefault(TEMPLATE_CACHE_SIZE_PROPERTY, DEFAULT_TEMPLATE_CACHE_SIZE))
+            .build();
 
     /**
-     * Constructor.
+     * Constructor. Tools mode is set by 'velocity.tools.mode' property: 'lightweight' (default) or 'full'.
      */
     public VelocityTemplateEngine() {
+        this(!FULL_TOOLS_MODE.equalsIgnoreCase(Config.getConfig().getStringOrDefault(TOOLS_MODE_PROPERTY,
+                "lightweight")));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param lightweight - true to process templates in lightweight context with tools listed
+     *                    in 'velocity.tools.lightweight' property (generic application tools by default)
+     *                    unless they reference tools or data of full context only,
+     *                    false to process them in full context of Velocity Tools.
+     */
+    public VelocityTemplateEngine(boolean lightweight) {
         String velocityConfig = Config.getConfig().getString(VELOCITY_CONFIG);
 
         if (!Strings.isNullOrEmpty(velocityConfig)) {
@@ -73,6 +174,7 @@ public class VelocityTemplateEngine implements TemplateEngine {
             Explicit init of Velocity Tools 2.0 is implemented,
             instead of bundled tools.xml files parsing
             (after commons-beanutils upgrade to 1.9.4).
+            ToolManager is needed in lightweight mode too, for templates referencing full mode keys.
          */
         FactoryConfiguration factoryConfiguration = makeGenericFactoryConfig();
         factoryConfiguration.addConfiguration(makeStrutsFactoryConfig());
@@ -81,6 +183,74 @@ public class VelocityTemplateEngine implements TemplateEngine {
         toolManager = new ToolManager();
         toolManager.getToolboxFactory().configure(factoryConfiguration);
         toolManager.setVelocityEngine(engine);
+        if (lightweight) {
+            String lightweightTools = Config.getConfig().getStringOrDefault(LIGHTWEIGHT_TOOLS_PROPERTY, "");
+            lazyToolbox = new LazyToolbox(StringUtils.isBlank(lightweightTools)
+                    ? Arrays.asList(GENERIC_APPLICATION_TOOLS)
+                    : Arrays.asList(StringUtils.stripAll(lightweightTools.split(","))));
+            Set<String> fullModeKeys = getFullModeKeys();
+            fullModeKeys.removeAll(lazyToolbox.keySet());
+            fullModeReference = makeReferencePattern(fullModeKeys);
+            log.info("Velocity tools are in lightweight mode, tools available: {};"
+                    + " templates referencing {} are processed in full mode", lazyToolbox.keySet(), fullModeKeys);
+        }
+        runtimeServices = getRuntimeServices(engine);
+    }
+
+    /**
+     * Register template cache metrics (hits, misses, evictions, size) in the registry.
+     *
+     * @param meterRegistry - registry of metrics.
+     */
+    public void bindCacheMetrics(MeterRegistry meterRegistry) {
+        GuavaCacheMetrics.monitor(meterRegistry, templateCache, TEMPLATE_CACHE_NAME);
+    }
+
+    /*
+        Velocity 1.7 VelocityEngine doesn't expose its RuntimeInstance,
+        but it's needed to parse templates once and then merge them many times.
+        In case the field is not accessible, templates are evaluated without caching.
+     */
+    private static RuntimeServices getRuntimeServices(VelocityEngine engine) {
+        try {
+            return (RuntimeServices) FieldUtils.readField(engine, "ri", true);
+        } catch (Exception e) {
+            log.warn("Velocity runtime services are not accessible; templates will be parsed on each processing", e);
+            return null;
+        }
+    }
+
+    /*
+        Keys of tools and data of full mode context. Keys of tools are their default keys,
+        like ToolManager and LazyToolbox compute them; tools which can't be configured are skipped.
+     */
+    private static Set<String> getFullModeKeys() {
+        Set<String> keys = new LinkedHashSet<>(Arrays.asList(TOOLS_VERSION_KEY, GENERIC_TOOLS_AVAILABLE_KEY,
+                STRUTS_TOOLS_AVAILABLE_KEY, VIEW_TOOLS_AVAILABLE_KEY));
+        for (String[] tools : Arrays.asList(GENERIC_APPLICATION_TOOLS, GENERIC_REQUEST_TOOLS, STRUTS_REQUEST_TOOLS,
+                VIEW_REQUEST_TOOLS, VIEW_SESSION_TOOLS)) {
+            for (ToolConfiguration toolConfiguration : makeToolsList(tools)) {
+                try {
+                    keys.add(toolConfiguration.getKey());
+                } catch (RuntimeException | LinkageError e) {
+                    log.debug("Velocity tool {} can't be configured, its key is skipped",
+                            toolConfiguration.getClassname(), e);
+                }
+            }
+        }
+        return keys;
+    }
+
+    /*
+        Matches references like $key, $!key, ${key} and $!{key}, including method and property calls on them.
+        It may match a longer name (like $key-suffix) too; such templates are just processed in full mode.
+     */
+    private static Pattern makeReferencePattern(Set<String> keys) {
+        if (keys.isEmpty()) {
+            return null;
+        }
+        return Pattern.compile(keys.stream().map(Pattern::quote)
+                .collect(Collectors.joining("|", "\\$!?\\{?(?:", ")\\b")));
     }
 
     private static Data fillData(String type, String key, Object value) {
@@ -103,77 +273,45 @@ public class VelocityTemplateEngine implements TemplateEngine {
 
     private static FactoryConfiguration makeGenericFactoryConfig() {
         FactoryConfiguration factoryConfiguration = new FactoryConfiguration();
-        factoryConfiguration.addData(fillData("number", "TOOLS_VERSION", "2.0"));
-        factoryConfiguration.addData(fillData("boolean", "GENERIC_TOOLS_AVAILABLE", "true"));
+        factoryConfiguration.addData(fillData("number", TOOLS_VERSION_KEY, "2.0"));
+        factoryConfiguration.addData(fillData("boolean", GENERIC_TOOLS_AVAILABLE_KEY, "true"));
 
         ToolboxConfiguration applicationToolboxConfiguration = new ToolboxConfiguration();
         applicationToolboxConfiguration.setScope("application");
-        applicationToolboxConfiguration.setTools(makeToolsList(
-                "org.apache.velocity.tools.generic.AlternatorTool",
-                "org.apache.velocity.tools.generic.ClassTool",
-                "org.apache.velocity.tools.generic.ComparisonDateTool",
-                "org.apache.velocity.tools.generic.ConversionTool",
-                "org.apache.velocity.tools.generic.DisplayTool",
-                "org.apache.velocity.tools.generic.EscapeTool",
-                "org.apache.velocity.tools.generic.FieldTool",
-                "org.apache.velocity.tools.generic.MathTool",
-                "org.apache.velocity.tools.generic.NumberTool",
-                "org.apache.velocity.tools.generic.ResourceTool",
-                "org.apache.velocity.tools.generic.SortTool",
-                "org.apache.velocity.tools.generic.XmlTool"));
+        applicationToolboxConfiguration.setTools(makeToolsList(GENERIC_APPLICATION_TOOLS));
         factoryConfiguration.addToolbox(applicationToolboxConfiguration);
 
         ToolboxConfiguration requestToolboxConfiguration = new ToolboxConfiguration();
         requestToolboxConfiguration.setScope("request");
-        requestToolboxConfiguration.setTools(makeToolsList(
-                "org.apache.velocity.tools.generic.ContextTool",
-                "org.apache.velocity.tools.generic.LinkTool",
-                "org.apache.velocity.tools.generic.LoopTool",
-                "org.apache.velocity.tools.generic.RenderTool"));
+        requestToolboxConfiguration.setTools(makeToolsList(GENERIC_REQUEST_TOOLS));
         factoryConfiguration.addToolbox(requestToolboxConfiguration);
         return factoryConfiguration;
     }
 
     private static FactoryConfiguration makeStrutsFactoryConfig() {
         FactoryConfiguration factoryConfiguration = new FactoryConfiguration();
-        factoryConfiguration.addData(fillData("boolean", "STRUTS_TOOLS_AVAILABLE", "true"));
+        factoryConfiguration.addData(fillData("boolean", STRUTS_TOOLS_AVAILABLE_KEY, "true"));
 
         ToolboxConfiguration requestToolboxConfiguration = new ToolboxConfiguration();
         requestToolboxConfiguration.setScope("request");
-        requestToolboxConfiguration.setTools(makeToolsList(
-                "org.apache.velocity.tools.struts.ActionMessagesTool",
-                "org.apache.velocity.tools.struts.ErrorsTool",
-                "org.apache.velocity.tools.struts.FormTool",
-                "org.apache.velocity.tools.struts.MessageTool",
-                "org.apache.velocity.tools.struts.StrutsLinkTool",
-                "org.apache.velocity.tools.struts.TilesTool",
-                "org.apache.velocity.tools.struts.ValidatorTool"));
+        requestToolboxConfiguration.setTools(makeToolsList(STRUTS_REQUEST_TOOLS));
         factoryConfiguration.addToolbox(requestToolboxConfiguration);
         return factoryConfiguration;
     }
 
     private static FactoryConfiguration makeViewFactoryConfig() {
         FactoryConfiguration factoryConfiguration = new FactoryConfiguration();
-        factoryConfiguration.addData(fillData("boolean", "VIEW_TOOLS_AVAILABLE", "true"));
+        factoryConfiguration.addData(fillData("boolean", VIEW_TOOLS_AVAILABLE_KEY, "true"));
 
         ToolboxConfiguration requestToolboxConfiguration = new ToolboxConfiguration();
         requestToolboxConfiguration.setScope("request");
-        requestToolboxConfiguration.setTools(makeToolsList(
-                "org.apache.velocity.tools.view.CookieTool",
-                "org.apache.velocity.tools.view.ImportTool",
-                "org.apache.velocity.tools.view.IncludeTool",
-                "org.apache.velocity.tools.view.LinkTool",
-                "org.apache.velocity.tools.view.PagerTool",
-                "org.apache.velocity.tools.view.ParameterTool",
-                "org.apache.velocity.tools.view.ViewContextTool",
-                "org.apache.velocity.tools.generic.ResourceTool"));
+        requestToolboxConfiguration.setTools(makeToolsList(VIEW_REQUEST_TOOLS));
         factoryConfiguration.addToolbox(requestToolboxConfiguration);
 
         ToolboxConfiguration sessionToolboxConfiguration = new ToolboxConfiguration();
         sessionToolboxConfiguration.setScope("session");
         sessionToolboxConfiguration.setProperty("createSession", "false");
-        sessionToolboxConfiguration.setTools(makeToolsList(
-                "org.apache.velocity.tools.view.BrowserTool"));
+        sessionToolboxConfiguration.setTools(makeToolsList(VIEW_SESSION_TOOLS));
         factoryConfiguration.addToolbox(sessionToolboxConfiguration);
         return factoryConfiguration;
     }
@@ -189,8 +327,18 @@ public class VelocityTemplateEngine implements TemplateEngine {
         if (StringUtils.isBlank(someString)) {
             return StringUtils.EMPTY;
         }
+        if (!containsVelocityMarkup(someString)) {
+            return someString;
+        }
+        if (lazyToolbox != null && !isFullModeTemplate(someString)) {
+            return processing(someString, new ChainedContext(context, lazyToolbox));
+        }
         Context velocityContext = toolManager.createContext();
-        return processing(someString, context, velocityContext);
+        for (Object o : context.entrySet()) {
+            Map.Entry entry = (Map.Entry) o;
+            velocityContext.put(String.valueOf(entry.getKey()), entry.getValue());
+        }
+        return processing(someString, velocityContext);
     }
 
     @Override
@@ -215,19 +363,22 @@ public class VelocityTemplateEngine implements TemplateEngine {
         return process(someString, context);
     }
 
-    private String processing(String someString, JsonContext context, Context velocityContext) {
+    private String processing(String someString, Context velocityContext) {
         if (StringUtils.isBlank(someString)) {
             return StringUtils.EMPTY;
         }
+        if (!containsVelocityMarkup(someString)) {
+            return someString;
+        }
         log.debug("Processing string with Velocity...");
         log.trace("String to process: {}", someString);
-        for (Object o : context.entrySet()) {
-            Map.Entry entry = (Map.Entry) o;
-            velocityContext.put(String.valueOf(entry.getKey()), entry.getValue());
-        }
         StringWriter stringWriter = new StringWriter(someString.length());
         try {
-            engine.evaluate(velocityContext, stringWriter, LOG_TAG, someString);
+            if (runtimeServices == null) {
+                engine.evaluate(velocityContext, stringWriter, LOG_TAG, someString);
+            } else {
+                getTemplate(someString).merge(velocityContext, stringWriter);
+            }
         } catch (Exception e) {
             // Alternative behavior is possible: do NOT throw an exception. Log Error and continue processing
             throw new VelocityException(String.format("Error occurred while processing template '%s'. %s",
@@ -238,4 +389,41 @@ public class VelocityTemplateEngine implements TemplateEngine {
         log.trace("Result string is: {}", string);
         return string;
     }
+
+    /*
+        Plain text (without references and directives) is the same after Velocity processing,
+        so there is no need to create context and to evaluate it.
+     */
+    private static boolean containsVelocityMarkup(String someString) {
+        return someString.indexOf('$') >= 0 || someString.indexOf('#') >= 0;
+    }
+
+    private boolean isFullModeTemplate(String someString) {
+        if (fullModeReference == null) {
+            return false;
+        }
+        try {
+            return fullModeTemplates.get(someString, () -> fullModeReference.matcher(someString).find());
+        } catch (ExecutionException e) {
+            return fullModeReference.matcher(someString).find();
+        }
+    }
+
+    private Template getTemplate(String someString) throws Exception {
+        try {
+            return templateCache.get(someString, () -> parse(someString));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    private Template parse(String someString) throws Exception {
+        SimpleNode nodeTree = runtimeServices.parse(new StringReader(someString), LOG_TAG);
+        Template template = new Template();
+        template.setName(LOG_TAG);
+        template.setRuntimeServices(runtimeServices);
+        template.setData(nodeTree);
+        template.initDocument();
+        return template;
+    }
 }
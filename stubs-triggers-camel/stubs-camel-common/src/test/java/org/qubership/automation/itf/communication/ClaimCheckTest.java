@@ -0,0 +1,185 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.communication;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import javax.jms.Connection;
+import javax.jms.MessageConsumer;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.broker.BrokerService;
+import org.qubership.automation.itf.JvmSettings;
+import org.qubership.automation.itf.core.model.communication.message.CommonTriggerExecutionMessage;
+import org.qubership.automation.itf.core.model.communication.message.TriggerExecutionMessage;
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.integration.config.jms.DefaultJmsTemplate;
+import org.qubership.automation.itf.integration.config.jms.connection.StubsIntegrationConfig;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ClaimCheckTest {
+
+    private static final String QUEUE = "stubs_executor_incoming_request";
+    private static final int THRESHOLD = 1024 * 1024;
+    private static final int LARGE_BODY_SIZE = 50 * 1024 * 1024;
+    private static final int MAX_BROKER_MESSAGE_SIZE = 64 * 1024;
+
+    private BrokerService broker;
+    private CachingConnectionFactory cachingConnectionFactory;
+    private Connection connection;
+    private Path directory;
+
+    @BeforeMethod
+    public void startBroker() throws Exception {
+        broker = new BrokerService();
+        broker.setBrokerName("claim-check-test");
+        broker.setPersistent(false);
+        broker.setUseJmx(false);
+        broker.start();
+        broker.waitUntilStarted();
+        ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory(
+                "vm://claim-check-test?create=false");
+        cachingConnectionFactory = new CachingConnectionFactory(connectionFactory);
+        connection = connectionFactory.createConnection();
+        connection.start();
+        directory = Files.createTempDirectory("claim-check");
+        StubsIntegrationConfig config = new StubsIntegrationConfig();
+        DefaultJmsTemplate jmsTemplate = new DefaultJmsTemplate();
+        jmsTemplate.setConnectionFactory(cachingConnectionFactory);
+        jmsTemplate.setMessageConverter(config.jacksonJmsMessageConverter(config.jmsMessageConverterObjectMapper()));
+        new TriggerExecutionMessageSender(QUEUE, jmsTemplate, "", 1, 10, THRESHOLD, directory.toString(),
+                Duration.ofHours(1).toMillis(), new SimpleMeterRegistry());
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopBroker() throws Exception {
+        connection.close();
+        cachingConnectionFactory.destroy();
+        broker.stop();
+        broker.waitUntilStopped();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void largeBodyIsOffloadedAndBrokerMessageIsBounded() throws Exception {
+        char[] chars = new char[LARGE_BODY_SIZE];
+        Arrays.fill(chars, 'x');
+        String body = new String(chars);
+        TriggerExecutionMessage message = createMessage(body);
+
+        TriggerExecutionMessageSender.send(message, UUID.randomUUID());
+
+        TextMessage received = receive();
+        assertTrue("Broker message size: " + received.getText().length(),
+                received.getText().length() < MAX_BROKER_MESSAGE_SIZE);
+        String reference = received.getStringProperty(ClaimCheck.REFERENCE_PROPERTY);
+        String hash = received.getStringProperty(ClaimCheck.HASH_PROPERTY);
+        assertNotNull(reference);
+        byte[] content = new LocalDiskClaimCheckStore(directory).get(reference);
+        assertEquals(hash, ClaimCheck.sha256(content));
+        assertEquals(LARGE_BODY_SIZE, content.length);
+        assertEquals("Body is returned to the message after sending", body, message.getMessage().getText());
+    }
+
+    @Test
+    public void smallBodyIsSentInline() throws Exception {
+        TriggerExecutionMessageSender.send(createMessage("<request/>"), UUID.randomUUID());
+
+        TextMessage received = receive();
+        assertTrue(received.getText().contains("<request/>"));
+        assertNull(received.getStringProperty(ClaimCheck.REFERENCE_PROPERTY));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void sameBodyIsSharedByReferencesAndExpiredReferencesAreRemoved() throws IOException {
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        LocalDiskClaimCheckStore store = new LocalDiskClaimCheckStore(directory, clock::get);
+        byte[] first = "first body".getBytes(JvmSettings.CHARSET);
+        String firstReference = store.put(ClaimCheck.sha256(first), first);
+        clock.addAndGet(Duration.ofHours(2).toMillis());
+        String renewedReference = store.put(ClaimCheck.sha256(first), first);
+        assertFalse(firstReference.equals(renewedReference));
+        assertTrue(Files.isSameFile(directory.resolve(firstReference), directory.resolve(renewedReference)));
+        byte[] second = "second body".getBytes(JvmSettings.CHARSET);
+        String secondReference = store.put(ClaimCheck.sha256(second), second);
+
+        assertEquals(1, store.cleanup(Duration.ofHours(1)));
+        assertTrue(Files.notExists(directory.resolve(firstReference)));
+        assertEquals("first body", new String(store.get(renewedReference), JvmSettings.CHARSET));
+        assertEquals("second body", new String(store.get(secondReference), JvmSettings.CHARSET));
+    }
+
+    @Test
+    public void referenceIsReadableAfterItsContentFileIsRemoved() throws IOException {
+        LocalDiskClaimCheckStore store = new LocalDiskClaimCheckStore(directory);
+        byte[] body = "body".getBytes(JvmSettings.CHARSET);
+        String hash = ClaimCheck.sha256(body);
+        store.put(hash, body);
+        String reference = store.put(hash, body);
+        // As cleanup does, if it reads the modification time before the content is stored again
+        Files.delete(directory.resolve(hash));
+
+        assertEquals("body", new String(store.get(reference), JvmSettings.CHARSET));
+        assertEquals(0, store.cleanup(Duration.ofHours(1)));
+    }
+
+    private TextMessage receive() throws Exception {
+        Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        try {
+            MessageConsumer consumer = session.createConsumer(session.createQueue(QUEUE));
+            TextMessage received = (TextMessage) consumer.receive(30000);
+            assertNotNull("Message isn't received", received);
+            return received;
+        } finally {
+            session.close();
+        }
+    }
+
+    private static TriggerExecutionMessage createMessage(String body) {
+        return new CommonTriggerExecutionMessage("test.Transport", new Message(body), null,
+                UUID.randomUUID().toString(), "localhost");
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.communication;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.qubership.automation.itf.communication.ExecutorCircuitBreaker.State;
+import org.qubership.automation.itf.monitoring.metrics.Metric;
+import org.qubership.automation.itf.monitoring.metrics.MetricTag;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ExecutorCircuitBreakerTest {
+
+    private static final int WINDOW_SIZE = 10;
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+    private static final Duration SLOW_CALL_THRESHOLD = Duration.ofSeconds(5);
+    private static final int HALF_OPEN_CALLS = 2;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger sessionCounter = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorCircuitBreaker breaker;
+
+    @BeforeMethod
+    public void setUp() {
+        clock.set(TimeUnit.HOURS.toNanos(1));
+        meterRegistry = new SimpleMeterRegistry();
+        breaker = new ExecutorCircuitBreaker(clock::get, OPEN_DURATION, WINDOW_SIZE, 50, SLOW_CALL_THRESHOLD,
+                HALF_OPEN_CALLS);
+        breaker.bindTo(meterRegistry);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    /*
+        Executor doesn't respond: each session sent is timed out.
+     */
+    private void sendToNotRespondingExecutor(int sessions) {
+        for (int i = 0; i < sessions; i++) {
+            String sessionId = nextSessionId();
+            assertTrue(breaker.tryAcquire(sessionId));
+            breaker.onTimeout(sessionId);
+        }
+    }
+
+    private String nextSessionId() {
+        return "session-" + sessionCounter.incrementAndGet();
+    }
+
+    private double transitions(State state) {
+        return meterRegistry.get(Metric.ATP_ITF_STUBS_EXECUTOR_CIRCUIT_BREAKER_TRANSITIONS.getValue())
+                .tag(MetricTag.STATE.getValue(), state.name())
+                .functionCounter().count();
+    }
+
+    private double stateGauge() {
+        return meterRegistry.get(Metric.ATP_ITF_STUBS_EXECUTOR_CIRCUIT_BREAKER_STATE.getValue()).gauge().value();
+    }
+
+    @Test
+    public void breakerIsOpenedWhenExecutorDoesNotRespond() {
+        for (int i = 0; i < WINDOW_SIZE / 2; i++) {
+            String sessionId = nextSessionId();
+            assertTrue(breaker.tryAcquire(sessionId));
+            breaker.onResponse(sessionId, Duration.ofMillis(100));
+        }
+        sendToNotRespondingExecutor(WINDOW_SIZE / 2 - 1);
+        assertEquals(State.CLOSED, breaker.getState());
+
+        sendToNotRespondingExecutor(1);
+        assertEquals(State.OPEN, breaker.getState());
+        assertEquals(1.0, transitions(State.OPEN), 0.0);
+        assertEquals(State.OPEN.ordinal(), stateGauge(), 0.0);
+
+        // Requests are rejected immediately, instead of waiting for the response timeout
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(breaker.tryAcquire(nextSessionId()));
+        }
+        advance(OPEN_DURATION.minusMillis(1));
+        assertFalse(breaker.tryAcquire(nextSessionId()));
+    }
+
+    @Test
+    public void breakerIsClosedWhenProbesAreSuccessful() {
+        sendToNotRespondingExecutor(WINDOW_SIZE);
+        assertEquals(State.OPEN, breaker.getState());
+        advance(OPEN_DURATION);
+
+        assertTrue(breaker.tryAcquire("probe-1"));
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire("probe-2"));
+        // Only HALF_OPEN_CALLS probes are allowed at once
+        assertFalse(breaker.tryAcquire(nextSessionId()));
+
+        breaker.onResponse("probe-1", Duration.ofMillis(100));
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire(nextSessionId()));
+        breaker.onResponse("probe-2", Duration.ofMillis(100));
+        assertEquals(State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire(nextSessionId()));
+
+        assertEquals(1.0, transitions(State.OPEN), 0.0);
+        assertEquals(1.0, transitions(State.HALF_OPEN), 0.0);
+        assertEquals(1.0, transitions(State.CLOSED), 0.0);
+        assertEquals(State.CLOSED.ordinal(), stateGauge(), 0.0);
+
+        // Window is cleared on closing, so the previous failures aren't counted again
+        sendToNotRespondingExecutor(WINDOW_SIZE - 1);
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void breakerIsReopenedWhenProbeIsTimedOut() {
+        sendToNotRespondingExecutor(WINDOW_SIZE);
+        advance(OPEN_DURATION);
+
+        assertTrue(breaker.tryAcquire("probe"));
+        breaker.onTimeout("probe");
+        assertEquals(State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire(nextSessionId()));
+        assertEquals(2.0, transitions(State.OPEN), 0.0);
+
+        advance(OPEN_DURATION);
+        assertTrue(breaker.tryAcquire(nextSessionId()));
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertEquals(2.0, transitions(State.HALF_OPEN), 0.0);
+    }
+
+    @Test
+    public void slowResponsesAreCountedAsFailures() {
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            String sessionId = nextSessionId();
+            assertTrue(breaker.tryAcquire(sessionId));
+            breaker.onResponse(sessionId, SLOW_CALL_THRESHOLD.plusMillis(1));
+        }
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void releasedProbeDoesNotBlockNextOne() {
+        sendToNotRespondingExecutor(WINDOW_SIZE);
+        advance(OPEN_DURATION);
+
+        assertTrue(breaker.tryAcquire("probe-1"));
+        assertTrue(breaker.tryAcquire("probe-2"));
+        breaker.release("probe-2");
+        assertTrue(breaker.tryAcquire("probe-3"));
+        assertFalse(breaker.tryAcquire(nextSessionId()));
+    }
+
+    @Test
+    public void lateTimeoutsOfSessionsSentBeforeOpeningDoNotReopenBreaker() {
+        // Sessions sent just before the executor failure time out after the process timeout
+        List<String> lateSessions = new ArrayList<>();
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            lateSessions.add(nextSessionId());
+            assertTrue(breaker.tryAcquire(lateSessions.get(i)));
+        }
+        sendToNotRespondingExecutor(WINDOW_SIZE);
+        assertEquals(State.OPEN, breaker.getState());
+        advance(OPEN_DURATION);
+
+        assertTrue(breaker.tryAcquire("probe-1"));
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        lateSessions.forEach(breaker::onTimeout);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+
+        // The executor is recovered: probes are successful
+        assertTrue(breaker.tryAcquire("probe-2"));
+        breaker.onResponse("probe-1", Duration.ofMillis(100));
+        breaker.onResponse("probe-2", Duration.ofMillis(100));
+        assertEquals(State.CLOSED, breaker.getState());
+        assertEquals(1.0, transitions(State.OPEN), 0.0);
+    }
+
+    @Test
+    public void breakerIsReopenedWhenProbeOutcomeIsLost() {
+        sendToNotRespondingExecutor(WINDOW_SIZE);
+        advance(OPEN_DURATION);
+
+        assertTrue(breaker.tryAcquire("lost-probe"));
+        advance(SLOW_CALL_THRESHOLD);
+        assertFalse(breaker.tryAcquire(nextSessionId()));
+        assertEquals(State.OPEN, breaker.getState());
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.communication;
+
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.Connection;
+import javax.jms.JMSException;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.broker.BrokerService;
+import org.qubership.automation.itf.core.model.communication.message.CommonTriggerExecutionMessage;
+import org.qubership.automation.itf.core.model.communication.message.TriggerExecutionMessage;
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.integration.config.jms.DefaultJmsTemplate;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ExecutorLanesTest {
+
+    private static final String SYNC_QUEUE = "stubs_executor_incoming_request";
+    private static final String ONE_WAY_QUEUE = "stubs_executor_incoming_request_one_way";
+    private static final String SYNC_PREFIX = "sync-";
+    private static final int ONE_WAY_FLOOD = 4000;
+    private static final int SYNC_REQUESTS = 50;
+    private static final int EXECUTOR_CONSUMERS = 4;
+    private static final long EXECUTOR_PROCESSING_MILLIS = 1;
+    private static final long MAX_SYNC_P99_MILLIS = 250;
+
+    private BrokerService broker;
+    private ActiveMQConnectionFactory connectionFactory;
+    private CachingConnectionFactory cachingConnectionFactory;
+    private Connection executorConnection;
+
+    @BeforeMethod
+    public void startBroker() throws Exception {
+        broker = new BrokerService();
+        broker.setBrokerName("lanes-test");
+        broker.setPersistent(false);
+        broker.setUseJmx(false);
+        broker.start();
+        broker.waitUntilStarted();
+        connectionFactory = new ActiveMQConnectionFactory("vm://lanes-test?create=false");
+        cachingConnectionFactory = new CachingConnectionFactory(connectionFactory);
+        new TriggerExecutionMessageSender(SYNC_QUEUE, createJmsTemplate(), ONE_WAY_QUEUE, 1, 10, 0, "", 0,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopBroker() throws Exception {
+        if (executorConnection != null) {
+            executorConnection.close();
+        }
+        cachingConnectionFactory.destroy();
+        broker.stop();
+        broker.waitUntilStopped();
+    }
+
+    @Test
+    public void synchronousSessionsAreNotDelayedByOneWayFlood() throws Exception {
+        startExecutor(SYNC_QUEUE, ONE_WAY_QUEUE);
+        long lanesP99 = runSynchronousRequestsDuringFlood();
+        assertTrue("Synchronous p99 is " + lanesP99 + " ms", lanesP99 < MAX_SYNC_P99_MILLIS);
+    }
+
+    @Test
+    public void synchronousSessionsAreDelayedByOneWayFloodInSharedQueue() throws Exception {
+        // Executor listens the incoming queue only, as before lanes (one-way queue isn't configured)
+        startExecutor(SYNC_QUEUE);
+        new TriggerExecutionMessageSender(SYNC_QUEUE, createJmsTemplate(), "", 1, 10, 0, "", 0,
+                new SimpleMeterRegistry());
+        long sharedP99 = runSynchronousRequestsDuringFlood();
+        assertTrue("Synchronous p99 is " + sharedP99 + " ms", sharedP99 >= MAX_SYNC_P99_MILLIS);
+    }
+
+    private DefaultJmsTemplate createJmsTemplate() {
+        DefaultJmsTemplate jmsTemplate = new DefaultJmsTemplate();
+        jmsTemplate.setConnectionFactory(cachingConnectionFactory);
+        jmsTemplate.setMessageConverter(new SessionIdConverter());
+        return jmsTemplate;
+    }
+
+    /*
+        Simulated executor: each message takes EXECUTOR_PROCESSING_MILLIS;
+        synchronous sessions are responded via the correlation registry.
+     */
+    private void startExecutor(String... queues) throws JMSException {
+        executorConnection = connectionFactory.createConnection();
+        for (String queue : queues) {
+            for (int i = 0; i < EXECUTOR_CONSUMERS; i++) {
+                Session session = executorConnection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+                session.createConsumer(session.createQueue(queue)).setMessageListener(message -> {
+                    try {
+                        String sessionId = ((TextMessage) message).getText();
+                        Thread.sleep(EXECUTOR_PROCESSING_MILLIS);
+                        if (sessionId.startsWith(SYNC_PREFIX)) {
+                            ResponseCorrelationRegistry.INSTANCE.complete(sessionId, new CommonTriggerExecutionMessage(
+                                    "test", new Message("OK"), null, sessionId, "localhost"));
+                        }
+                    } catch (JMSException e) {
+                        throw new IllegalStateException(e);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+        }
+        executorConnection.start();
+    }
+
+    private long runSynchronousRequestsDuringFlood() throws Exception {
+        UUID projectUuid = UUID.randomUUID();
+        for (int i = 0; i < ONE_WAY_FLOOD; i++) {
+            TriggerExecutionMessageSender.send(new CommonTriggerExecutionMessage("test", new Message("event"), null,
+                    "one-way-" + i, "localhost"), projectUuid);
+        }
+        ExecutorService clients = Executors.newFixedThreadPool(SYNC_REQUESTS);
+        try {
+            List<Future<Long>> roundTrips = new ArrayList<>();
+            for (int i = 0; i < SYNC_REQUESTS; i++) {
+                String sessionId = SYNC_PREFIX + i;
+                roundTrips.add(clients.submit(() -> {
+                    long started = System.nanoTime();
+                    TriggerExecutionMessageSender.sendAndTrack(new CommonTriggerExecutionMessage("test",
+                            new Message("request"), null, sessionId, "localhost"), projectUuid, "test.Transport");
+                    assertNotNull(ResponseCorrelationRegistry.INSTANCE.waitResponse(sessionId, 30000));
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                }));
+                Thread.sleep(5);
+            }
+            List<Long> millis = new ArrayList<>();
+            for (Future<Long> roundTrip : roundTrips) {
+                millis.add(roundTrip.get(60, TimeUnit.SECONDS));
+            }
+            Collections.sort(millis);
+            return millis.get((int) Math.ceil(0.99 * millis.size()) - 1);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private static class SessionIdConverter implements MessageConverter {
+
+        @Override
+        public javax.jms.Message toMessage(Object object, Session session) throws JMSException {
+            return session.createTextMessage(((TriggerExecutionMessage) object).getSessionId());
+        }
+
+        @Override
+        public Object fromMessage(javax.jms.Message message) throws JMSException {
+            return ((TextMessage) message).getText();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.communication;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.qubership.automation.itf.core.model.communication.message.CommonTriggerExecutionMessage;
+import org.qubership.automation.itf.core.model.communication.message.TriggerExecutionMessage;
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.monitoring.metrics.Metric;
+import org.testng.annotations.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ExecutorMessageBatcherTest {
+
+    private static final long LONG_DELAY_MILLIS = 60000;
+
+    @Test
+    public void fullBatchIsSentByCallerThread() {
+        RecordingSender sender = new RecordingSender();
+        ExecutorMessageBatcher batcher = new ExecutorMessageBatcher(3, LONG_DELAY_MILLIS, sender);
+        UUID projectUuid = UUID.randomUUID();
+        for (int i = 0; i < 7; i++) {
+            batcher.add(projectUuid, message(i), "trace-" + i);
+        }
+        assertEquals(2, sender.batches.size());
+        assertEquals(Thread.currentThread().getName(), sender.batches.get(0).thread);
+        assertEquals("session-0", sender.batches.get(0).messages.get(0).getSessionId());
+        assertEquals("session-5", sender.batches.get(1).messages.get(2).getSessionId());
+        assertEquals(Arrays.asList("trace-3", "trace-4", "trace-5"), sender.batches.get(1).traceIds);
+        assertEquals(6, batcher.getSentMessagesCount());
+        batcher.shutdown();
+        assertEquals(3, sender.batches.size());
+        assertEquals(1, sender.batches.get(2).messages.size());
+        assertEquals(7, batcher.getSentMessagesCount());
+    }
+
+    @Test
+    public void incompleteBatchIsSentAfterMaxDelayWithTraceIdsOfMessages() throws InterruptedException {
+        CountDownLatch flushed = new CountDownLatch(2);
+        RecordingSender sender = new RecordingSender() {
+            @Override
+            public void sendBatch(Object tenantId, List<TriggerExecutionMessage> messages, List<String> traceIds) {
+                super.sendBatch(tenantId, messages, traceIds);
+                flushed.countDown();
+            }
+        };
+        ExecutorMessageBatcher batcher = new ExecutorMessageBatcher(100, 20, sender);
+        try {
+            long started = System.nanoTime();
+            batcher.add(UUID.randomUUID(), message(0), "trace-0");
+            batcher.add(UUID.randomUUID(), message(1), null);
+            assertTrue(flushed.await(5, TimeUnit.SECONDS));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) >= 20);
+        } finally {
+            batcher.shutdown();
+        }
+        assertEquals(2, batcher.getSentBatchesCount());
+        assertEquals("executorMessageBatchFlusher", sender.batches.get(0).thread);
+        assertEquals(Collections.singletonList("trace-0"), sender.batches.get(0).traceIds);
+        assertEquals(Collections.singletonList(null), sender.batches.get(1).traceIds);
+    }
+
+    @Test
+    public void messagesAreGroupedByTenant() {
+        RecordingSender sender = new RecordingSender();
+        ExecutorMessageBatcher batcher = new ExecutorMessageBatcher(2, LONG_DELAY_MILLIS, sender);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        batcher.add(first, message(0), null);
+        batcher.add(second, message(1), null);
+        batcher.add(first, message(2), null);
+        assertEquals(1, sender.batches.size());
+        assertEquals(first, sender.batches.get(0).tenantId);
+        assertEquals("session-2", sender.batches.get(0).messages.get(1).getSessionId());
+        batcher.shutdown();
+        assertEquals(2, sender.batches.size());
+        assertEquals(second, sender.batches.get(1).tenantId);
+    }
+
+    @Test
+    public void messagesOfFailedTimedBatchAreSentOneByOne() throws InterruptedException {
+        CountDownLatch sentSingly = new CountDownLatch(2);
+        RecordingSender sender = new RecordingSender() {
+            @Override
+            public void sendBatch(Object tenantId, List<TriggerExecutionMessage> messages, List<String> traceIds) {
+                throw new IllegalStateException("Batch is too large");
+            }
+
+            @Override
+            public void send(Object tenantId, TriggerExecutionMessage message, String traceId) {
+                super.send(tenantId, message, traceId);
+                sentSingly.countDown();
+            }
+        };
+        ExecutorMessageBatcher batcher = new ExecutorMessageBatcher(100, 20, sender);
+        UUID projectUuid = UUID.randomUUID();
+        try {
+            batcher.add(projectUuid, message(0), "trace-0");
+            batcher.add(projectUuid, message(1), "trace-1");
+            assertTrue(sentSingly.await(5, TimeUnit.SECONDS));
+        } finally {
+            batcher.shutdown();
+        }
+        assertEquals(2, sender.singles.size());
+        assertEquals("session-1", sender.singles.get(1).messages.get(0).getSessionId());
+        assertEquals(Collections.singletonList("trace-1"), sender.singles.get(1).traceIds);
+        assertEquals(0, batcher.getSentBatchesCount());
+        assertEquals(2, batcher.getSentMessagesCount());
+        assertEquals(0, batcher.getDroppedMessagesCount());
+    }
+
+    @Test
+    public void messagesFailedToBeSentOneByOneAreCountedAsDropped() {
+        RecordingSender sender = new RecordingSender() {
+            @Override
+            public void sendBatch(Object tenantId, List<TriggerExecutionMessage> messages, List<String> traceIds) {
+                throw new IllegalStateException("Broker is unavailable");
+            }
+
+            @Override
+            public void send(Object tenantId, TriggerExecutionMessage message, String traceId) {
+                throw new IllegalStateException("Broker is unavailable");
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExecutorMessageBatcher batcher = new ExecutorMessageBatcher(2, LONG_DELAY_MILLIS, sender);
+        batcher.bindTo(meterRegistry);
+        UUID projectUuid = UUID.randomUUID();
+        batcher.add(projectUuid, message(0), null);
+        try {
+            batcher.add(projectUuid, message(1), null);
+            throw new AssertionError("Sending error isn't thrown to the caller");
+        } catch (IllegalStateException e) {
+            assertEquals("Broker is unavailable", e.getMessage());
+        } finally {
+            batcher.shutdown();
+        }
+        assertEquals(2, batcher.getDroppedMessagesCount());
+        assertEquals(2.0, meterRegistry.get(Metric.ATP_ITF_STUBS_EXECUTOR_DROPPED_MESSAGES.getValue())
+                .functionCounter().count());
+    }
+
+    private static TriggerExecutionMessage message(int index) {
+        return new CommonTriggerExecutionMessage("test", new Message("event"), null, "session-" + index,
+                "localhost");
+    }
+
+    private static class RecordingSender implements ExecutorMessageBatcher.Sender {
+
+        private final List<Sent> batches = Collections.synchronizedList(new ArrayList<>());
+        private final List<Sent> singles = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void sendBatch(Object tenantId, List<TriggerExecutionMessage> messages, List<String> traceIds) {
+            batches.add(new Sent(tenantId, new ArrayList<>(messages), new ArrayList<>(traceIds)));
+        }
+
+        @Override
+        public void send(Object tenantId, TriggerExecutionMessage message, String traceId) {
+            singles.add(new Sent(tenantId, Collections.singletonList(message), Collections.singletonList(traceId)));
+        }
+    }
+
+    private static class Sent {
+
+        private final Object tenantId;
+        private final List<TriggerExecutionMessage> messages;
+        private final List<String> traceIds;
+        private final String thread = Thread.currentThread().getName();
+
+        Sent(Object tenantId, List<TriggerExecutionMessage> messages, List<String> traceIds) {
+            this.tenantId = tenantId;
+            this.messages = messages;
+            this.traceIds = traceIds;
+        }
+    }
+}
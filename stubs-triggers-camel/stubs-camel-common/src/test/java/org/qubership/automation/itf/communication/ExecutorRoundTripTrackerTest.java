@@ -0,0 +1,146 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.communication;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.qubership.automation.itf.monitoring.metrics.Metric;
+import org.qubership.automation.itf.monitoring.metrics.MetricTag;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ExecutorRoundTripTrackerTest {
+
+    private static final String REST = "RESTInboundTransport";
+    private static final String SOAP = "SOAPOverHTTPInboundTransport";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final UUID projectUuid = UUID.randomUUID();
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorRoundTripTracker tracker;
+
+    @BeforeMethod
+    public void setUp() {
+        clock.set(TimeUnit.HOURS.toNanos(1));
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new ExecutorRoundTripTracker(clock::get);
+        tracker.bindTo(meterRegistry);
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private double gauge(Metric metric, String transport) {
+        return meterRegistry.get(metric.getValue())
+                .tag(MetricTag.PROJECT.getValue(), projectUuid.toString())
+                .tag(MetricTag.TRANSPORT.getValue(), transport)
+                .gauge().value();
+    }
+
+    @Test
+    public void roundTripIsRecordedWhenResponseIsReceived() {
+        tracker.sent("s1", projectUuid, REST);
+        advance(150);
+        tracker.sent("s2", projectUuid, REST);
+        advance(50);
+
+        assertEquals(Duration.ofMillis(200), tracker.received("s1"));
+        advance(100);
+        assertEquals(Duration.ofMillis(150), tracker.received("s2"));
+
+        Timer timer = meterRegistry.get(Metric.ATP_ITF_STUBS_EXECUTOR_ROUND_TRIP_SECONDS.getValue())
+                .tag(MetricTag.TRANSPORT.getValue(), REST).timer();
+        assertEquals(2, timer.count());
+        assertEquals(350.0, timer.totalTime(TimeUnit.MILLISECONDS), 0.0);
+        assertEquals(200.0, timer.max(TimeUnit.MILLISECONDS), 0.0);
+    }
+
+    @Test
+    public void inFlightSessionsAreCountedPerProjectAndTransport() {
+        tracker.sent("s1", projectUuid, REST);
+        tracker.sent("s2", projectUuid, REST);
+        tracker.sent("s3", projectUuid, SOAP);
+        tracker.sent("s4", UUID.randomUUID(), REST);
+
+        assertEquals(2.0, gauge(Metric.ATP_ITF_STUBS_EXECUTOR_IN_FLIGHT_SESSIONS, REST), 0.0);
+        assertEquals(1.0, gauge(Metric.ATP_ITF_STUBS_EXECUTOR_IN_FLIGHT_SESSIONS, SOAP), 0.0);
+
+        tracker.received("s1");
+        tracker.cancel("s3");
+        assertEquals(1.0, gauge(Metric.ATP_ITF_STUBS_EXECUTOR_IN_FLIGHT_SESSIONS, REST), 0.0);
+        assertEquals(0.0, gauge(Metric.ATP_ITF_STUBS_EXECUTOR_IN_FLIGHT_SESSIONS, SOAP), 0.0);
+        assertEquals(1, tracker.getInFlight(projectUuid, REST));
+    }
+
+    @Test
+    public void oldestSessionAgeFollowsTheClock() {
+        assertEquals(Duration.ZERO, tracker.getOldestSessionAge());
+        tracker.sent("s1", projectUuid, REST);
+        advance(1000);
+        tracker.sent("s2", projectUuid, SOAP);
+        advance(500);
+
+        assertEquals(Duration.ofMillis(1500), tracker.getOldestSessionAge());
+        assertEquals(1.5, meterRegistry.get(Metric.ATP_ITF_STUBS_EXECUTOR_OLDEST_SESSION_AGE_SECONDS.getValue())
+                .gauge().value(), 1e-9);
+
+        tracker.received("s1");
+        assertEquals(Duration.ofMillis(500), tracker.getOldestSessionAge());
+    }
+
+    @Test
+    public void timedOutSessionsAreCountedAndLateResponsesIgnored() {
+        tracker.sent("s1", projectUuid, REST);
+        advance(60000);
+
+        assertTrue(tracker.timedOut("s1"));
+        assertFalse(tracker.timedOut("s1"));
+        assertNull(tracker.received("s1"));
+        assertEquals(1, tracker.getTimedOut(projectUuid, REST));
+        assertEquals(0, tracker.getInFlight(projectUuid, REST));
+        assertEquals(1.0, meterRegistry.get(Metric.ATP_ITF_STUBS_EXECUTOR_TIMED_OUT_SESSIONS.getValue())
+                .tag(MetricTag.TRANSPORT.getValue(), REST).functionCounter().count(), 0.0);
+        assertTrue(meterRegistry.find(Metric.ATP_ITF_STUBS_EXECUTOR_ROUND_TRIP_SECONDS.getValue())
+                .timers().isEmpty());
+    }
+
+    @Test
+    public void abandonedSessionsAreExpired() {
+        tracker.sent("old", projectUuid, REST);
+        advance(90000);
+        tracker.sent("fresh", projectUuid, REST);
+        advance(40000);
+
+        assertEquals(1, tracker.expire(Duration.ofMinutes(2)));
+        assertEquals(1, tracker.getTimedOut(projectUuid, REST));
+        assertEquals(1, tracker.getInFlight(projectUuid, REST));
+        assertEquals(Duration.ofMillis(40000), tracker.getOldestSessionAge());
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.communication;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.qubership.automation.itf.monitoring.metrics.Metric;
+import org.qubership.automation.itf.monitoring.metrics.MetricTag;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ProjectBulkheadsTest {
+
+    private static final int LIMIT_PER_PROJECT = 5;
+    private static final Duration LATENCY_TARGET = Duration.ofSeconds(1);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger sessions = new AtomicInteger();
+    private final UUID slowProject = UUID.randomUUID();
+    private final UUID fastProject = UUID.randomUUID();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeMethod
+    public void setUp() {
+        clock.set(TimeUnit.HOURS.toNanos(1));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private ProjectBulkheads createBulkheads(Duration maxWait, boolean adaptive) {
+        ProjectBulkheads bulkheads = new ProjectBulkheads(clock::get, LIMIT_PER_PROJECT, maxWait, adaptive,
+                LATENCY_TARGET);
+        bulkheads.bindTo(meterRegistry);
+        return bulkheads;
+    }
+
+    private String nextSession() {
+        return "session-" + sessions.incrementAndGet();
+    }
+
+    private double rejections(UUID projectUuid) {
+        return meterRegistry.get(Metric.ATP_ITF_STUBS_EXECUTOR_BULKHEAD_REJECTIONS.getValue())
+                .tag(MetricTag.PROJECT.getValue(), projectUuid.toString())
+                .functionCounter().count();
+    }
+
+    @Test
+    public void slowProjectDoesNotAffectOtherProject() throws Exception {
+        ProjectBulkheads bulkheads = createBulkheads(Duration.ZERO, false);
+        int threads = 4 * LIMIT_PER_PROJECT;
+        int fastRequestsPerThread = 1000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads + LIMIT_PER_PROJECT);
+        CountDownLatch slowExecutor = new CountDownLatch(1);
+        CountDownLatch slowSessionsStarted = new CountDownLatch(threads);
+        AtomicInteger slowAccepted = new AtomicInteger();
+        AtomicInteger fastRejected = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                futures.add(pool.submit(() -> {
+                    // Slow project: executor doesn't respond until the end of the test
+                    String sessionId = nextSession();
+                    boolean acquired = bulkheads.tryAcquire(slowProject, sessionId);
+                    slowSessionsStarted.countDown();
+                    if (acquired) {
+                        slowAccepted.incrementAndGet();
+                        slowExecutor.await();
+                        bulkheads.onTimeout(sessionId);
+                    }
+                    return null;
+                }));
+            }
+            assertTrue(slowSessionsStarted.await(10, TimeUnit.SECONDS));
+            // Fast project: concurrency doesn't exceed its limit
+            for (int thread = 0; thread < LIMIT_PER_PROJECT; thread++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < fastRequestsPerThread; i++) {
+                        String sessionId = nextSession();
+                        if (bulkheads.tryAcquire(fastProject, sessionId)) {
+                            bulkheads.onResponse(sessionId, Duration.ofMillis(10));
+                        } else {
+                            fastRejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures.subList(threads, futures.size())) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals(LIMIT_PER_PROJECT, slowAccepted.get());
+            assertEquals(LIMIT_PER_PROJECT, bulkheads.getInUse(slowProject));
+            assertEquals(threads - LIMIT_PER_PROJECT, bulkheads.getRejected(slowProject));
+            assertEquals(threads - LIMIT_PER_PROJECT, rejections(slowProject), 0.0);
+            assertEquals(0, fastRejected.get());
+            assertEquals(0, bulkheads.getRejected(fastProject));
+            assertEquals(0, bulkheads.getInUse(fastProject));
+
+            slowExecutor.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals(0, bulkheads.getInUse(slowProject));
+        } finally {
+            slowExecutor.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void sessionWaitsForFreePermit() throws Exception {
+        ProjectBulkheads bulkheads = createBulkheads(Duration.ofSeconds(10), false);
+        List<String> held = new ArrayList<>();
+        for (int i = 0; i < LIMIT_PER_PROJECT; i++) {
+            String sessionId = nextSession();
+            assertTrue(bulkheads.tryAcquire(slowProject, sessionId));
+            held.add(sessionId);
+        }
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> waiting = pool.submit(() -> bulkheads.tryAcquire(slowProject, nextSession()));
+            assertFalse(waiting.isDone());
+            bulkheads.onResponse(held.get(0), Duration.ofMillis(10));
+            assertTrue(waiting.get(10, TimeUnit.SECONDS));
+            assertEquals(0, bulkheads.getRejected(slowProject));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void limitIsAdjustedByLatency() {
+        ProjectBulkheads bulkheads = createBulkheads(Duration.ZERO, true);
+        for (int i = 0; i < 3; i++) {
+            String sessionId = nextSession();
+            assertTrue(bulkheads.tryAcquire(slowProject, sessionId));
+            bulkheads.onResponse(sessionId, LATENCY_TARGET.plusMillis(1));
+        }
+        assertEquals(2, bulkheads.getLimit(slowProject));
+        String timedOut = nextSession();
+        assertTrue(bulkheads.tryAcquire(slowProject, timedOut));
+        bulkheads.onTimeout(timedOut);
+        assertEquals(1, bulkheads.getLimit(slowProject));
+        assertEquals(1.0, meterRegistry.get(Metric.ATP_ITF_STUBS_EXECUTOR_BULKHEAD_LIMIT.getValue())
+                .tag(MetricTag.PROJECT.getValue(), slowProject.toString()).gauge().value(), 0.0);
+
+        String held = nextSession();
+        assertTrue(bulkheads.tryAcquire(slowProject, held));
+        assertFalse(bulkheads.tryAcquire(slowProject, nextSession()));
+
+        // Limit is increased by fast round trips while it's in use
+        String fast = nextSession();
+        bulkheads.onResponse(held, Duration.ofMillis(10));
+        assertEquals(2, bulkheads.getLimit(slowProject));
+        assertTrue(bulkheads.tryAcquire(slowProject, held));
+        assertTrue(bulkheads.tryAcquire(slowProject, fast));
+        bulkheads.onResponse(fast, Duration.ofMillis(10));
+        bulkheads.onResponse(held, Duration.ofMillis(10));
+        assertEquals(3, bulkheads.getLimit(slowProject));
+        assertEquals(LIMIT_PER_PROJECT, bulkheads.getLimit(fastProject));
+    }
+
+    @Test
+    public void expiredPermitsAreReturned() {
+        ProjectBulkheads bulkheads = createBulkheads(Duration.ZERO, false);
+        for (int i = 0; i < LIMIT_PER_PROJECT; i++) {
+            assertTrue(bulkheads.tryAcquire(slowProject, nextSession()));
+        }
+        assertFalse(bulkheads.tryAcquire(slowProject, nextSession()));
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(5));
+        assertEquals(LIMIT_PER_PROJECT, bulkheads.expire(Duration.ofMinutes(2)));
+        assertEquals(0, bulkheads.getInUse(slowProject));
+        assertTrue(bulkheads.tryAcquire(slowProject, nextSession()));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.communication;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.qubership.automation.itf.core.model.communication.message.CommonTriggerExecutionMessage;
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.testng.annotations.Test;
+
+public class ResponseCorrelationRegistryTest {
+
+    private static CommonTriggerExecutionMessage response(String sessionId, String text) {
+        return new CommonTriggerExecutionMessage("test", new Message(text), null, sessionId, "localhost");
+    }
+
+    @Test
+    public void responseReceivedBeforeWaitIsReturnedImmediately() throws Exception {
+        ResponseCorrelationRegistry.INSTANCE.complete("before-wait", response("before-wait", "EARLY"));
+        long started = System.currentTimeMillis();
+        Message message = ResponseCorrelationRegistry.INSTANCE.waitResponse("before-wait", 5000);
+        assertEquals("EARLY", message.getText());
+        assertTrue(System.currentTimeMillis() - started < 1000);
+    }
+
+    @Test
+    public void waitingThreadIsWokenUpByResponse() throws Exception {
+        CompletableFuture<Message> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return ResponseCorrelationRegistry.INSTANCE.waitResponse("after-wait", 10000);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(200);
+        long completed = System.currentTimeMillis();
+        assertTrue(ResponseCorrelationRegistry.INSTANCE.complete("after-wait", response("after-wait", "LATE")));
+        Message message = waiter.get(5, TimeUnit.SECONDS);
+        assertEquals("LATE", message.getText());
+        assertTrue(System.currentTimeMillis() - completed < 1000);
+    }
+
+    @Test
+    public void nullIsReturnedOnTimeout() throws Exception {
+        assertNull(ResponseCorrelationRegistry.INSTANCE.waitResponse("no-response", 100));
+    }
+
+    @Test
+    public void pendingResponseIsRemovedAfterWait() throws Exception {
+        ResponseCorrelationRegistry.INSTANCE.complete("removed", response("removed", "ONCE"));
+        ResponseCorrelationRegistry.INSTANCE.waitResponse("removed", 1000);
+        assertNull(ResponseCorrelationRegistry.INSTANCE.waitResponse("removed", 50));
+    }
+
+    @Test
+    public void secondResponseForTheSameSessionIsIgnored() {
+        assertTrue(ResponseCorrelationRegistry.INSTANCE.complete("duplicate", response("duplicate", "FIRST")));
+        assertFalse(ResponseCorrelationRegistry.INSTANCE.complete("duplicate", response("duplicate", "SECOND")));
+    }
+
+    @Test
+    public void asyncWaitIsCompletedByResponse() throws Exception {
+        CompletableFuture<Message> waiter = ResponseCorrelationRegistry.INSTANCE.waitResponseAsync("async", 10000);
+        assertFalse(waiter.isDone());
+        ResponseCorrelationRegistry.INSTANCE.complete("async", response("async", "ASYNC"));
+        assertEquals("ASYNC", waiter.get(5, TimeUnit.SECONDS).getText());
+    }
+
+    @Test
+    public void asyncWaitIsCompletedWithNullOnTimeout() throws Exception {
+        CompletableFuture<Message> waiter =
+                ResponseCorrelationRegistry.INSTANCE.waitResponseAsync("async-timeout", 100);
+        assertNull(waiter.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.integration.config.jms;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import javax.jms.BytesMessage;
+import javax.jms.Connection;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.command.ActiveMQBytesMessage;
+import org.qubership.automation.itf.core.model.communication.message.CommonTriggerExecutionMessage;
+import org.qubership.automation.itf.core.model.communication.message.TriggerExecutionMessage;
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.integration.config.jms.connection.StubsIntegrationConfig;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class ExecutorMessageConverterTest {
+
+    private static final String SESSION_ID = "session-1";
+    private static final String BODY = "<request><id>1</id><name>Test</name></request>";
+
+    private Connection connection;
+    private Session session;
+
+    @BeforeClass
+    public void createSession() throws Exception {
+        connection = new ActiveMQConnectionFactory("vm://codec-test?broker.persistent=false&broker.useJmx=false")
+                .createConnection();
+        session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void closeSession() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    public void jsonIsSentAsTextByDefault() throws Exception {
+        javax.jms.Message jmsMessage = converter(false).toMessage(createMessage(), session);
+        assertTrue(jmsMessage instanceof TextMessage);
+        assertEquals(ExecutorMessageConverter.JSON,
+                jmsMessage.getStringProperty(ExecutorMessageConverter.CONTENT_TYPE_PROPERTY));
+        assertMessage(converter(false).read(jmsMessage, TriggerExecutionMessage.class));
+    }
+
+    @Test
+    public void smileIsSentAsBytesAndReadByAnyReceiver() throws Exception {
+        BytesMessage jmsMessage = (BytesMessage) converter(true).toMessage(createMessage(), session);
+        assertEquals(ExecutorMessageConverter.SMILE,
+                jmsMessage.getStringProperty(ExecutorMessageConverter.CONTENT_TYPE_PROPERTY));
+        ((ActiveMQBytesMessage) jmsMessage).reset();
+        assertMessage(converter(false).read(jmsMessage, TriggerExecutionMessage.class));
+        ((ActiveMQBytesMessage) jmsMessage).reset();
+        assertMessage((TriggerExecutionMessage) converter(false).fromMessage(jmsMessage));
+    }
+
+    @Test
+    public void messageWithoutContentTypeIsReadAsJson() throws Exception {
+        TextMessage jmsMessage = (TextMessage) converter(false).toMessage(createMessage(), session);
+        TextMessage legacyMessage = session.createTextMessage(jmsMessage.getText());
+        assertMessage(converter(true).read(legacyMessage, TriggerExecutionMessage.class));
+    }
+
+    private static ExecutorMessageConverter converter(boolean binary) {
+        StubsIntegrationConfig config = new StubsIntegrationConfig();
+        return config.executorJmsMessageConverter(config.jmsMessageConverterObjectMapper(),
+                binary ? "smile" : "json");
+    }
+
+    private static TriggerExecutionMessage createMessage() {
+        Message message = new Message(BODY);
+        message.getConnectionProperties().put("endpoint", "/api/orders");
+        return new CommonTriggerExecutionMessage("test.Transport", message, null, SESSION_ID, "localhost");
+    }
+
+    private static void assertMessage(TriggerExecutionMessage message) {
+        assertEquals(SESSION_ID, message.getSessionId());
+        assertEquals(BODY, message.getMessage().getText());
+        assertEquals("/api/orders", message.getMessage().getConnectionProperties().get("endpoint"));
+    }
+}
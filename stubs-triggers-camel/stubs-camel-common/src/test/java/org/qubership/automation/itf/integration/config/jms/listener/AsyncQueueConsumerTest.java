@@ -0,0 +1,202 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.integration.config.jms.listener;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.jms.Connection;
+import javax.jms.DeliveryMode;
+import javax.jms.JMSException;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.broker.BrokerService;
+import org.apache.activemq.command.ActiveMQDestination;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class AsyncQueueConsumerTest {
+
+    private static final String QUEUE = "executor_stubs_outgoing_response";
+    private static final String REPLY_QUEUE = QUEUE + ".pod-1";
+    private static final int MESSAGES = 5000;
+    private static final int POOL_SIZE = 4;
+
+    private BrokerService broker;
+    private ActiveMQConnectionFactory connectionFactory;
+    private AsyncQueueConsumer consumer;
+
+    @BeforeMethod
+    public void startBroker() throws Exception {
+        broker = new BrokerService();
+        broker.setBrokerName("async-consumer-test");
+        broker.setPersistent(false);
+        broker.setUseJmx(false);
+        broker.start();
+        broker.waitUntilStarted();
+        connectionFactory = new ActiveMQConnectionFactory("vm://async-consumer-test?create=false");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopBroker() throws Exception {
+        if (consumer != null) {
+            consumer.stop();
+        }
+        broker.stop();
+        broker.waitUntilStopped();
+    }
+
+    @Test
+    public void messagesOfPodAreProcessedBySmallPool() throws Exception {
+        CountDownLatch processed = new CountDownLatch(MESSAGES);
+        AtomicInteger foreign = new AtomicInteger();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        consumer = new AsyncQueueConsumer(connectionFactory, 2, POOL_SIZE, 100, "testConsumer", message -> {
+            threads.add(Thread.currentThread().getName());
+            try {
+                if ("pod-2".equals(message.getStringProperty("hostname"))) {
+                    foreign.incrementAndGet();
+                }
+            } catch (JMSException e) {
+                throw new IllegalStateException(e);
+            }
+            processed.countDown();
+        });
+        consumer.subscribe(QUEUE, "hostname='pod-1'");
+        consumer.subscribe(REPLY_QUEUE, null);
+        consumer.start();
+
+        send(QUEUE, MESSAGES / 2, "pod-1");
+        send(QUEUE, MESSAGES / 2, "pod-2");
+        send(REPLY_QUEUE, MESSAGES / 2, null);
+
+        assertTrue("Not all messages are processed", processed.await(30, TimeUnit.SECONDS));
+        assertEquals(0, foreign.get());
+        assertEquals(MESSAGES, consumer.getReceivedCount());
+        // Processing threads and session threads, when the pool queue is full
+        long poolThreads = threads.stream().filter(name -> name.startsWith("testConsumer-")).count();
+        assertTrue("Threads: " + threads, poolThreads <= POOL_SIZE);
+    }
+
+    @Test
+    public void messagesAreNotReceivedBeforeStart() throws Exception {
+        AtomicInteger processed = new AtomicInteger();
+        consumer = new AsyncQueueConsumer(connectionFactory, 1, 1, 10, "testConsumer",
+                message -> processed.incrementAndGet());
+        consumer.subscribe(QUEUE, null);
+        send(QUEUE, 10, null);
+        Thread.sleep(200);
+        assertEquals(0, processed.get());
+        consumer.start();
+        long deadline = System.currentTimeMillis() + 10000;
+        while (processed.get() < 10 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(10, processed.get());
+    }
+
+    @Test
+    public void temporaryReplyQueueIsAdvertisedAndDeletedOnStop() throws Exception {
+        CountDownLatch processed = new CountDownLatch(10);
+        AtomicReference<String> replyQueue = new AtomicReference<>();
+        consumer = new AsyncQueueConsumer(connectionFactory, 2, 1, 10, "testConsumer",
+                message -> processed.countDown());
+        consumer.subscribeTemporary(replyQueue::set);
+        assertNull(replyQueue.get());
+        consumer.start();
+        String name = replyQueue.get();
+        assertNotNull(name);
+
+        // The executor resolves the queue by name, like DynamicDestinationResolver does
+        send(name, 10, null);
+        assertTrue("Not all messages are processed", processed.await(10, TimeUnit.SECONDS));
+        assertEquals(1, temporaryQueues());
+
+        consumer.stop();
+        consumer = null;
+        assertNull(replyQueue.get());
+        long deadline = System.currentTimeMillis() + 10000;
+        while (temporaryQueues() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, temporaryQueues());
+    }
+
+    @Test
+    public void consumerIsRestartedWithNewTemporaryQueueAfterConnectionFailure() throws Exception {
+        CountDownLatch processed = new CountDownLatch(10);
+        List<String> replyQueues = new CopyOnWriteArrayList<>();
+        consumer = new AsyncQueueConsumer(connectionFactory, 1, 1, 10, "testConsumer",
+                message -> processed.countDown());
+        consumer.subscribe(QUEUE, null);
+        consumer.subscribeTemporary(replyQueues::add);
+        consumer.start();
+        assertEquals(1, replyQueues.size());
+
+        broker.stop();
+        broker.waitUntilStopped();
+        startBroker();
+        long deadline = System.currentTimeMillis() + 30000;
+        while (replyQueues.size() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(3, replyQueues.size());
+        assertNull("Reply queue isn't reset on failure", replyQueues.get(1));
+        assertNotNull(replyQueues.get(2));
+
+        send(QUEUE, 10, null);
+        assertTrue("Messages aren't processed after restart", processed.await(10, TimeUnit.SECONDS));
+    }
+
+    private long temporaryQueues() throws Exception {
+        return broker.getBroker().getDestinationMap().keySet().stream()
+                .filter(ActiveMQDestination::isTemporary).count();
+    }
+
+    private void send(String queue, int count, String hostname) throws JMSException {
+        Connection connection = connectionFactory.createConnection();
+        try {
+            Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            MessageProducer producer = session.createProducer(session.createQueue(queue));
+            for (int i = 0; i < count; i++) {
+                TextMessage message = session.createTextMessage("{\"sessionId\": \"" + i + "\"}");
+                if (hostname != null) {
+                    message.setStringProperty("hostname", hostname);
+                }
+                producer.send(message, DeliveryMode.NON_PERSISTENT, 4, 0);
+            }
+        } finally {
+            connection.close();
+        }
+    }
+}
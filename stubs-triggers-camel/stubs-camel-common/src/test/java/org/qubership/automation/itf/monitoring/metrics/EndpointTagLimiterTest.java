@@ -0,0 +1,163 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.monitoring.metrics;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.qubership.automation.itf.core.model.communication.TransportType;
+import org.testng.annotations.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class EndpointTagLimiterTest {
+
+    private static final int DISTINCT_URLS = 100000;
+    private static final int MAX_PER_PROJECT = 50;
+    private static final String[] HOT_ENDPOINTS = {"/api/orders", "/api/customers", "/api/products"};
+
+    @Test
+    public void distinctUrlsAreCollapsedAndHotEndpointsAreKept() {
+        UUID projectUuid = UUID.randomUUID();
+        List<String> demoted = new ArrayList<>();
+        EndpointTagLimiter limiter = new EndpointTagLimiter(MAX_PER_PROJECT, false,
+                (project, endpoint) -> demoted.add(endpoint));
+        long collapsedExpected = 0;
+        for (int i = 0; i < DISTINCT_URLS; i++) {
+            String url = "/api/orders/" + UUID.randomUUID();
+            if (EndpointTagLimiter.OTHER.equals(limiter.limit(projectUuid, url))) {
+                collapsedExpected++;
+            }
+            if (i % 10 == 0) {
+                for (String hotEndpoint : HOT_ENDPOINTS) {
+                    limiter.limit(projectUuid, hotEndpoint);
+                }
+            }
+        }
+        for (String hotEndpoint : HOT_ENDPOINTS) {
+            assertEquals(hotEndpoint, limiter.limit(projectUuid, hotEndpoint));
+        }
+        assertEquals(MAX_PER_PROJECT, limiter.cardinality());
+        assertEquals(collapsedExpected, limiter.collapsedCount());
+        assertTrue("Collapsed: " + collapsedExpected, collapsedExpected >= DISTINCT_URLS - MAX_PER_PROJECT);
+        assertTrue("Demoted: " + demoted, demoted.isEmpty());
+    }
+
+    @Test
+    public void idLikeSegmentsAreNormalized() {
+        assertEquals("/api/orders/{id}/items/{id}", EndpointTagLimiter.normalize("/api/orders/12345/items/7"));
+        assertEquals("/api/users/{id}/", EndpointTagLimiter.normalize("/api/users/"
+                + "3f2b8a6e-1c4d-4e5f-9a0b-1c2d3e4f5a6b/"));
+        assertEquals("/files/{id}", EndpointTagLimiter.normalize("/files/0af3c9d2e4b5a6978812"));
+        assertEquals("/api/v2/orders", EndpointTagLimiter.normalize("/api/v2/orders"));
+        assertEquals("/api/deadbeefcafebabe", EndpointTagLimiter.normalize("/api/deadbeefcafebabe"));
+
+        UUID projectUuid = UUID.randomUUID();
+        EndpointTagLimiter limiter = new EndpointTagLimiter(1, true, (project, endpoint) -> { });
+        for (int i = 0; i < DISTINCT_URLS; i++) {
+            assertEquals("/api/orders/{id}", limiter.limit(projectUuid, "/api/orders/" + i));
+        }
+        assertEquals(1, limiter.cardinality());
+        assertEquals(0, limiter.collapsedCount());
+    }
+
+    @Test
+    public void frequentEndpointDisplacesLeastFrequentOne() {
+        UUID projectUuid = UUID.randomUUID();
+        List<String> demoted = new ArrayList<>();
+        EndpointTagLimiter limiter = new EndpointTagLimiter(2, false, (project, endpoint) -> demoted.add(endpoint));
+        limiter.limit(projectUuid, "/rare");
+        for (int i = 0; i < 10; i++) {
+            limiter.limit(projectUuid, "/frequent");
+        }
+        assertEquals(EndpointTagLimiter.OTHER, limiter.limit(projectUuid, "/new"));
+        assertEquals("/new", limiter.limit(projectUuid, "/new"));
+        assertEquals(1, demoted.size());
+        assertEquals("/rare", demoted.get(0));
+        assertEquals(EndpointTagLimiter.OTHER, limiter.limit(projectUuid, "/rare"));
+        assertEquals("/frequent", limiter.limit(projectUuid, "/frequent"));
+    }
+
+    @Test
+    public void registryHasBoundedCountOfTimers() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new MetricsAggregateService(meterRegistry);
+        UUID projectUuid = UUID.randomUUID();
+        for (int i = 0; i < DISTINCT_URLS; i++) {
+            MetricsAggregateService.recordIncomingRequestDuration(projectUuid, TransportType.REST_INBOUND,
+                    "/api/orders/" + i, Duration.ofMillis(1));
+        }
+        int timers = meterRegistry.find(Metric.ATP_ITF_STUBS_INCOMING_REQUEST_SECONDS_BY_PROJECT.getValue())
+                .timers().size();
+        double cardinality = meterRegistry.get(Metric.ATP_ITF_STUBS_ENDPOINT_TAG_CARDINALITY.getValue())
+                .gauge().value();
+        double collapsed = meterRegistry.get(Metric.ATP_ITF_STUBS_ENDPOINT_TAG_COLLAPSED.getValue())
+                .functionCounter().count();
+        assertEquals(cardinality + 1, timers, 0.0);
+        assertEquals(DISTINCT_URLS, cardinality + collapsed, 0.0);
+        assertEquals((long) DISTINCT_URLS, meterRegistry.get(
+                Metric.ATP_ITF_STUBS_INCOMING_REQUEST_SECONDS_BY_PROJECT.getValue()).timers().stream()
+                .mapToLong(timer -> timer.count()).sum());
+    }
+
+    @Test
+    public void demotedEndpointTimersAreNotRegisteredAgainUnderContention() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new MetricsAggregateService(meterRegistry);
+        UUID projectUuid = UUID.randomUUID();
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                int shift = thread;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    // Frequencies of endpoints change over time, so endpoints are demoted and admitted again
+                    for (int i = 0; i < DISTINCT_URLS / threads; i++) {
+                        String url = "/api/hot/e" + ((i / 1000 + shift) % (MAX_PER_PROJECT * 2));
+                        MetricsAggregateService.recordIncomingRequestDuration(projectUuid,
+                                TransportType.REST_INBOUND, url, Duration.ofMillis(1));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        int timers = meterRegistry.find(Metric.ATP_ITF_STUBS_INCOMING_REQUEST_SECONDS_BY_PROJECT.getValue())
+                .timers().size();
+        double cardinality = meterRegistry.get(Metric.ATP_ITF_STUBS_ENDPOINT_TAG_CARDINALITY.getValue())
+                .gauge().value();
+        assertTrue("Timers: " + timers + ", cardinality: " + cardinality, timers <= cardinality + 1);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.monitoring.metrics;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertSame;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.qubership.automation.itf.core.model.communication.TransportType;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MetricsAggregateServiceTest {
+
+    private static final TransportType[] TRANSPORTS = {TransportType.REST_INBOUND,
+            TransportType.SOAP_OVER_HTTP_INBOUND, TransportType.HTTP2_INBOUND};
+    private static final int THREADS = 16;
+    private static final int INCREMENTS_PER_THREAD = 5000;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeMethod
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        new MetricsAggregateService(meterRegistry);
+    }
+
+    private double incomingRequests(UUID projectUuid, TransportType transportType, boolean result) {
+        Counter counter = meterRegistry.find(Metric.ATP_ITF_STUBS_INCOMING_REQUEST_BY_PROJECT.getValue())
+                .tag(MetricTag.PROJECT.getValue(), projectUuid.toString())
+                .tag(MetricTag.TRANSPORT_TYPE.getValue(), transportType.name())
+                .tag(MetricTag.RESULT.getValue(), String.valueOf(result))
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    public void countersAreTaggedCorrectlyUnderContention() throws Exception {
+        List<UUID> projects = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            projects.add(UUID.randomUUID());
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                UUID projectUuid = projects.get(thread % projects.size());
+                TransportType transportType = TRANSPORTS[thread % TRANSPORTS.length];
+                boolean result = thread % 2 == 0;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < INCREMENTS_PER_THREAD; i++) {
+                        MetricsAggregateService.incrementIncomingRequestToProject(projectUuid, transportType, result);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        for (UUID projectUuid : projects) {
+            for (TransportType transportType : TRANSPORTS) {
+                for (boolean result : new boolean[]{true, false}) {
+                    long expectedThreads = 0;
+                    for (int thread = 0; thread < THREADS; thread++) {
+                        if (projects.get(thread % projects.size()).equals(projectUuid)
+                                && TRANSPORTS[thread % TRANSPORTS.length] == transportType
+                                && (thread % 2 == 0) == result) {
+                            expectedThreads++;
+                        }
+                    }
+                    assertEquals(projectUuid + "/" + transportType + "/" + result,
+                            (double) expectedThreads * INCREMENTS_PER_THREAD,
+                            incomingRequests(projectUuid, transportType, result), 0.0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void timerIsRegisteredOncePerTags() {
+        UUID projectUuid = UUID.randomUUID();
+        MetricsAggregateService.recordIncomingRequestDuration(projectUuid, TransportType.REST_INBOUND, "/a",
+                Duration.ofMillis(10));
+        MetricsAggregateService.recordIncomingRequestDuration(projectUuid, TransportType.REST_INBOUND, "/a",
+                Duration.ofMillis(20));
+        MetricsAggregateService.recordIncomingRequestDuration(projectUuid, TransportType.REST_INBOUND, "/b",
+                Duration.ofMillis(30));
+
+        assertEquals(2, meterRegistry.find(Metric.ATP_ITF_STUBS_INCOMING_REQUEST_SECONDS_BY_PROJECT.getValue())
+                .timers().size());
+        assertEquals(2, meterRegistry.find(Metric.ATP_ITF_STUBS_INCOMING_REQUEST_SECONDS_BY_PROJECT.getValue())
+                .tag(MetricTag.ENDPOINT.getValue(), "/a").timer().count());
+    }
+
+    @Test
+    public void countersOfOtherMetricsAreNotMixedUp() {
+        UUID projectUuid = UUID.randomUUID();
+        MetricsAggregateService service = new MetricsAggregateService(meterRegistry);
+        service.incrementRequestToProject(projectUuid, Metric.ATP_ITF_STUBS_ACTIVE_TRIGGER_BY_PROJECT);
+        service.incrementRequestToProject(projectUuid, Metric.ATP_ITF_STUBS_ACTIVE_TRIGGER_BY_PROJECT);
+        service.incrementRequestToProject(projectUuid, Metric.ATP_ITF_STUBS_ERROR_TRIGGER_BY_PROJECT);
+
+        Counter active = meterRegistry.find(Metric.ATP_ITF_STUBS_ACTIVE_TRIGGER_BY_PROJECT.getValue()).counter();
+        Counter error = meterRegistry.find(Metric.ATP_ITF_STUBS_ERROR_TRIGGER_BY_PROJECT.getValue()).counter();
+        assertEquals(2.0, active.count(), 0.0);
+        assertEquals(1.0, error.count(), 0.0);
+        assertSame(active, meterRegistry.find(Metric.ATP_ITF_STUBS_ACTIVE_TRIGGER_BY_PROJECT.getValue())
+                .tag(MetricTag.PROJECT.getValue(), projectUuid.toString()).counter());
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger;
+
+import static org.testng.AssertJUnit.assertSame;
+
+import java.util.Random;
+import java.util.StringJoiner;
+
+import org.qubership.automation.itf.core.model.condition.ConditionsHelper;
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.core.stub.fast.ResponseDescription;
+import org.qubership.automation.itf.core.stub.fast.StubEndpointConfig;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compiled matching must agree with linear interpretation via ConditionsHelper on randomized configurations,
+ * so the decision table never skips a response which ConditionsHelper would select.
+ */
+public class CompiledConditionalResponsesTest {
+
+    private static final String[] NAMES = {"p1", "p2", "p3"};
+    /*
+        Besides exact values, there are values which may be equal for ConditionsHelper but not for HashMap:
+        other case, surrounding whitespace, number formats and empty value (vs missing variable).
+     */
+    private static final String[] VALUES = {"a", "b", "c", "A", " a", "b ", "1", "1.0", "01", "+1", ""};
+    private static final String[] CONTEXT_ONLY_VALUES = {"B", " c ", "1.00", "2", " "};
+    private static final String[] CONDITIONS = {"EQUALS", "EQUALS", "EQUALS", "EXISTS"};
+    private static final String[] ETCS = {"AND", "AND", "AND", "OR"};
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static String randomConfig(Random random, int responsesCount) {
+        StringJoiner responses = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < responsesCount; i++) {
+            int parametersCount = 1 + random.nextInt(3);
+            StringJoiner parameters = new StringJoiner(",", "[", "]");
+            for (int j = 0; j < parametersCount; j++) {
+                String etc = j == parametersCount - 1 ? "null" : "\"" + pick(random, ETCS) + "\"";
+                parameters.add("{\"name\": \"" + pick(random, NAMES) + "\", \"condition\": \""
+                        + pick(random, CONDITIONS) + "\", \"value\": \"" + pick(random, VALUES)
+                        + "\", \"etc\": " + etc + ", \"orderId\": " + j + "}");
+            }
+            responses.add("{\"body\": \"response-" + i + "\", \"disabled\": " + (random.nextInt(10) == 0)
+                    + ", \"responseCondition\": {\"conditionParameters\": " + parameters + "}}");
+        }
+        return "{\"configuredEndpoint\": \"/random\", \"conditionalResponses\": " + responses + "}";
+    }
+
+    private static JsonContext randomContext(Random random) {
+        JsonContext context = new JsonContext();
+        for (String name : NAMES) {
+            int value = random.nextInt(VALUES.length + CONTEXT_ONLY_VALUES.length + 1);
+            if (value < VALUES.length) {
+                context.put(name, VALUES[value]);
+            } else if (value < VALUES.length + CONTEXT_ONLY_VALUES.length) {
+                context.put(name, CONTEXT_ONLY_VALUES[value - VALUES.length]);
+            }
+        }
+        return context;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static ResponseDescription interpret(JsonContext context, StubEndpointConfig cfg) {
+        for (ResponseDescription responseDescription : cfg.getConditionalResponses()) {
+            if (!Boolean.TRUE.equals(responseDescription.getDisabled())
+                    && ConditionsHelper.isApplicable(context,
+                    responseDescription.getResponseCondition().getConditionParameters())) {
+                return responseDescription;
+            }
+        }
+        return null;
+    }
+
+    @Test
+    public void compiledMatcherAgreesWithInterpreter() throws Exception {
+        Random random = new Random(20241017L);
+        for (int configNumber = 0; configNumber < 300; configNumber++) {
+            StubEndpointConfig cfg = MAPPER.readValue(randomConfig(random, 1 + random.nextInt(40)),
+                    StubEndpointConfig.class);
+            ConditionalResponsesIndex index = ConditionalResponsesIndex.of(cfg);
+            for (int contextNumber = 0; contextNumber < 50; contextNumber++) {
+                JsonContext context = randomContext(random);
+                assertSame("Config #" + configNumber + ", context: " + context,
+                        interpret(context, cfg), index.match(context, null));
+            }
+        }
+    }
+}
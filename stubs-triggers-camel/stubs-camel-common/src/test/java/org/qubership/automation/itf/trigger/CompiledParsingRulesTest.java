@@ -0,0 +1,232 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.qubership.automation.itf.core.message.parser.Parser;
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.core.model.jpa.message.Message;
+import org.qubership.automation.itf.core.stub.fast.StubEndpointConfig;
+import org.qubership.automation.itf.core.stub.parser.SimpleParsingRule;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class CompiledParsingRulesTest {
+
+    private static final BigInteger PROJECT_ID = BigInteger.ONE;
+    private static final int MESSAGES = 500;
+    private static final String[] TOKENS = {"id=", "status=", "code=", "name=", "id=x", "=", " ", "\n", "7", "abc",
+            "<id>", "</id>", "status=ACTIVE", "code=200"};
+
+    private static final String XML = "<orders><order id='1'><status>ACTIVE</status></order>"
+            + "<order id='2'><status>CLOSED</status></order></orders>";
+    private static final String JSON = "{\"orders\": [{\"id\": 1, \"status\": \"ACTIVE\", \"items\": [\"a\"]},"
+            + " {\"id\": 2, \"status\": \"CLOSED\", \"items\": []}], \"total-count\": 2}";
+
+    private static String rule(String paramName, String expression, boolean multiple) {
+        return rule(paramName, expression, "REGEX", multiple);
+    }
+
+    private static String rule(String paramName, String expression, String parsingType, boolean multiple) {
+        return "{\"paramName\": \"" + paramName + "\", \"expression\": \"" + expression
+                + "\", \"parsingType\": \"" + parsingType + "\", \"multiple\": " + multiple + "}";
+    }
+
+    private static StubEndpointConfig config(String body, String... rules) throws Exception {
+        return config(false, body, rules);
+    }
+
+    private static StubEndpointConfig config(boolean skipReporting, String body, String... rules) throws Exception {
+        return new ObjectMapper().readValue("{\"configuredEndpoint\": \"/parsing/test\", \"skipReporting\": "
+                + skipReporting + ", \"parsingRules\": [" + String.join(",", rules) + "],"
+                + " \"defaultResponse\": {\"body\": \"" + body + "\"},"
+                + " \"conditionalResponses\": [{\"body\": \"conditional\", \"responseCondition\": {"
+                + "\"conditionParameters\": [{\"name\": \"status\", \"condition\": \"EQUALS\", \"value\": \"ACTIVE\","
+                + " \"etc\": null, \"orderId\": 0}]}}]}", StubEndpointConfig.class);
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder text = new StringBuilder();
+        int tokens = random.nextInt(40);
+        for (int i = 0; i < tokens; i++) {
+            text.append(TOKENS[random.nextInt(TOKENS.length)]);
+        }
+        return text.toString();
+    }
+
+    private static List<SimpleParsingRule> applied(StubEndpointConfig cfg, String... paramNames) {
+        List<SimpleParsingRule> rules = new ArrayList<>();
+        for (SimpleParsingRule rule : cfg.getParsingRules()) {
+            for (String paramName : paramNames) {
+                if (paramName.equals(rule.getParamName())) {
+                    rules.add(rule);
+                }
+            }
+        }
+        return rules;
+    }
+
+    @Test
+    public void compiledRulesGiveTheSameContextAsParser() throws Exception {
+        StubEndpointConfig cfg = config("${id} ${code[0]} ${whole} ${same}",
+                rule("id", "id=(\\\\w+)", false),
+                rule("status", "status=(\\\\w*)", false),
+                rule("code", "code=(\\\\d+)", true),
+                rule("whole", "<id>[^<]*</id>", true),
+                rule("same", "id=(\\\\w+)", true));
+        CompiledParsingRules compiled = CompiledParsingRules.of(cfg);
+        Random random = new Random(42);
+        for (int i = 0; i < MESSAGES; i++) {
+            Message message = new Message(randomText(random));
+            JsonContext expected = new Parser().parseToJsonContext(message, cfg.getParsingRules(), PROJECT_ID);
+            assertEquals(message.getText(), expected, compiled.parse(message, PROJECT_ID));
+        }
+        assertTrue("Compiled rules are fallen back to Parser", compiled.isCompiled());
+    }
+
+    @Test
+    public void xpathRulesGiveTheSameContextAsParser() throws Exception {
+        StubEndpointConfig cfg = config("${status} ${statuses} ${id} ${count}",
+                rule("status", "//order/status", "XPATH", false),
+                rule("statuses", "//order/status", "XPATH", true),
+                rule("id", "/orders/order[2]/@id", "XPATH", false),
+                rule("count", "//missing", "XPATH", true));
+        assertSameAsParser(cfg, XML, "<orders/>", "<orders><order id='3'/></orders>");
+    }
+
+    @Test
+    public void jsonPathRulesGiveTheSameContextAsParser() throws Exception {
+        StubEndpointConfig cfg = config("${status} ${statuses} ${id} ${items} ${count}",
+                rule("status", "$.orders[*].status", "JSONPATH", false),
+                rule("statuses", "$.orders[*].status", "JSONPATH", true),
+                rule("id", "$.orders[1].id", "JSONPATH", false),
+                rule("items", "$.orders[0].items", "JSONPATH", false),
+                rule("count", "$['total-count']", "JSONPATH", false));
+        assertSameAsParser(cfg, JSON, "{}", "{\"orders\": []}");
+    }
+
+    @Test
+    public void documentIsParsedOnceForAllRules() throws Exception {
+        String[] rules = new String[20];
+        StringBuilder template = new StringBuilder();
+        for (int i = 0; i < rules.length; i++) {
+            rules[i] = rule("status" + i, "//order[" + (i % 2 + 1) + "]/status", "XPATH", false);
+            template.append("${status").append(i).append('}');
+        }
+        StubEndpointConfig cfg = config(template.toString(), rules);
+        CompiledParsingRules compiled = CompiledParsingRules.of(cfg);
+        Message message = new Message(XML);
+        for (int i = 0; i < 5; i++) {
+            MessageDocument document = new MessageDocument(message.getText());
+            JsonContext context = compiled.parse(message, document, PROJECT_ID);
+            assertEquals("CLOSED", context.get("status19"));
+            assertEquals(1, document.getParsings());
+        }
+        assertTrue(compiled.isCompiled());
+    }
+
+    @Test
+    public void unsupportedJsonPathIsLeftToParser() throws Exception {
+        StubEndpointConfig cfg = config("${status}", rule("status", "$..status", "JSONPATH", false));
+        assertFalse(CompiledParsingRules.of(cfg).isCompiled());
+    }
+
+    private static void assertSameAsParser(StubEndpointConfig cfg, String... texts) {
+        CompiledParsingRules compiled = CompiledParsingRules.of(cfg);
+        for (int i = 0; i < MESSAGES / 10; i++) {
+            for (String text : texts) {
+                Message message = new Message(text);
+                JsonContext expected = new Parser().parseToJsonContext(message, cfg.getParsingRules(), PROJECT_ID);
+                assertEquals(text, expected, compiled.parse(message, PROJECT_ID));
+            }
+        }
+        assertTrue("Compiled rules are fallen back to Parser", compiled.isCompiled());
+    }
+
+    @Test
+    public void unreferencedRulesAreSkipped() throws Exception {
+        StubEndpointConfig cfg = config(true, "${id}",
+                rule("id", "id=(\\\\w+)", false),
+                rule("status", "status=(\\\\w*)", false),
+                rule("unused", "code=(\\\\d+)", true),
+                rule("identifier", "id=(\\\\w+)", false));
+        CompiledParsingRules compiled = CompiledParsingRules.compile(cfg, true);
+        assertEquals(2, compiled.getAppliedRulesCount());
+        Message message = new Message("id=1 status=ACTIVE code=200");
+        JsonContext expected = new Parser().parseToJsonContext(message, applied(cfg, "id", "status"), PROJECT_ID);
+        JsonContext actual = compiled.parse(message, PROJECT_ID);
+        assertEquals(expected, actual);
+        assertNull(actual.get("unused"));
+        assertNull(actual.get("identifier"));
+        assertNull(compiled.parseOperation(message, new MessageDocument(message.getText()), "unknown", PROJECT_ID));
+    }
+
+    @Test
+    public void unreferencedRulesAreKeptByDefault() throws Exception {
+        StubEndpointConfig cfg = config(true, "${id}",
+                rule("id", "id=(\\\\w+)", false),
+                rule("unused", "code=(\\\\d+)", true));
+        assertEquals(2, CompiledParsingRules.of(cfg).getAppliedRulesCount());
+    }
+
+    @Test
+    public void unreferencedRulesAreKeptIfResponseMayBeReported() throws Exception {
+        StubEndpointConfig cfg = config(false, "${id}",
+                rule("id", "id=(\\\\w+)", false),
+                rule("unused", "code=(\\\\d+)", true));
+        assertEquals(2, CompiledParsingRules.compile(cfg, true).getAppliedRulesCount());
+    }
+
+    @Test
+    public void allRulesAreKeptIfWholeContextIsReferenced() throws Exception {
+        for (String body : new String[]{"$tc.saved", "$tc.get('unused')", "$sp.get($name)",
+                "#foreach($entry in $sp.entrySet())$entry#end", "$sp.keySet()", "$!{sp}"}) {
+            StubEndpointConfig cfg = config(true, body,
+                    rule("id", "id=(\\\\w+)", false),
+                    rule("unused", "code=(\\\\d+)", true));
+            assertEquals(body, 2, CompiledParsingRules.compile(cfg, true).getAppliedRulesCount());
+        }
+        StubEndpointConfig cfg = config(true, "${sp.id} $sp.id.length()",
+                rule("id", "id=(\\\\w+)", false),
+                rule("unused", "code=(\\\\d+)", true));
+        assertEquals(1, CompiledParsingRules.compile(cfg, true).getAppliedRulesCount());
+    }
+
+    @Test
+    public void invalidExpressionIsLeftToParser() throws Exception {
+        StubEndpointConfig cfg = config("${id}", rule("id", "id=(\\\\w+", false));
+        assertFalse(CompiledParsingRules.of(cfg).isCompiled());
+    }
+
+    @Test
+    public void rulesAreCompiledOncePerConfiguration() throws Exception {
+        StubEndpointConfig cfg = config("${id}", rule("id", "id=(\\\\w+)", false));
+        assertSame(CompiledParsingRules.of(cfg), CompiledParsingRules.of(cfg));
+    }
+}
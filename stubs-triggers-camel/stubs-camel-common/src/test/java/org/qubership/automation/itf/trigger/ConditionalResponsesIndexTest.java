@@ -0,0 +1,121 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.qubership.automation.itf.core.stub.fast.ResponseDescription;
+import org.qubership.automation.itf.core.stub.fast.StubEndpointConfig;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class ConditionalResponsesIndexTest {
+
+    private static final String CONFIG = "{\"configuredEndpoint\": \"/index/test\", \"conditionalResponses\": ["
+            + response("A-1", "A", "a", false) + ","
+            + response("B-1", "B", "b", false) + ","
+            + response("A-disabled", "A", "a", true) + ","
+            + response("A-2", "A", "x", false) + ","
+            + response("no-operation", null, "a", false)
+            + "]}";
+
+    private StubEndpointConfig cfg;
+
+    private static String response(String body, String operation, String value, boolean disabled) {
+        return "{\"body\": \"" + body + "\", \"disabled\": " + disabled + ", \"responseCondition\": {"
+                + (operation == null ? "" : "\"operationDefinitionKey\": \"" + operation + "\", ")
+                + "\"conditionParameters\": [{\"name\": \"param\", \"condition\": \"EQUALS\", \"value\": \""
+                + value + "\", \"etc\": null, \"orderId\": 0}]}}";
+    }
+
+    private static List<String> bodies(List<ResponseDescription> responses) {
+        return responses.stream().map(ResponseDescription::getBody).collect(Collectors.toList());
+    }
+
+    private static JsonContext context(String param) {
+        JsonContext context = new JsonContext();
+        context.put("param", param);
+        return context;
+    }
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        cfg = new ObjectMapper().readValue(CONFIG, StubEndpointConfig.class);
+    }
+
+    @Test
+    public void candidatesAreFilteredByOperationInConfigurationOrder() {
+        ConditionalResponsesIndex index = ConditionalResponsesIndex.of(cfg);
+        assertEquals(Arrays.asList("A-1", "A-2"), bodies(index.getCandidates("A")));
+        assertEquals(Collections.singletonList("B-1"), bodies(index.getCandidates("B")));
+        assertTrue(index.getCandidates("C").isEmpty());
+        assertEquals(Arrays.asList("A-1", "B-1", "A-2", "no-operation"), bodies(index.getCandidates(null)));
+        assertEquals(bodies(index.getCandidates(null)), bodies(index.getCandidates("")));
+    }
+
+    @Test
+    public void indexIsBuiltOncePerConfiguration() {
+        assertSame(ConditionalResponsesIndex.of(cfg), ConditionalResponsesIndex.of(cfg));
+    }
+
+    @Test
+    public void conditionsAreCheckedForOperationOfTheRequestOnly() {
+        assertEquals("A-1", FastStubsHelper.checkConditions(context("a"), cfg, "A").getBody());
+        assertNull(FastStubsHelper.checkConditions(context("a"), cfg, "B"));
+        assertEquals("A-2", FastStubsHelper.checkConditions(context("x"), cfg, "A").getBody());
+        assertEquals("B-1", FastStubsHelper.checkConditions(context("b"), cfg, null).getBody());
+    }
+
+    @Test
+    public void concurrentRequestsToTheSameEndpointDoNotAffectEachOther() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 20000; i++) {
+                boolean operationA = i % 2 == 0;
+                results.add(pool.submit(() -> {
+                    ResponseDescription responseDescription = operationA
+                            ? FastStubsHelper.checkConditions(context("a"), cfg, "A")
+                            : FastStubsHelper.checkConditions(context("b"), cfg, "B");
+                    return responseDescription != null
+                            && responseDescription.getBody().equals(operationA ? "A-1" : "B-1");
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
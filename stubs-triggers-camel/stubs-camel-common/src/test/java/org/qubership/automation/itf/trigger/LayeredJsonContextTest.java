@@ -0,0 +1,138 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
+import org.testng.annotations.Test;
+
+public class LayeredJsonContextTest {
+
+    private static JsonContext variables(String prefix) {
+        JsonContext variables = new JsonContext();
+        variables.put(prefix + "id", "1");
+        variables.put(prefix + "status", "ACTIVE");
+        variables.put(prefix + "codes", Arrays.asList("200", "202"));
+        return variables;
+    }
+
+    /*
+        Previous implementation: deep copies of variables into 'sp' and 'tc.saved'.
+     */
+    private static JsonContext copies(JsonContext ctx) {
+        JsonContext sp = new JsonContext();
+        sp.merge(ctx);
+        JsonContext tc = new JsonContext();
+        tc.put("saved", new JsonContext());
+        ((JsonContext) tc.get("saved")).merge(ctx);
+        ctx.put("sp", sp);
+        ctx.put("tc", tc);
+        return ctx;
+    }
+
+    private static JsonContext sp(JsonContext context) {
+        return (JsonContext) context.get("sp");
+    }
+
+    private static JsonContext saved(JsonContext context) {
+        return (JsonContext) ((JsonContext) context.get("tc")).get("saved");
+    }
+
+    @Test
+    public void viewsAreEqualToCopies() {
+        JsonContext expected = copies(variables(""));
+        JsonContext actual = LayeredJsonContext.withSpAndTc(variables(""));
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.keySet(), actual.keySet());
+        assertEquals(sp(expected), sp(actual));
+        assertEquals(saved(expected), saved(actual));
+        assertTrue(((LayeredJsonContext) sp(actual)).isShared());
+    }
+
+    @Test
+    public void mergedOperationContextIsTheSameAsWithCopies() {
+        JsonContext expected = copies(variables(""));
+        expected.merge(copies(variables("operation_")));
+        JsonContext actual = LayeredJsonContext.withSpAndTc(variables(""));
+        actual.merge(LayeredJsonContext.withSpAndTc(variables("operation_")));
+        assertEquals(expected, actual);
+        assertEquals(sp(expected), sp(actual));
+        assertEquals(saved(expected), saved(actual));
+    }
+
+    @Test
+    public void writesThroughOneViewAreNotVisibleInOthers() {
+        JsonContext base = variables("");
+        Map<Object, Object> original = new HashMap<Object, Object>(base);
+        JsonContext context = LayeredJsonContext.withSpAndTc(base);
+        JsonContext sp = sp(context);
+        JsonContext saved = saved(context);
+
+        sp.put("status", "CLOSED");
+        sp.put("added", "sp");
+        assertEquals("CLOSED", sp.get("status"));
+        assertEquals("ACTIVE", saved.get("status"));
+        assertEquals("ACTIVE", context.get("status"));
+        assertNull(saved.get("added"));
+        assertNull(context.get("added"));
+        assertEquals(original.size() + 1, sp.size());
+
+        saved.remove("id");
+        assertFalse(saved.containsKey("id"));
+        assertFalse(((LayeredJsonContext) saved).isShared());
+        assertEquals("1", sp.get("id"));
+        assertEquals("1", context.get("id"));
+
+        context.put("id", "2");
+        assertEquals("2", context.get("id"));
+        assertEquals("1", sp.get("id"));
+        assertFalse(saved.containsKey("id"));
+
+        sp.clear();
+        assertTrue(sp.isEmpty());
+        assertEquals("ACTIVE", context.get("status"));
+        assertEquals(original, base);
+    }
+
+    @Test
+    public void ownEntriesOverrideBaseInIteration() {
+        JsonContext view = new LayeredJsonContext(variables(""));
+        view.put("status", "CLOSED");
+        view.put("added", "value");
+        Map<Object, Object> expected = new HashMap<Object, Object>(variables(""));
+        expected.put("status", "CLOSED");
+        expected.put("added", "value");
+        Map<Object, Object> iterated = new HashMap<>();
+        view.forEach(iterated::put);
+        assertEquals(expected, iterated);
+        assertEquals(expected.size(), view.entrySet().size());
+        assertEquals(expected.size(), view.values().size());
+        assertTrue(view.containsValue("CLOSED"));
+        assertFalse(view.containsValue("ACTIVE"));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger.camel;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.DefaultExchange;
+import org.qubership.automation.itf.core.model.communication.TransportType;
+import org.qubership.automation.itf.monitoring.metrics.Metric;
+import org.qubership.automation.itf.monitoring.metrics.MetricTag;
+import org.qubership.automation.itf.monitoring.metrics.MetricsAggregateService;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class PhaseTimingsTest {
+
+    private static final long TOLERANCE_MILLIS = 20;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeMethod
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        new MetricsAggregateService(meterRegistry);
+    }
+
+    private static void phase(Exchange exchange, RequestPhase phase, long millis) throws InterruptedException {
+        long phaseStarted = System.nanoTime();
+        Thread.sleep(millis);
+        PhaseTimings.add(exchange, phase, phaseStarted);
+    }
+
+    private double phaseMillis(RequestPhase phase) {
+        Timer timer = meterRegistry.find(Metric.ATP_ITF_STUBS_INCOMING_REQUEST_PHASE_SECONDS.getValue())
+                .tag(MetricTag.TRANSPORT_TYPE.getValue(), TransportType.REST_INBOUND.name())
+                .tag(MetricTag.PHASE.getValue(), phase.getValue())
+                .timer();
+        return timer == null ? -1 : timer.totalTime(TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void phasesSumUpToTotalExchangeTime() throws Exception {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        long started = System.nanoTime();
+        PhaseTimings.start(exchange);
+        phase(exchange, RequestPhase.INCOMING_MESSAGE, 10);
+        phase(exchange, RequestPhase.FAST_STUB_PARSING, 20);
+        phase(exchange, RequestPhase.CONDITIONS_MATCHING, 5);
+        Thread.sleep(15); // not covered by any phase
+        phase(exchange, RequestPhase.EXECUTOR_SEND, 5);
+        phase(exchange, RequestPhase.EXECUTOR_WAIT, 30);
+        phase(exchange, RequestPhase.RESPONSE_BUILDING, 10);
+        PhaseTimings.record(exchange, TransportType.REST_INBOUND);
+        double totalMillis = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started) / 1000.0;
+
+        double sum = 0;
+        for (RequestPhase phase : RequestPhase.values()) {
+            double millis = phaseMillis(phase);
+            if (millis >= 0) {
+                sum += millis;
+            }
+        }
+        assertTrue("Sum of phases " + sum + " ms, total " + totalMillis + " ms",
+                sum <= totalMillis && totalMillis - sum < TOLERANCE_MILLIS);
+        assertTrue(phaseMillis(RequestPhase.EXECUTOR_WAIT) >= 30);
+        assertTrue(phaseMillis(RequestPhase.OTHER) >= 15);
+        assertEquals(-1.0, phaseMillis(RequestPhase.FAST_RESPONSE_BUILDING), 0.0);
+    }
+
+    @Test
+    public void nothingIsRecordedIfTimingsAreNotStarted() throws Exception {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        phase(exchange, RequestPhase.INCOMING_MESSAGE, 1);
+        PhaseTimings.record(exchange, TransportType.REST_INBOUND);
+
+        assertTrue(meterRegistry.find(Metric.ATP_ITF_STUBS_INCOMING_REQUEST_PHASE_SECONDS.getValue())
+                .timers().isEmpty());
+    }
+
+    @Test
+    public void timingsAreRecordedOnce() throws Exception {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        PhaseTimings.start(exchange);
+        phase(exchange, RequestPhase.INCOMING_MESSAGE, 1);
+        PhaseTimings.record(exchange, TransportType.REST_INBOUND);
+        PhaseTimings.record(exchange, TransportType.REST_INBOUND);
+
+        assertEquals(1, meterRegistry.find(Metric.ATP_ITF_STUBS_INCOMING_REQUEST_PHASE_SECONDS.getValue())
+                .tag(MetricTag.PHASE.getValue(), RequestPhase.INCOMING_MESSAGE.getValue()).timer().count());
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger.camel;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.testng.annotations.Test;
+
+public class ReportingQueueTest {
+
+    private static void waitFor(ReportingQueue queue, long expectedSent) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (queue.getSentCount() < expectedSent && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static Consumer<List<Object>> blockedSender(CountDownLatch release, List<Object> sent) {
+        return batch -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sent.addAll(batch);
+        };
+    }
+
+    @Test
+    public void enqueueLatencyDoesNotDependOnSlowSender() throws Exception {
+        List<List<Object>> batches = new CopyOnWriteArrayList<>();
+        ReportingQueue queue = new ReportingQueue(10000, ReportingQueue.OverflowPolicy.BLOCK, 1000, 50, 2,
+                batch -> {
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    batches.add(batch);
+                });
+        try {
+            assertTrue(queue.offer(() -> "warm-up"));
+            long maxOfferNanos = 0;
+            for (int i = 1; i < 1000; i++) {
+                int report = i;
+                long started = System.nanoTime();
+                assertTrue(queue.offer(() -> report));
+                maxOfferNanos = Math.max(maxOfferNanos, System.nanoTime() - started);
+            }
+            assertTrue("Max enqueue time, ms: " + TimeUnit.NANOSECONDS.toMillis(maxOfferNanos),
+                    maxOfferNanos < TimeUnit.MILLISECONDS.toNanos(50));
+            waitFor(queue, 1000);
+            assertEquals(1000, queue.getSentCount());
+            assertEquals(1000, batches.stream().mapToInt(List::size).sum());
+            assertTrue("Reports must be sent in batches, batches count: " + batches.size(), batches.size() < 1000);
+        } finally {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    public void dropNewPolicyRejectsReportsWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Object> sent = new CopyOnWriteArrayList<>();
+        ReportingQueue queue = new ReportingQueue(2, ReportingQueue.OverflowPolicy.DROP_NEW, 0, 1, 1,
+                blockedSender(release, sent));
+        try {
+            assertTrue(queue.offer(() -> "in-flight"));
+            while (queue.size() > 0) {
+                Thread.sleep(1);
+            }
+            assertTrue(queue.offer(() -> "first"));
+            assertTrue(queue.offer(() -> "second"));
+            assertFalse(queue.offer(() -> "third"));
+            assertEquals(1, queue.getDroppedNewCount());
+            release.countDown();
+            waitFor(queue, 3);
+            assertEquals(Arrays.asList("in-flight", "first", "second"), sent);
+        } finally {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    public void dropOldestPolicyEvictsOldestReportWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Object> sent = new CopyOnWriteArrayList<>();
+        ReportingQueue queue = new ReportingQueue(2, ReportingQueue.OverflowPolicy.DROP_OLDEST, 0, 1, 1,
+                blockedSender(release, sent));
+        try {
+            assertTrue(queue.offer(() -> "in-flight"));
+            while (queue.size() > 0) {
+                Thread.sleep(1);
+            }
+            assertTrue(queue.offer(() -> "first"));
+            assertTrue(queue.offer(() -> "second"));
+            assertTrue(queue.offer(() -> "third"));
+            assertEquals(1, queue.getDroppedOldestCount());
+            release.countDown();
+            waitFor(queue, 3);
+            assertEquals(Arrays.asList("in-flight", "second", "third"), sent);
+        } finally {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    public void blockPolicyGivesUpAfterTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ReportingQueue queue = new ReportingQueue(1, ReportingQueue.OverflowPolicy.BLOCK, 50, 1, 1,
+                blockedSender(release, new CopyOnWriteArrayList<>()));
+        try {
+            assertTrue(queue.offer(() -> "in-flight"));
+            while (queue.size() > 0) {
+                Thread.sleep(1);
+            }
+            assertTrue(queue.offer(() -> "queued"));
+            long started = System.nanoTime();
+            assertFalse(queue.offer(() -> "rejected"));
+            assertTrue(System.nanoTime() - started >= TimeUnit.MILLISECONDS.toNanos(50));
+            assertEquals(1, queue.getDroppedNewCount());
+        } finally {
+            release.countDown();
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    public void failedReportBuildersAreCountedAndSkipped() throws Exception {
+        List<Object> sent = new CopyOnWriteArrayList<>();
+        ReportingQueue queue = new ReportingQueue(10, ReportingQueue.OverflowPolicy.DROP_NEW, 0, 10, 1, sent::addAll);
+        try {
+            queue.offer(() -> {
+                throw new IllegalStateException("Report can't be built");
+            });
+            queue.offer(() -> "built");
+            waitFor(queue, 1);
+            assertEquals(1, queue.getFailedCount());
+            assertEquals(Collections.singletonList("built"), sent);
+        } finally {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    public void enqueuedReportsAreSentOnShutdown() {
+        List<Object> sent = new CopyOnWriteArrayList<>();
+        ReportingQueue queue = new ReportingQueue(1000, ReportingQueue.OverflowPolicy.DROP_NEW, 0, 10, 2, batch -> {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sent.addAll(batch);
+        });
+        for (int i = 0; i < 500; i++) {
+            queue.offer(() -> "report");
+        }
+        assertTrue(queue.shutdown(10000));
+        assertEquals(500, sent.size());
+        assertEquals(500, queue.getSentCount());
+    }
+
+    @Test
+    public void shutdownGivesUpAfterTimeout() {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Object> sent = new CopyOnWriteArrayList<>();
+        ReportingQueue queue = new ReportingQueue(10, ReportingQueue.OverflowPolicy.DROP_NEW, 0, 1, 1,
+                blockedSender(release, sent));
+        queue.offer(() -> "first");
+        queue.offer(() -> "second");
+        try {
+            assertFalse(queue.shutdown(100));
+        } finally {
+            release.countDown();
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package org.qubership.automation.itf.trigger.template.velocity;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.commons.lang.StringEscapeUtils;
@@ -8,6 +11,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.qubership.automation.itf.core.model.common.Storable;
 import org.qubership.automation.itf.core.model.jpa.context.InstanceContext;
+import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
 import org.qubership.automation.itf.core.model.jpa.context.TcContext;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
@@ -75,4 +79,77 @@ public class VelocityTemplateEngineTest {
         String processed = engine.process(map, velocityString, InstanceContext.from(context, null));
         Assert.assertEquals(processed, "<to>Tove</to>\n<from>Jani</from>\n<heading>Reminder</heading>\n<body>Don't forget me this weekend!</body>\n");
     }
+
+    @Test
+    public void testPlainTextIsReturnedAsIs() {
+        String plainString = "<response><code>0</code><text>Plain text \\ without markup</text></response>";
+        Assert.assertSame(engine.process(plainString, new JsonContext()), plainString);
+    }
+
+    @Test
+    public void testCachedTemplateIsMergedWithCurrentContext() {
+        String velocityString = "Hello, $name!#if($name == 'B') Again.#end";
+        JsonContext first = new JsonContext();
+        first.put("name", "A");
+        JsonContext second = new JsonContext();
+        second.put("name", "B");
+        Assert.assertEquals(engine.process(velocityString, first), "Hello, A!");
+        Assert.assertEquals(engine.process(velocityString, second), "Hello, B! Again.");
+        Assert.assertEquals(engine.process(velocityString, first), "Hello, A!");
+    }
+
+    @Test
+    public void testLightweightAndFullModesGiveTheSameResult() {
+        String velocityString = "#set($total = 0)#foreach($code in $codes)#set($total = $total + $code)"
+                + "$esc.xml($name)-$code;#end $math.add($total, 1) $number.format('#0000', 55.666)"
+                + " $display.alt($missing, 'none') $sp.status $codes.size()";
+        JsonContext context = new JsonContext();
+        context.put("name", "<A&B>");
+        context.put("codes", Arrays.asList(1, 2, 3));
+        JsonContext sp = new JsonContext();
+        sp.put("status", "ACTIVE");
+        context.put("sp", sp);
+        String full = new VelocityTemplateEngine(false).process(velocityString, context);
+        Assert.assertEquals(new VelocityTemplateEngine(true).process(velocityString, context), full);
+        Assert.assertEquals(full, "&lt;A&amp;B&gt;-1;&lt;A&amp;B&gt;-2;&lt;A&amp;B&gt;-3; 7 0056 none ACTIVE 3");
+    }
+
+    @Test
+    public void testLightweightModeProcessesTemplatesReferencingFullModeKeysInFullMode() {
+        String velocityString = "$TOOLS_VERSION $render.eval('#set($x = 1)$x') $!{context.contains('name')} $name";
+        JsonContext context = new JsonContext();
+        context.put("name", "A");
+        String full = new VelocityTemplateEngine(false).process(velocityString, context);
+        Assert.assertEquals(new VelocityTemplateEngine(true).process(velocityString, context), full);
+        Assert.assertFalse(full.contains("$"));
+        Assert.assertTrue(full.endsWith(" A"));
+    }
+
+    @Test
+    public void testLightweightRenderDoesNotModifyCallerContext() {
+        VelocityTemplateEngine lightweight = new VelocityTemplateEngine(true);
+        JsonContext context = new JsonContext();
+        context.put("name", "A");
+        Map<Object, Object> original = new HashMap<Object, Object>(context);
+        Assert.assertEquals(lightweight.process("#set($name = 'B')#set($added = 1)$name$added", context), "B1");
+        Assert.assertEquals(context, original);
+        Assert.assertEquals(lightweight.process("$name$!added", context), "A");
+    }
+
+    @Test
+    public void testVariablesOverrideTools() {
+        JsonContext context = new JsonContext();
+        context.put("esc", "variable");
+        Assert.assertEquals(new VelocityTemplateEngine(true).process("$esc", context), "variable");
+        Assert.assertEquals(new VelocityTemplateEngine(false).process("$esc", context), "variable");
+    }
+
+    @Test
+    public void testLazyToolboxCreatesListedToolsOnce() {
+        LazyToolbox toolbox = new LazyToolbox(Arrays.asList("org.apache.velocity.tools.generic.EscapeTool",
+                "org.example.MissingTool"));
+        Assert.assertEquals(toolbox.keySet(), Collections.singleton("esc"));
+        Assert.assertNull(toolbox.get("math"));
+        Assert.assertSame(toolbox.get("esc"), toolbox.get("esc"));
+    }
 }
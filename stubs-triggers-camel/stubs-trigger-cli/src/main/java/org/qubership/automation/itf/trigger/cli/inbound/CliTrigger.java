@@ -42,6 +42,8 @@ import org.apache.camel.impl.SimpleRegistry;
 import org.apache.camel.support.ServiceSupport;
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.automation.itf.JvmSettings;
+import org.qubership.automation.itf.communication.ExecutorUnavailableException;
+import org.qubership.automation.itf.communication.ResponseCorrelationRegistry;
 import org.qubership.automation.itf.communication.TriggerExecutionMessageSender;
 import org.qubership.automation.itf.core.model.communication.TransportType;
 import org.qubership.automation.itf.core.model.communication.message.CommonTriggerExecutionMessage;
@@ -49,7 +51,6 @@ import org.qubership.automation.itf.core.model.jpa.message.Message;
 import org.qubership.automation.itf.core.model.transport.ConnectionProperties;
 import org.qubership.automation.itf.core.util.config.Config;
 import org.qubership.automation.itf.core.util.descriptor.StorableDescriptor;
-import org.qubership.automation.itf.core.util.transport.service.LockProvider;
 import org.qubership.automation.itf.monitoring.metrics.MetricsAggregateService;
 import org.qubership.automation.itf.trigger.camel.Helper;
 import org.qubership.automation.itf.trigger.camel.inbound.AbstractCamelTrigger;
@@ -133,15 +134,25 @@ public class CliTrigger extends AbstractCamelTrigger {
                             ItfAbstractRouteBuilder.logExtendedInfo(projectUuid, sessionId, brokerMessageSelectorValue,
                                     CLI_INBOUND_TRANSPORT_CLASS_NAME, body == null
                                             ? 0 : body.getBytes(JvmSettings.CHARSET).length);
-                            TriggerExecutionMessageSender
-                                    .send(new CommonTriggerExecutionMessage(CLI_INBOUND_TRANSPORT_CLASS_NAME,
-                                                    requestMessage, getTriggerConfigurationDescriptor(),
-                                                    sessionId, brokerMessageSelectorValue),
-                                            getTriggerConfigurationDescriptor().getProjectUuid());
-                            LOGGER.debug("Project: {}, SessionId: {}, transport: '{}'"
-                                            + " - message to executor is sent.", projectUuid, sessionId,
-                                    CLI_INBOUND_TRANSPORT_CLASS_NAME);
-                            setUpOut(exchange, projectUuid, sessionId);
+                            try {
+                                TriggerExecutionMessageSender.sendAndTrack(new CommonTriggerExecutionMessage(
+                                                CLI_INBOUND_TRANSPORT_CLASS_NAME, requestMessage,
+                                                getTriggerConfigurationDescriptor(), sessionId,
+                                                brokerMessageSelectorValue),
+                                        getTriggerConfigurationDescriptor().getProjectUuid(),
+                                        CLI_INBOUND_TRANSPORT_CLASS_NAME);
+                                LOGGER.debug("Project: {}, SessionId: {}, transport: '{}'"
+                                                + " - message to executor is sent.", projectUuid, sessionId,
+                                        CLI_INBOUND_TRANSPORT_CLASS_NAME);
+                                setUpOut(exchange, projectUuid, sessionId);
+                            } catch (ExecutorUnavailableException e) {
+                                LOGGER.warn("Project: {}. SessionId: {}. The session isn't sent to executor: {}",
+                                        projectUuid, sessionId, e.getMessage());
+                                buildResponse(exchange, e.getMessage());
+                                MetricsAggregateService
+                                        .incrementIncomingRequestToProject(projectUuid, TransportType.CLI_INBOUND,
+                                                false);
+                            }
                             LOGGER.info("Project: {}. SessionId: {}. Response is sent from endpoint: {}",
                                     projectUuid, sessionId, endpointString);
                             MetricsAggregateService
@@ -257,11 +268,8 @@ public class CliTrigger extends AbstractCamelTrigger {
      *   to place cursor into 1st left position of the next row in the window
      */
     protected void setUpOut(Exchange exchange, UUID projectUuid, String sessionId) throws InterruptedException {
-        Message message = LockProvider.INSTANCE.waitResponse(sessionId,
-                Helper.getLockProviderCheckInterval(),
-                Helper.getLockProviderCheckMaxInterval(),
-                Helper.getLockProviderCheckMultiplier());
-        LOGGER.debug("Project {}, SessionId {}. Response is got from SessionHandler.", projectUuid, sessionId);
+        Message message = ResponseCorrelationRegistry.INSTANCE.waitResponse(sessionId);
+        LOGGER.debug("Project {}, SessionId {}. Response is got from executor.", projectUuid, sessionId);
         if (message != null) {
             buildResponse(exchange, message.getText() /*+ "\n\r"*/);
             MetricsAggregateService
@@ -36,21 +36,23 @@ import org.apache.camel.component.http4.HttpComponent;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.qubership.automation.itf.JvmSettings;
-import org.qubership.automation.itf.core.message.parser.Parser;
+import org.qubership.automation.itf.communication.ExecutorUnavailableException;
+import org.qubership.automation.itf.communication.ResponseCorrelationRegistry;
 import org.qubership.automation.itf.core.model.communication.TransportType;
 import org.qubership.automation.itf.core.model.jpa.context.JsonContext;
 import org.qubership.automation.itf.core.model.jpa.message.Message;
 import org.qubership.automation.itf.core.model.transport.ConnectionProperties;
 import org.qubership.automation.itf.core.stub.fast.ResponseDescription;
 import org.qubership.automation.itf.core.stub.fast.StubEndpointConfig;
-import org.qubership.automation.itf.core.stub.parser.SimpleParsingRule;
 import org.qubership.automation.itf.core.util.descriptor.StorableDescriptor;
 import org.qubership.automation.itf.core.util.engine.TemplateEngineFactory;
-import org.qubership.automation.itf.core.util.transport.service.LockProvider;
-import org.qubership.automation.itf.core.util.transport.service.SessionHandler;
 import org.qubership.automation.itf.monitoring.metrics.MetricsAggregateService;
+import org.qubership.automation.itf.trigger.CompiledParsingRules;
 import org.qubership.automation.itf.trigger.FastStubsHelper;
-import org.qubership.automation.itf.trigger.camel.Helper;
+import org.qubership.automation.itf.trigger.LayeredJsonContext;
+import org.qubership.automation.itf.trigger.MessageDocument;
+import org.qubership.automation.itf.trigger.camel.PhaseTimings;
+import org.qubership.automation.itf.trigger.camel.RequestPhase;
 import org.qubership.automation.itf.trigger.camel.inbound.AbstractCamelTrigger;
 import org.qubership.automation.itf.trigger.http.HttpConstants;
 import org.qubership.automation.itf.trigger.template.velocity.VelocityTemplateEngine;
@@ -66,11 +68,24 @@ public abstract class HttpInboundTrigger extends AbstractCamelTrigger {
     }
 
     protected Message setUpOut(Exchange exchange, String sessionId) throws Exception {
-        Message message = LockProvider.INSTANCE.waitResponse(sessionId,
-                Helper.getLockProviderCheckInterval(),
-                Helper.getLockProviderCheckMaxInterval(),
-                Helper.getLockProviderCheckMultiplier());
-        LOGGER.debug("Project {}, SessionId {}. Response is got from SessionHandler",
+        long phaseStarted = System.nanoTime();
+        Message message = ResponseCorrelationRegistry.INSTANCE.waitResponse(sessionId);
+        PhaseTimings.add(exchange, RequestPhase.EXECUTOR_WAIT, phaseStarted);
+        return setUpOut(exchange, sessionId, message);
+    }
+
+    /**
+     * Build Camel exchange response from executor response message.
+     *
+     * @param exchange - Camel exchange,
+     * @param sessionId - session id for logging purposes,
+     * @param message - response message received from executor (null if not received),
+     * @return the same response message.
+     * @throws Exception - in case errors while response building.
+     */
+    protected Message setUpOut(Exchange exchange, String sessionId, Message message) throws Exception {
+        long phaseStarted = System.nanoTime();
+        LOGGER.debug("Project {}, SessionId {}. Response is got from executor",
                 getTriggerConfigurationDescriptor().getProjectUuid(), sessionId);
         if (message != null) {
             if (this.getConnectionProperties() != null) {
@@ -87,14 +102,16 @@ public abstract class HttpInboundTrigger extends AbstractCamelTrigger {
         }
         LOGGER.debug("Project {}, SessionId {}. Response is built",
                 getTriggerConfigurationDescriptor().getProjectUuid(), sessionId);
+        PhaseTimings.add(exchange, RequestPhase.RESPONSE_BUILDING, phaseStarted);
         return message;
     }
 
-    protected void collectMetrics(UUID projectUuid, TransportType transportType, String endPoint, boolean resultState,
-                                  OffsetDateTime started) {
+    protected void collectMetrics(Exchange exchange, UUID projectUuid, TransportType transportType, String endPoint,
+                                  boolean resultState, OffsetDateTime started) {
         MetricsAggregateService.incrementIncomingRequestToProject(projectUuid, transportType, resultState);
         MetricsAggregateService.recordIncomingRequestDuration(projectUuid, transportType, endPoint,
                         Duration.between(started, OffsetDateTime.now()));
+        PhaseTimings.record(exchange, transportType);
     }
 
     /**
@@ -113,25 +130,79 @@ public abstract class HttpInboundTrigger extends AbstractCamelTrigger {
                                        StubEndpointConfig cfg,
                                        String sessionId,
                                        StorableDescriptor triggerDescriptor) throws Exception {
+        return prepareFastResponse(exchange, message, cfg, sessionId, triggerDescriptor, false);
+    }
+
+    /**
+     * Prepare response to the request rejected instead of sending the session to executor.
+     * Default response of fast stub configuration is used if configured (even if it's disabled for regular
+     * processing), otherwise the response with HTTP status and message of the rejection is built.
+     *
+     * @param exchange - Camel exchange,
+     * @param rejection - exception thrown instead of sending the session,
+     * @param message - incoming message,
+     * @param cfg - Fast stub configuration, may be null,
+     * @param sessionId - session id for logging purposes,
+     * @param triggerDescriptor - trigger configuration descriptor.
+     */
+    protected void setUpExecutorUnavailableOut(Exchange exchange,
+                                               ExecutorUnavailableException rejection,
+                                               Message message,
+                                               StubEndpointConfig cfg,
+                                               String sessionId,
+                                               StorableDescriptor triggerDescriptor) {
+        LOGGER.warn("Project {}, SessionId {}. The session isn't sent to executor: {}",
+                triggerDescriptor.getProjectUuid(), sessionId, rejection.getMessage());
+        try {
+            if (cfg != null && cfg.getDefaultResponse() != null
+                    && prepareFastResponse(exchange, message, cfg, sessionId, triggerDescriptor, true)) {
+                return;
+            }
+        } catch (Exception e) {
+            LOGGER.error("Project {}, SessionId {}. Error while building fallback response",
+                    triggerDescriptor.getProjectUuid(), sessionId, e);
+        }
+        org.apache.camel.Message out = exchange.getOut();
+        out.setHeader(Exchange.HTTP_RESPONSE_CODE, rejection.getHttpStatus());
+        out.setHeader(Exchange.CONTENT_TYPE, "text/plain");
+        out.setBody(rejection.getMessage());
+        out.setFault(true); // Let's notify SOAP/REST trigger that there was fault while processing
+    }
+
+    /*
+        In fallback mode, conditions aren't checked and default response is used regardless of its 'disabled' flag.
+     */
+    private boolean prepareFastResponse(Exchange exchange,
+                                        Message message,
+                                        StubEndpointConfig cfg,
+                                        String sessionId,
+                                        StorableDescriptor triggerDescriptor,
+                                        boolean fallback) throws Exception {
         if (cfg == null || isTrue(cfg.getDisabled())) {
             return false;
         }
         Date started = new Date();
-        Parser parser = new Parser();
-        JsonContext parsedContext = parser.parseToJsonContext(message, cfg.getParsingRules(),
+        long phaseStarted = System.nanoTime();
+        CompiledParsingRules parsingRules = CompiledParsingRules.of(cfg);
+        // Body is parsed into DOM/JSON at most once per request, and is released with the request
+        MessageDocument document = new MessageDocument(message.getText());
+        JsonContext parsedContext = LayeredJsonContext.withSpAndTc(parsingRules.parse(message, document,
+                triggerDescriptor.getProjectId()));
+        String operationDefinitionKey = FastStubsHelper.calculateOperationDefinitionKey(cfg, parsedContext);
+        JsonContext parsedOperationsContext = parsingRules.parseOperation(message, document, operationDefinitionKey,
                 triggerDescriptor.getProjectId());
-        duplicateContextToTcAndSp(parsedContext);
-        FastStubsHelper.recalculateOperationDefinitionKey(cfg, parsedContext);
-        List<SimpleParsingRule> operationParsingRules =
-                cfg.getOperationParsingRules().get(cfg.getOperationDefinitionKey());
-        if (operationParsingRules != null) {
-            JsonContext parsedOperationsContext = parser.parseToJsonContext(message, operationParsingRules,
-                    triggerDescriptor.getProjectId());
-            duplicateContextToTcAndSp(parsedOperationsContext);
-            parsedContext.merge(parsedOperationsContext);
+        if (parsedOperationsContext != null) {
+            parsedContext.merge(LayeredJsonContext.withSpAndTc(parsedOperationsContext));
+        }
+        PhaseTimings.add(exchange, RequestPhase.FAST_STUB_PARSING, phaseStarted);
+        ResponseDescription responseDescription;
+        if (fallback) {
+            responseDescription = cfg.getDefaultResponse();
+        } else {
+            phaseStarted = System.nanoTime();
+            responseDescription = FastStubsHelper.checkConditions(parsedContext, cfg, operationDefinitionKey);
+            PhaseTimings.add(exchange, RequestPhase.CONDITIONS_MATCHING, phaseStarted);
         }
-        ResponseDescription responseDescription = FastStubsHelper
-                .checkConditions(parsedContext, cfg);
         if (responseDescription == null
                 && !(cfg.getDefaultResponse() == null || isTrue(cfg.getDefaultResponse().getDisabled()))) {
             responseDescription = cfg.getDefaultResponse();
@@ -139,7 +210,9 @@ public abstract class HttpInboundTrigger extends AbstractCamelTrigger {
         if (responseDescription == null) {
             return false;
         }
+        phaseStarted = System.nanoTime();
         Message outgoing = setUpFastOut(exchange, sessionId, responseDescription, parsedContext);
+        PhaseTimings.add(exchange, RequestPhase.FAST_RESPONSE_BUILDING, phaseStarted);
         if (!FastStubsHelper.isReportingSkipped(responseDescription.getSkipReporting(), cfg.getSkipReporting())) {
             try {
                 FastStubsHelper.sendMessageToReport(message, outgoing, triggerDescriptor, started, new Date(),
@@ -151,16 +224,6 @@ public abstract class HttpInboundTrigger extends AbstractCamelTrigger {
         return true;
     }
 
-    private void duplicateContextToTcAndSp(JsonContext ctx) {
-        JsonContext sp = new JsonContext();
-        sp.merge(ctx);
-        JsonContext tc = new JsonContext();
-        tc.put("saved", new JsonContext());
-        ((JsonContext)tc.get("saved")).merge(ctx);
-        ctx.put("sp", sp);
-        ctx.put("tc", tc);
-    }
-
     protected Message setUpFastOut(Exchange exchange, String sessionId, ResponseDescription responseDescription,
                                    JsonContext context) throws Exception {
         Message message = new Message(replaceVariables(responseDescription.getBody(), context));
@@ -257,8 +320,6 @@ public abstract class HttpInboundTrigger extends AbstractCamelTrigger {
 
     @Override
     protected void activateSpecificTrigger() throws Exception {
-        LockProvider.INSTANCE.init();
-        SessionHandler.INSTANCE.init();
         createAndConfigureContext();
     }
 
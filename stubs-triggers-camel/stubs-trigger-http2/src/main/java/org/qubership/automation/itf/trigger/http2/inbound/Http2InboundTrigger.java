@@ -28,6 +28,8 @@ import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.impl.DefaultCamelContext;
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.automation.itf.JvmSettings;
+import org.qubership.automation.itf.communication.ExecutorUnavailableException;
+import org.qubership.automation.itf.communication.ResponseCorrelationRegistry;
 import org.qubership.automation.itf.communication.TriggerExecutionMessageSender;
 import org.qubership.automation.itf.core.model.communication.TransportType;
 import org.qubership.automation.itf.core.model.communication.message.CommonTriggerExecutionMessage;
@@ -36,7 +38,6 @@ import org.qubership.automation.itf.core.model.transport.ConnectionProperties;
 import org.qubership.automation.itf.core.util.config.ApplicationConfig;
 import org.qubership.automation.itf.core.util.config.Config;
 import org.qubership.automation.itf.core.util.descriptor.StorableDescriptor;
-import org.qubership.automation.itf.core.util.transport.service.LockProvider;
 import org.qubership.automation.itf.monitoring.metrics.MetricsAggregateService;
 import org.qubership.automation.itf.trigger.camel.AbstractTriggerImpl;
 import org.qubership.automation.itf.trigger.camel.Helper;
@@ -123,12 +124,13 @@ public class Http2InboundTrigger extends AbstractTriggerImpl {
                                     ItfAbstractRouteBuilder.logExtendedInfo(projectUuid, sessionId,
                                             brokerMessageSelectorValue, HTTP2_INBOUND_TRANSPORT_CLASS_NAME,
                                             body.getBytes(JvmSettings.CHARSET).length);
-                                    TriggerExecutionMessageSender.send(
+                                    TriggerExecutionMessageSender.sendAndTrack(
                                         new CommonTriggerExecutionMessage(
                                             HTTP2_INBOUND_TRANSPORT_CLASS_NAME, msg,
                                             getTriggerConfigurationDescriptor(), sessionId,
                                             brokerMessageSelectorValue),
-                                            getTriggerConfigurationDescriptor().getProjectUuid()
+                                            getTriggerConfigurationDescriptor().getProjectUuid(),
+                                            HTTP2_INBOUND_TRANSPORT_CLASS_NAME
                                     );
                                     LOGGER.debug("Project: {}, SessionId: {}, Broker Message Selector Value: {}, "
                                                     + "transport: '{}' - message to executor is sent.",
@@ -145,6 +147,14 @@ public class Http2InboundTrigger extends AbstractTriggerImpl {
                                         throw new RuntimeException("Response message is NULL for sessionId "
                                                 + sessionId + " (as a rule, not received in time from ITF-EXECUTOR)");
                                     }
+                                } catch (ExecutorUnavailableException e) {
+                                    innerExchange.setStatusCode(e.getHttpStatus());
+                                    innerExchange.getResponseHeaders().put(Headers.CONTENT_TYPE, "text/plain");
+                                    innerExchange.getResponseSender().send(e.getMessage());
+                                    LOGGER.warn("Project: {}. SessionId: {}. The session isn't sent to executor: {}",
+                                            projectUuid, sessionId, e.getMessage());
+                                    MetricsAggregateService.incrementIncomingRequestToProject(projectUuid,
+                                            TransportType.HTTP2_INBOUND, false);
                                 } catch (InterruptedException e) {
                                     processException(innerExchange, projectUuid, sessionId, 524, e);
                                 } catch (Exception e) {
@@ -186,11 +196,8 @@ public class Http2InboundTrigger extends AbstractTriggerImpl {
 
     protected Message setUpOut(HttpServerExchange exchange, UUID projectUuid, String sessionId)
             throws InterruptedException {
-        Message message = LockProvider.INSTANCE.waitResponse(sessionId,
-                Helper.getLockProviderCheckInterval(),
-                Helper.getLockProviderCheckMaxInterval(),
-                Helper.getLockProviderCheckMultiplier());
-        LOGGER.debug("Project {}, SessionId {}. Response is got from SessionHandler.", projectUuid, sessionId);
+        Message message = ResponseCorrelationRegistry.INSTANCE.waitResponse(sessionId);
+        LOGGER.debug("Project {}, SessionId {}. Response is got from executor.", projectUuid, sessionId);
         if (message != null) {
             Object codeStatus = message.getConnectionProperties().get(Http2Constants.RESPONSE_CODE);
             if (codeStatus == null || StringUtils.EMPTY.equals(codeStatus.toString())) {
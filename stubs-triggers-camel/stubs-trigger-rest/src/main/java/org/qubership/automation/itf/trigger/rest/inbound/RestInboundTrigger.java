@@ -30,13 +30,18 @@ import java.util.UUID;
 import javax.servlet.ServletRequest;
 import javax.servlet.http.HttpServletRequest;
 
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.component.servlet.ServletEndpoint;
 import org.apache.camel.http.common.HttpMessage;
 import org.apache.camel.impl.DefaultHeaderFilterStrategy;
+import org.apache.camel.util.AsyncProcessorHelper;
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.automation.itf.JvmSettings;
+import org.qubership.automation.itf.communication.ExecutorUnavailableException;
+import org.qubership.automation.itf.communication.ResponseCorrelationRegistry;
 import org.qubership.automation.itf.core.model.communication.TransportType;
 import org.qubership.automation.itf.core.model.jpa.message.Message;
 import org.qubership.automation.itf.core.model.transport.ConnectionProperties;
@@ -46,12 +51,15 @@ import org.qubership.automation.itf.core.util.constants.ProjectSettingsConstants
 import org.qubership.automation.itf.core.util.descriptor.StorableDescriptor;
 import org.qubership.automation.itf.core.util.helper.ProjectSettingsHelper;
 import org.qubership.automation.itf.monitoring.metrics.MetricsAggregateService;
+import org.qubership.automation.itf.trigger.camel.PhaseTimings;
+import org.qubership.automation.itf.trigger.camel.RequestPhase;
 import org.qubership.automation.itf.trigger.camel.route.ItfAbstractRouteBuilder;
 import org.qubership.automation.itf.trigger.http.Helper;
 import org.qubership.automation.itf.trigger.http.HttpConstants;
 import org.qubership.automation.itf.trigger.http.inbound.HttpInboundTrigger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.web.util.ContentCachingRequestWrapper;
 
 public class RestInboundTrigger extends HttpInboundTrigger {
@@ -71,68 +79,23 @@ public class RestInboundTrigger extends HttpInboundTrigger {
             @Override
             public void configure() {
                 UUID projectUuid = getTriggerConfigurationDescriptor().getProjectUuid();
-                BigInteger projectId = getTriggerConfigurationDescriptor().getProjectId();
                 String endPoint = Objects.toString(getConnectionProperties().get(HttpConstants.ENDPOINT));
                 ArrayList<String> endPointsList = splitEndPoint(endPoint);
                 int cnt = 0;
                 for (String currentEndPoint : endPointsList) {
                     from("servlet:" + getPrefixWithProjectUuid() + currentEndPoint + "?matchOnUriPrefix=true")
-                        .process(exchange -> {
-                            String sessionId = UUID.randomUUID().toString();
-                            MetricsAggregateService.putCommonMetrics(projectUuid, sessionId);
-                            LOGGER.info("Project: {}. SessionId: {}. Request is received by endpoint: {}",
-                                    projectUuid, sessionId, currentEndPoint);
-                            OffsetDateTime started = OffsetDateTime.now();
-                            prepareFilters((ServletEndpoint) exchange.getFromEndpoint());
-                            addClientAddressInHeader(exchange);
-                            preProcessUrlEncodedMessage(exchange);
-
-                            Message message = prepareIncomingMessage(exchange, REST_INBOUND_TRANSPORT_CLASS_NAME,
-                                    getConnectionProperties(), getTriggerConfigurationDescriptor(), sessionId);
-
-                            boolean enableFastStubs = Boolean.parseBoolean(
-                                    ProjectSettingsHelper.getProjectSettingsService()
-                                            .get(projectId, ProjectSettingsConstants.ENABLE_FAST_STUBS, "true"));
-                            boolean prepared = false;
-                            if (enableFastStubs) {
-                                StubEndpointConfig cfg = FastResponseConfigsHolder.INSTANCE.getConfig(
-                                        getTriggerConfigurationDescriptor().getProjectUuid().toString(),
-                                        StubEndpointConfig.TransportTypes.REST.name(), currentEndPoint);
-                                if (cfg != null) {
-                                    prepared = prepareFastResponse(exchange, message, cfg, sessionId,
-                                            getTriggerConfigurationDescriptor());
-                                }
-                            }
-                            if (!prepared) {
-                                // Standard processing - because fast stubs could not prepare an answer.
-                                startSession(exchange, REST_INBOUND_TRANSPORT_CLASS_NAME, getConnectionProperties(),
-                                        getTriggerConfigurationDescriptor(), sessionId, message);
-                                boolean resultState = false;
-                                try {
-                                    Message responseMessage = setUpOut(exchange, sessionId);
-                                    resultState = responseMessage != null && responseMessage.getFailedMessage() == null;
-                                } catch (Throwable ex) {
-                                    throw new RuntimeException(String.format("Error while sending REST response, "
-                                                    + "Project: %s, sessionId: %s, endpoint: %s",
-                                            projectUuid, sessionId, currentEndPoint), ex);
-                                } finally {
-                                    LOGGER.info("Project: {}. SessionId: {}. Response is sent from endpoint: {}",
-                                            projectUuid, sessionId, currentEndPoint);
-                                    collectMetrics(projectUuid, TransportType.REST_INBOUND, currentEndPoint,
-                                            resultState, started);
-                                }
-                            } else {
-                                LOGGER.info("Project: {}. SessionId: {}. Fast-Stub response is sent from endpoint: {}",
-                                        projectUuid, sessionId, currentEndPoint);
-                                collectMetrics(projectUuid, TransportType.REST_INBOUND, currentEndPoint,
-                                        true, started);
-                            }
-                        }).routeId((endPointsList.size() == 1) ? getId() : getId() + (++cnt))
-                            .routeDescription(projectUuid.toString())
-                            .group(TransportType.REST_INBOUND.name());
+                        .process(new RestRequestProcessor(RestInboundTrigger.this, this, currentEndPoint))
+                        .routeId((endPointsList.size() == 1) ? getId() : getId() + (++cnt))
+                        .routeDescription(projectUuid.toString())
+                        .group(TransportType.REST_INBOUND.name());
                 }
             }
 
+            @Override
+            protected boolean isResponseAwaited() {
+                return true;
+            }
+
             @Override
             public Map<String, Object> getAdditionalProperties(Exchange exchange) {
                 return RestInboundTrigger.this.getAdditionalProperties(exchange);
@@ -145,6 +108,24 @@ public class RestInboundTrigger extends HttpInboundTrigger {
         };
     }
 
+    private boolean prepareFastResponse(Exchange exchange, Message message, BigInteger projectId, String endPoint,
+                                        String sessionId) throws Exception {
+        boolean enableFastStubs = Boolean.parseBoolean(ProjectSettingsHelper.getProjectSettingsService()
+                .get(projectId, ProjectSettingsConstants.ENABLE_FAST_STUBS, "true"));
+        if (!enableFastStubs) {
+            return false;
+        }
+        StubEndpointConfig cfg = getFastStubConfig(endPoint);
+        return cfg != null && prepareFastResponse(exchange, message, cfg, sessionId,
+                getTriggerConfigurationDescriptor());
+    }
+
+    private StubEndpointConfig getFastStubConfig(String endPoint) {
+        return FastResponseConfigsHolder.INSTANCE.getConfig(
+                getTriggerConfigurationDescriptor().getProjectUuid().toString(),
+                StubEndpointConfig.TransportTypes.REST.name(), endPoint);
+    }
+
     @Override
     protected org.apache.camel.Message composeBody(org.apache.camel.Message camelMessage, Message itfMessage) {
         return Helper.composeBodyForRest(camelMessage, itfMessage);
@@ -245,4 +226,121 @@ public class RestInboundTrigger extends HttpInboundTrigger {
         return list;
     }
 
+    /**
+     * Processor of REST requests received by an endpoint of the trigger.
+     * Fast stub responses and session start are processed synchronously, then the servlet thread is released,
+     * and the exchange is completed when the executor response is received (or the wait is timed out).
+     */
+    static class RestRequestProcessor implements AsyncProcessor {
+
+        private final RestInboundTrigger trigger;
+        private final ItfAbstractRouteBuilder routeBuilder;
+        private final String endPoint;
+        private final UUID projectUuid;
+        private final BigInteger projectId;
+
+        /**
+         * Constructor.
+         *
+         * @param trigger - REST inbound trigger,
+         * @param routeBuilder - route builder of the trigger (to prepare incoming message and start session),
+         * @param endPoint - endpoint of the route.
+         */
+        RestRequestProcessor(RestInboundTrigger trigger, ItfAbstractRouteBuilder routeBuilder, String endPoint) {
+            this.trigger = trigger;
+            this.routeBuilder = routeBuilder;
+            this.endPoint = endPoint;
+            this.projectUuid = trigger.getTriggerConfigurationDescriptor().getProjectUuid();
+            this.projectId = trigger.getTriggerConfigurationDescriptor().getProjectId();
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            AsyncProcessorHelper.process(this, exchange);
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            String sessionId = UUID.randomUUID().toString();
+            OffsetDateTime started = OffsetDateTime.now();
+            PhaseTimings.start(exchange);
+            try {
+                MetricsAggregateService.putCommonMetrics(projectUuid, sessionId);
+                LOGGER.info("Project: {}. SessionId: {}. Request is received by endpoint: {}",
+                        projectUuid, sessionId, endPoint);
+                trigger.prepareFilters((ServletEndpoint) exchange.getFromEndpoint());
+                trigger.addClientAddressInHeader(exchange);
+                trigger.preProcessUrlEncodedMessage(exchange);
+
+                Message message = routeBuilder.prepareIncomingMessage(exchange, REST_INBOUND_TRANSPORT_CLASS_NAME,
+                        trigger.getConnectionProperties(), trigger.getTriggerConfigurationDescriptor(), sessionId);
+                if (trigger.prepareFastResponse(exchange, message, projectId, endPoint, sessionId)) {
+                    LOGGER.info("Project: {}. SessionId: {}. Fast-Stub response is sent from endpoint: {}",
+                            projectUuid, sessionId, endPoint);
+                    collectMetrics(exchange, true, started);
+                    callback.done(true);
+                    return true;
+                }
+                // Standard processing - because fast stubs could not prepare an answer.
+                try {
+                    routeBuilder.startSession(exchange, REST_INBOUND_TRANSPORT_CLASS_NAME,
+                            trigger.getConnectionProperties(), trigger.getTriggerConfigurationDescriptor(),
+                            sessionId, message);
+                } catch (ExecutorUnavailableException ex) {
+                    trigger.setUpExecutorUnavailableOut(exchange, ex, message, trigger.getFastStubConfig(endPoint),
+                            sessionId, trigger.getTriggerConfigurationDescriptor());
+                    collectMetrics(exchange, false, started);
+                    callback.done(true);
+                    return true;
+                }
+            } catch (Throwable ex) {
+                exchange.setException(new RuntimeException(String.format(
+                        "Error while processing REST request, Project: %s, sessionId: %s, endpoint: %s",
+                        projectUuid, sessionId, endPoint), ex));
+                collectMetrics(exchange, false, started);
+                callback.done(true);
+                return true;
+            }
+            // The servlet thread is released here; the exchange is completed
+            // when the executor response is received (or the wait is timed out).
+            // The completion runs in a dispatch thread, so MDC (project, session, trace ids) is moved there.
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            long waitStarted = System.nanoTime();
+            ResponseCorrelationRegistry.INSTANCE.waitResponseAsync(sessionId)
+                    .thenAccept(responseMessage -> {
+                        if (mdc != null) {
+                            MDC.setContextMap(mdc);
+                        }
+                        try {
+                            complete(exchange, callback, sessionId, responseMessage, started, waitStarted);
+                        } finally {
+                            MDC.clear();
+                        }
+                    });
+            return false;
+        }
+
+        private void complete(Exchange exchange, AsyncCallback callback, String sessionId, Message responseMessage,
+                              OffsetDateTime started, long waitStarted) {
+            PhaseTimings.add(exchange, RequestPhase.EXECUTOR_WAIT, waitStarted);
+            boolean resultState = false;
+            try {
+                trigger.setUpOut(exchange, sessionId, responseMessage);
+                resultState = responseMessage != null && responseMessage.getFailedMessage() == null;
+            } catch (Throwable ex) {
+                exchange.setException(new RuntimeException(String.format(
+                        "Error while sending REST response, Project: %s, sessionId: %s, endpoint: %s",
+                        projectUuid, sessionId, endPoint), ex));
+            } finally {
+                LOGGER.info("Project: {}. SessionId: {}. Response is sent from endpoint: {}",
+                        projectUuid, sessionId, endPoint);
+                collectMetrics(exchange, resultState, started);
+                callback.done(false);
+            }
+        }
+
+        private void collectMetrics(Exchange exchange, boolean resultState, OffsetDateTime started) {
+            trigger.collectMetrics(exchange, projectUuid, TransportType.REST_INBOUND, endPoint, resultState, started);
+        }
+    }
 }
@@ -29,9 +29,11 @@ import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
+import org.qubership.automation.itf.communication.ExecutorUnavailableException;
 import org.qubership.automation.itf.core.model.communication.TransportType;
 import org.qubership.automation.itf.core.model.jpa.message.Message;
 import org.qubership.automation.itf.core.model.transport.ConnectionProperties;
+import org.qubership.automation.itf.core.util.config.Config;
 import org.qubership.automation.itf.core.util.mdc.MdcField;
 import org.qubership.automation.itf.monitoring.metrics.MetricsAggregateService;
 import org.qubership.automation.itf.trigger.smpp.inbound.SmppTrigger;
@@ -50,6 +52,8 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class ItfSmppSessionHandler extends DefaultSmppSessionHandler {
+    private static final int EXECUTOR_UNAVAILABLE_COMMAND_STATUS = Config.getConfig().getIntOrDefault(
+            "executor.circuit-breaker.smpp-command-status", SmppConstants.STATUS_SYSERR);
     private SmppSessionConfiguration configuration;
     private SmppTrigger smppTrigger;
     private String charsetName;
@@ -78,9 +82,18 @@ public class ItfSmppSessionHandler extends DefaultSmppSessionHandler {
                 // Server is activated via SmppTrigger, so ITF should process a request
                 currentProject = smppTrigger.getTriggerConfigurationDescriptor().getProjectUuid();
                 MdcUtils.put(MdcField.PROJECT_ID.toString(), currentProject);
-                pduResponse = itfProcessing(pduRequest);
+                boolean resultState = true;
+                try {
+                    pduResponse = itfProcessing(pduRequest);
+                } catch (ExecutorUnavailableException e) {
+                    log.warn("SubmitSm message isn't sent to executor: {}", e.getMessage());
+                    pduResponse = pduRequest.createResponse();
+                    pduResponse.setCommandStatus(EXECUTOR_UNAVAILABLE_COMMAND_STATUS);
+                    pduResponse.setResultMessage(e.getMessage());
+                    resultState = false;
+                }
                 MetricsAggregateService.incrementIncomingRequestToProject(
-                        currentProject, TransportType.SMPP_INBOUND,true);
+                        currentProject, TransportType.SMPP_INBOUND, resultState);
             }
             return pduResponse;
         } catch (Exception e) {
@@ -137,6 +150,8 @@ public class ItfSmppSessionHandler extends DefaultSmppSessionHandler {
                 Message responseMessage;
                 try {
                     responseMessage = this.smppTrigger.produceMessageToItf(submitSm2Message(sm));
+                } catch (ExecutorUnavailableException e) {
+                    throw e;
                 } catch (Exception e) {
                     throw new RuntimeException(e);
                 }
@@ -19,12 +19,12 @@ package org.qubership.automation.itf.trigger.smpp.inbound;
 
 import java.util.UUID;
 
+import org.qubership.automation.itf.communication.ResponseCorrelationRegistry;
 import org.qubership.automation.itf.communication.TriggerExecutionMessageSender;
 import org.qubership.automation.itf.core.model.communication.message.CommonTriggerExecutionMessage;
 import org.qubership.automation.itf.core.model.jpa.message.Message;
 import org.qubership.automation.itf.core.model.transport.ConnectionProperties;
 import org.qubership.automation.itf.core.util.descriptor.StorableDescriptor;
-import org.qubership.automation.itf.core.util.transport.service.LockProvider;
 import org.qubership.automation.itf.monitoring.metrics.MetricsAggregateService;
 import org.qubership.automation.itf.trigger.camel.Helper;
 import org.qubership.automation.itf.trigger.camel.inbound.AbstractCamelTrigger;
@@ -71,18 +71,16 @@ public class SmppTrigger extends AbstractCamelTrigger {
                 brokerMessageSelectorValue,
                 SMPP_INBOUND_TRANSPORT_CLASS_NAME,
                 requestMessage.getText() == null ? 0 : requestMessage.getText().length());
-        TriggerExecutionMessageSender.send(new CommonTriggerExecutionMessage(
+        TriggerExecutionMessageSender.sendAndTrack(new CommonTriggerExecutionMessage(
                 SMPP_INBOUND_TRANSPORT_CLASS_NAME, requestMessage,
                 getTriggerConfigurationDescriptor(), sessionId,
-                brokerMessageSelectorValue), getTriggerConfigurationDescriptor().getProjectUuid());
+                brokerMessageSelectorValue), getTriggerConfigurationDescriptor().getProjectUuid(),
+                SMPP_INBOUND_TRANSPORT_CLASS_NAME);
         LOGGER.debug("Project: {}, SessionId: {}, Broker Message Selector Value: {}, transport: '{}' "
                         + "- message to executor is sent.",
                 getTriggerConfigurationDescriptor().getProjectUuid(), sessionId, brokerMessageSelectorValue,
                 SMPP_INBOUND_TRANSPORT_CLASS_NAME);
-        Message message = LockProvider.INSTANCE.waitResponse(sessionId,
-                Helper.getLockProviderCheckInterval(),
-                Helper.getLockProviderCheckMaxInterval(),
-                Helper.getLockProviderCheckMultiplier());
+        Message message = ResponseCorrelationRegistry.INSTANCE.waitResponse(sessionId);
         LOGGER.info("Project: {}. SessionId: {}. Response is sent",
                 getTriggerConfigurationDescriptor().getProjectUuid(), sessionId);
         return (message == null) ? new Message("Null response message") : message;
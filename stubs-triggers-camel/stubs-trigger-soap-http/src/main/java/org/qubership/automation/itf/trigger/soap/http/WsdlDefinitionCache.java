@@ -0,0 +1,272 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger.soap.http;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.wsdl.Definition;
+import javax.wsdl.Import;
+import javax.wsdl.Types;
+import javax.wsdl.extensions.schema.Schema;
+import javax.wsdl.extensions.schema.SchemaReference;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.wsdl.WSDLManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of parsed WSDL definitions shared by SOAP triggers.
+ *
+ * <p>CXF caches parsed definitions in WSDLManager of the bus by WSDL URL only, so a changed WSDL (or imported XSD)
+ * isn't re-read, and the same WSDL stored at different paths is parsed separately. Here definitions are keyed
+ * by content hash of the WSDL and all documents imported by it: on trigger activation, the hash is recalculated
+ * (files are read, but not parsed) and the definition is re-parsed only if the content is changed.
+ * Triggers with WSDLs of the same content share the same definition.
+ */
+public class WsdlDefinitionCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WsdlDefinitionCache.class);
+    private static final String FILE_SCHEME = "file";
+
+    private static final Map<String, CachedDefinition> BY_URL = new ConcurrentHashMap<>();
+    private static final Map<String, Definition> BY_HASH = new ConcurrentHashMap<>();
+
+    /**
+     * Make WSDLManager of the bus to return actual definition of the WSDL.
+     * Should be invoked before CxfEndpoint creation.
+     *
+     * @param bus - CXF bus the endpoint is created on,
+     * @param wsdlUrl - URL of WSDL file.
+     */
+    public static void prepare(Bus bus, String wsdlUrl) {
+        WSDLManager wsdlManager = bus.getExtension(WSDLManager.class);
+        if (wsdlManager == null) {
+            return;
+        }
+        // Documents are read and parsed outside the map, then the result is published if nobody did it meanwhile
+        while (true) {
+            CachedDefinition cached = BY_URL.get(wsdlUrl);
+            if (cached != null && cached.isActual(wsdlManager)) {
+                if (wsdlManager.getDefinitions().get(wsdlUrl) != cached.definition) {
+                    wsdlManager.addDefinition(wsdlUrl, cached.definition);
+                }
+                return;
+            }
+            if (cached != null) {
+                removeFromManager(wsdlUrl, cached);
+            }
+            CachedDefinition loaded = load(wsdlManager, wsdlUrl);
+            if (loaded == null) {
+                if (cached != null && BY_URL.remove(wsdlUrl, cached)) {
+                    releaseHash(cached);
+                }
+                return;
+            }
+            boolean published = cached == null
+                    ? BY_URL.putIfAbsent(wsdlUrl, loaded) == null
+                    : BY_URL.replace(wsdlUrl, cached, loaded);
+            if (published) {
+                if (cached != null) {
+                    releaseHash(cached);
+                }
+                return;
+            }
+            releaseHash(loaded);
+        }
+    }
+
+    /**
+     * Drop all cached definitions, so they are re-parsed on next triggers activation.
+     */
+    public static void invalidateCache() {
+        BY_URL.forEach((url, cached) -> {
+            if (BY_URL.remove(url, cached)) {
+                removeFromManager(url, cached);
+            }
+        });
+        BY_HASH.clear();
+    }
+
+    private static CachedDefinition load(WSDLManager wsdlManager, String url) {
+        try {
+            Definition parsed = wsdlManager.getDefinition(url);
+            Set<String> documents = new TreeSet<>();
+            collectDocuments(parsed, documents, Collections.newSetFromMap(new IdentityHashMap<>()));
+            String baseUri = parsed.getDocumentBaseURI();
+            String hash = hash(baseUri, documents);
+            Definition shared = BY_HASH.computeIfAbsent(hash, key -> parsed);
+            if (shared != parsed) {
+                wsdlManager.removeDefinition(parsed);
+                wsdlManager.addDefinition(url, shared);
+                LOGGER.debug("WSDL {} has the same content as already parsed one; definition is reused", url);
+            }
+            return new CachedDefinition(wsdlManager, baseUri, hash, documents, shared);
+        } catch (Exception e) {
+            LOGGER.warn("WSDL {} can't be cached, it will be parsed by CXF as usual", url, e);
+            return null;
+        }
+    }
+
+    private static void removeFromManager(String url, CachedDefinition cached) {
+        if (cached.wsdlManager.getDefinitions().get(url) == cached.definition) {
+            cached.wsdlManager.removeDefinition(cached.definition);
+        }
+    }
+
+    /*
+        Drop the definition from the content index if no WSDL URL refers to it anymore.
+     */
+    private static void releaseHash(CachedDefinition released) {
+        if (BY_URL.values().stream().noneMatch(other -> other.hash.equals(released.hash))) {
+            BY_HASH.remove(released.hash, released.definition);
+        }
+    }
+
+    /*
+        Collect URIs of the WSDL, imported WSDLs and XSDs (imported, included, redefined).
+     */
+    private static void collectDocuments(Definition definition, Set<String> documents, Set<Object> visited) {
+        if (definition == null || !visited.add(definition)) {
+            return;
+        }
+        addDocument(definition.getDocumentBaseURI(), documents);
+        for (Object imports : definition.getImports().values()) {
+            for (Object wsdlImport : (List<?>) imports) {
+                collectDocuments(((Import) wsdlImport).getDefinition(), documents, visited);
+            }
+        }
+        Types types = definition.getTypes();
+        if (types != null) {
+            for (Object element : types.getExtensibilityElements()) {
+                if (element instanceof Schema) {
+                    collectDocuments((Schema) element, documents, visited);
+                }
+            }
+        }
+    }
+
+    private static void collectDocuments(Schema schema, Set<String> documents, Set<Object> visited) {
+        if (schema == null || !visited.add(schema)) {
+            return;
+        }
+        addDocument(schema.getDocumentBaseURI(), documents);
+        for (Object imports : schema.getImports().values()) {
+            for (Object schemaImport : (List<?>) imports) {
+                collectDocuments(((SchemaReference) schemaImport).getReferencedSchema(), documents, visited);
+            }
+        }
+        for (Object include : schema.getIncludes()) {
+            collectDocuments(((SchemaReference) include).getReferencedSchema(), documents, visited);
+        }
+        for (Object redefine : schema.getRedefines()) {
+            collectDocuments(((SchemaReference) redefine).getReferencedSchema(), documents, visited);
+        }
+    }
+
+    private static void addDocument(String uri, Set<String> documents) {
+        if (uri != null) {
+            documents.add(uri);
+        }
+    }
+
+    /*
+        Local documents are hashed by content, remote ones - by URI only. Documents are identified by URIs
+        relative to the WSDL, so the same WSDL (with imports) stored in different directories has the same hash.
+     */
+    private static String hash(String baseUri, Set<String> documents) {
+        Map<String, String> relativeDocuments = new TreeMap<>();
+        for (String document : documents) {
+            relativeDocuments.put(relativize(baseUri, document), document);
+        }
+        MessageDigest digest = newDigest();
+        for (Map.Entry<String, String> document : relativeDocuments.entrySet()) {
+            digest.update(document.getKey().getBytes(StandardCharsets.UTF_8));
+            try {
+                URI uri = new URI(document.getValue());
+                if (FILE_SCHEME.equalsIgnoreCase(uri.getScheme())) {
+                    Path path = Paths.get(uri);
+                    digest.update(Files.exists(path) ? Files.readAllBytes(path) : new byte[0]);
+                }
+            } catch (Exception e) {
+                LOGGER.debug("Document {} can't be read for hash calculation", document.getValue(), e);
+            }
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    private static String relativize(String baseUri, String document) {
+        if (baseUri == null) {
+            return document;
+        }
+        try {
+            return new URI(baseUri).resolve(".").relativize(new URI(document)).toString();
+        } catch (URISyntaxException e) {
+            return document;
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static class CachedDefinition {
+
+        private final WSDLManager wsdlManager;
+        private final String baseUri;
+        private final String hash;
+        private final Set<String> documents;
+        private final Definition definition;
+
+        CachedDefinition(WSDLManager wsdlManager, String baseUri, String hash, Set<String> documents,
+                         Definition definition) {
+            this.wsdlManager = wsdlManager;
+            this.baseUri = baseUri;
+            this.hash = hash;
+            this.documents = documents;
+            this.definition = definition;
+        }
+
+        /*
+            Files are read (not parsed) to check if the content is changed.
+         */
+        boolean isActual(WSDLManager currentManager) {
+            return wsdlManager == currentManager && hash.equals(hash(baseUri, documents));
+        }
+    }
+}
@@ -68,6 +68,8 @@ import org.apache.cxf.phase.Phase;
 import org.apache.cxf.transport.http.AbstractHTTPDestination;
 import org.apache.cxf.ws.policy.PolicyException;
 import org.qubership.automation.itf.JvmSettings;
+import org.qubership.automation.itf.communication.ExecutorUnavailableException;
+import org.qubership.automation.itf.communication.ExternalFileUpdateListeners;
 import org.qubership.automation.itf.communication.TriggerExecutionMessageSender;
 import org.qubership.automation.itf.core.model.communication.TransportType;
 import org.qubership.automation.itf.core.model.communication.message.CommonTriggerExecutionMessage;
@@ -78,13 +80,16 @@ import org.qubership.automation.itf.core.stub.fast.StubEndpointConfig;
 import org.qubership.automation.itf.core.util.constants.ProjectSettingsConstants;
 import org.qubership.automation.itf.core.util.constants.PropertyConstants;
 import org.qubership.automation.itf.core.util.descriptor.StorableDescriptor;
+import org.qubership.automation.itf.core.util.eds.service.EdsContentType;
 import org.qubership.automation.itf.core.util.helper.ProjectSettingsHelper;
 import org.qubership.automation.itf.monitoring.metrics.MetricsAggregateService;
+import org.qubership.automation.itf.trigger.camel.PhaseTimings;
 import org.qubership.automation.itf.trigger.camel.route.ItfAbstractRouteBuilder;
 import org.qubership.automation.itf.trigger.http.Helper;
 import org.qubership.automation.itf.trigger.http.HttpConstants;
 import org.qubership.automation.itf.trigger.http.inbound.HttpInboundTrigger;
 import org.qubership.automation.itf.trigger.soap.http.SoapOverHttpHelper;
+import org.qubership.automation.itf.trigger.soap.http.WsdlDefinitionCache;
 import org.qubership.automation.itf.xsd.XsdValidationResult;
 import org.qubership.automation.itf.xsd.XsdValidator;
 import org.slf4j.Logger;
@@ -103,6 +108,13 @@ public class SoapOverHttpTrigger extends HttpInboundTrigger {
     private static final String SOAP_OVER_HTTP_INBOUND_TRANSPORT_CLASS_NAME =
             "org.qubership.automation.itf.transport.soap.http.inbound.SOAPOverHTTPInboundTransport";
 
+    static {
+        ExternalFileUpdateListeners.INSTANCE.subscribe(EdsContentType.WSDL_XSD.getStringValue(),
+                XsdValidator.class.getName(), fileName -> XsdValidator.invalidateCache());
+        ExternalFileUpdateListeners.INSTANCE.subscribe(EdsContentType.WSDL_XSD.getStringValue(),
+                WsdlDefinitionCache.class.getName(), fileName -> WsdlDefinitionCache.invalidateCache());
+    }
+
     public SoapOverHttpTrigger(StorableDescriptor triggerConfigurationDescriptor,
                                ConnectionProperties connectionProperties) {
         super(triggerConfigurationDescriptor, connectionProperties);
@@ -117,6 +129,7 @@ public class SoapOverHttpTrigger extends HttpInboundTrigger {
                 BigInteger projectId = getTriggerConfigurationDescriptor().getProjectId();
                 String currentEndPoint = Objects.toString(getConnectionProperties().get(HttpConstants.ENDPOINT));
                 String wsdlPath = getWsdlPath();
+                WsdlDefinitionCache.prepare(BusFactory.getThreadDefaultBus(), wsdlPath);
                 CxfEndpoint cxfEndpoint = createCxfEndpoint(wsdlPath);
                 RouteDefinition routeFrom = from(cxfEndpoint);
                 routeFrom.onException(Throwable.class).continued(false);
@@ -126,6 +139,7 @@ public class SoapOverHttpTrigger extends HttpInboundTrigger {
                     LOGGER.info("Project: {}. SessionId: {}. Request is received by endpoint: {}",
                             projectUuid, sessionId, currentEndPoint);
                     OffsetDateTime started = OffsetDateTime.now();
+                    PhaseTimings.start(exchange);
                     clearOutFilter((CxfEndpoint) exchange.getFromEndpoint());
                     addClientAddressInHeader(exchange);
                     String stringBody = getStringBody(exchange.getIn());
@@ -143,19 +157,25 @@ public class SoapOverHttpTrigger extends HttpInboundTrigger {
                             ProjectSettingsHelper.getProjectSettingsService()
                                     .get(projectId, ProjectSettingsConstants.ENABLE_FAST_STUBS, "true"));
                     boolean prepared = false;
-                    if (enableFastStubs) {
-                        StubEndpointConfig cfg = FastResponseConfigsHolder.INSTANCE.getConfig(
-                                getTriggerConfigurationDescriptor().getProjectUuid().toString(),
-                                StubEndpointConfig.TransportTypes.SOAP.name(), currentEndPoint);
-                        if (cfg != null) {
-                            prepared = prepareFastResponse(exchange, message, cfg, sessionId,
-                                    getTriggerConfigurationDescriptor());
-                        }
+                    StubEndpointConfig cfg = FastResponseConfigsHolder.INSTANCE.getConfig(
+                            getTriggerConfigurationDescriptor().getProjectUuid().toString(),
+                            StubEndpointConfig.TransportTypes.SOAP.name(), currentEndPoint);
+                    if (enableFastStubs && cfg != null) {
+                        prepared = prepareFastResponse(exchange, message, cfg, sessionId,
+                                getTriggerConfigurationDescriptor());
                     }
                     if (!prepared) {
                         // Standard processing - because fast stubs could not prepare an answer.
-                        startSession(exchange, SOAP_OVER_HTTP_INBOUND_TRANSPORT_CLASS_NAME, getConnectionProperties(),
-                                getTriggerConfigurationDescriptor(), sessionId, message);
+                        try {
+                            startSession(exchange, SOAP_OVER_HTTP_INBOUND_TRANSPORT_CLASS_NAME,
+                                    getConnectionProperties(), getTriggerConfigurationDescriptor(), sessionId, message);
+                        } catch (ExecutorUnavailableException ex) {
+                            setUpExecutorUnavailableOut(exchange, ex, message, cfg, sessionId,
+                                    getTriggerConfigurationDescriptor());
+                            collectMetrics(exchange, projectUuid, TransportType.SOAP_OVER_HTTP_INBOUND,
+                                    currentEndPoint, false, started);
+                            return;
+                        }
                         Message responseMessage = setUpOut(exchange, sessionId);
                         boolean resultState = responseMessage != null && responseMessage.getFailedMessage() == null;
                         if (!exchange.getOut().isFault()) {
@@ -170,19 +190,19 @@ public class SoapOverHttpTrigger extends HttpInboundTrigger {
                             } finally {
                                 LOGGER.info("Project: {}. SessionId: {}. Response is sent from endpoint: {}",
                                         projectUuid, sessionId, currentEndPoint);
-                                collectMetrics(projectUuid, TransportType.SOAP_OVER_HTTP_INBOUND,
+                                collectMetrics(exchange, projectUuid, TransportType.SOAP_OVER_HTTP_INBOUND,
                                         currentEndPoint, resultState, started);
                             }
                         } else {
                             LOGGER.info("Project: {}. SessionId: {}. Response (fault) is sent from endpoint: {}",
                                     projectUuid, sessionId, currentEndPoint);
-                            collectMetrics(projectUuid, TransportType.SOAP_OVER_HTTP_INBOUND,
+                            collectMetrics(exchange, projectUuid, TransportType.SOAP_OVER_HTTP_INBOUND,
                                     currentEndPoint, resultState, started);
                         }
                     } else {
                         LOGGER.info("Project: {}. SessionId: {}. Fast-Stub response is sent from endpoint: {}",
                                 projectUuid, sessionId, currentEndPoint);
-                        collectMetrics(projectUuid, TransportType.SOAP_OVER_HTTP_INBOUND,
+                        collectMetrics(exchange, projectUuid, TransportType.SOAP_OVER_HTTP_INBOUND,
                                 currentEndPoint, true, started);
                     }
                 }).routeId(getId())
@@ -191,6 +211,11 @@ public class SoapOverHttpTrigger extends HttpInboundTrigger {
                 cxfEndpoint.start();
             }
 
+            @Override
+            protected boolean isResponseAwaited() {
+                return true;
+            }
+
             @Override
             public Map<String, Object> getAdditionalProperties(Exchange exchange) {
                 return SoapOverHttpTrigger.this.getAdditionalProperties(exchange);
@@ -0,0 +1,159 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.trigger.soap.http;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertNotSame;
+import static org.testng.AssertJUnit.assertSame;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import javax.wsdl.Definition;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.wsdl.WSDLManager;
+import org.apache.cxf.wsdl11.WSDLManagerImpl;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class WsdlDefinitionCacheTest {
+
+    private static final String XSD = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\""
+            + " targetNamespace=\"http://example.org/orders\" elementFormDefault=\"qualified\">"
+            + "<xs:element name=\"%s\" type=\"xs:string\"/></xs:schema>";
+    private static final String WSDL = "<definitions xmlns=\"http://schemas.xmlsoap.org/wsdl/\""
+            + " xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" xmlns:tns=\"http://example.org/orders\""
+            + " targetNamespace=\"http://example.org/orders\"><types>"
+            + "<xs:schema><xs:import namespace=\"http://example.org/orders\" schemaLocation=\"orders.xsd\"/>"
+            + "</xs:schema></types>"
+            + "<message name=\"request\"><part name=\"body\" element=\"tns:order\"/></message>"
+            + "<portType name=\"Orders\"><operation name=\"create\"><input message=\"tns:request\"/></operation>"
+            + "</portType></definitions>";
+    private static final int THREADS = 8;
+
+    private Path directory;
+    private WSDLManager wsdlManager;
+    private Bus bus;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        WsdlDefinitionCache.invalidateCache();
+        directory = Files.createTempDirectory("wsdl-cache-test");
+        wsdlManager = new WSDLManagerImpl();
+        bus = mock(Bus.class);
+        when(bus.getExtension(WSDLManager.class)).thenReturn(wsdlManager);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws IOException {
+        WsdlDefinitionCache.invalidateCache();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void definitionIsReparsedOnlyIfImportedSchemaIsChanged() throws Exception {
+        String wsdlUrl = writeWsdl("orders", "order");
+        WsdlDefinitionCache.prepare(bus, wsdlUrl);
+        Definition first = wsdlManager.getDefinitions().get(wsdlUrl);
+        assertNotNull(first);
+
+        WsdlDefinitionCache.prepare(bus, wsdlUrl);
+        assertSame(first, wsdlManager.getDefinitions().get(wsdlUrl));
+
+        write(directory.resolve("orders").resolve("orders.xsd"), String.format(XSD, "changedOrder"));
+        WsdlDefinitionCache.prepare(bus, wsdlUrl);
+        Definition reparsed = wsdlManager.getDefinitions().get(wsdlUrl);
+        assertNotNull(reparsed);
+        assertNotSame(first, reparsed);
+    }
+
+    @Test
+    public void wsdlsOfTheSameContentShareDefinition() throws Exception {
+        String firstUrl = writeWsdl("first", "order");
+        String secondUrl = writeWsdl("second", "order");
+        WsdlDefinitionCache.prepare(bus, firstUrl);
+        WsdlDefinitionCache.prepare(bus, secondUrl);
+        assertSame(wsdlManager.getDefinitions().get(firstUrl), wsdlManager.getDefinitions().get(secondUrl));
+    }
+
+    @Test
+    public void concurrentPreparationsPublishOneDefinitionPerUrl() throws Exception {
+        List<String> wsdlUrls = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            wsdlUrls.add(writeWsdl("wsdl" + i, "order" + i));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 20; i++) {
+                        for (String wsdlUrl : wsdlUrls) {
+                            WsdlDefinitionCache.prepare(bus, wsdlUrl);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        for (String wsdlUrl : wsdlUrls) {
+            Definition published = wsdlManager.getDefinitions().get(wsdlUrl);
+            assertNotNull(wsdlUrl, published);
+            WsdlDefinitionCache.prepare(bus, wsdlUrl);
+            assertSame(wsdlUrl, published, wsdlManager.getDefinitions().get(wsdlUrl));
+        }
+        assertEquals(wsdlUrls.size(), wsdlManager.getDefinitions().size());
+    }
+
+    private String writeWsdl(String name, String element) throws IOException {
+        Path wsdlDirectory = Files.createDirectories(directory.resolve(name));
+        write(wsdlDirectory.resolve("orders.xsd"), String.format(XSD, element));
+        Path wsdl = wsdlDirectory.resolve("orders.wsdl");
+        write(wsdl, WSDL.replace("tns:order", "tns:" + element));
+        return wsdl.toUri().toString();
+    }
+
+    private static void write(Path path, String content) throws IOException {
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -20,6 +20,15 @@ package org.qubership.automation.itf.xsd;
 import java.io.File;
 import java.io.IOException;
 import java.io.StringReader;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.XMLConstants;
 import javax.xml.transform.stream.StreamSource;
@@ -29,24 +38,41 @@ import javax.xml.validation.Validator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.ls.LSInput;
+import org.w3c.dom.ls.LSResourceResolver;
 import org.xml.sax.SAXException;
 
 public class XsdValidator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(XsdValidator.class);
     private static final String SOAP_ENV = "http://schemas.xmlsoap.org/soap/envelope/";
+    private static final URL SOAP_ENV_XSD = XsdValidator.class.getResource("soap-envelope.xsd");
+
+    /*
+        Compiled schemas, keyed by system ids of schema documents.
+        Each entry remembers fingerprints (modification time and size) of local schema files, including files
+        imported, included or redefined while compiling, so a schema is recompiled when any of its files is changed.
+        Schema documents which aren't local files (like SOAP envelope schema in the jar) aren't tracked.
+     */
+    private static final Map<String, CachedSchema> SCHEMAS = new ConcurrentHashMap<>();
 
     /**
-     * TODO Add JavaDoc.
+     * Validate message against schema documents.
+     * Schema is compiled once and then reused while schema files are not changed.
+     *
+     * @param message - message to validate,
+     * @param schemaDocuments - schema documents, by system ids,
+     * @return validation result.
      */
     public XsdValidationResult validate(String message, StreamSource[] schemaDocuments) {
         XsdValidationResult result = new XsdValidationResult(message);
         try (StringReader xml = new StringReader(message)) {
-            SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-            Schema schema = schemaFactory.newSchema(schemaDocuments);
-
-            Validator validator = schema.newValidator();
-            validator.validate(new StreamSource(xml));
+            Validator validator = getSchema(schemaDocuments).getValidator();
+            try {
+                validator.validate(new StreamSource(xml));
+            } finally {
+                validator.reset();
+            }
             return result.setSchemaDocuments(schemaDocuments).setFailed(false);
         } catch (SAXException | IOException e) {
             LOGGER.error("XSD Validation is failed. XML message: \n" + message, e);
@@ -57,7 +83,11 @@ public class XsdValidator {
     }
 
     /**
-     * TODO Add JavaDoc.
+     * Validate SOAP message against xsd file and SOAP envelope schema.
+     *
+     * @param message - message to validate,
+     * @param xsdPath - path to xsd file,
+     * @return validation result.
      */
     public XsdValidationResult validate(String message, String xsdPath) {
         return validate(message, new StreamSource[]{
@@ -65,7 +95,117 @@ public class XsdValidator {
                         ? new StreamSource(xsdPath)
                         : null,
                 //to be able validate soap
-                new StreamSource(SOAP_ENV),
+                getSoapEnvelopeSource(),
         });
     }
+
+    /**
+     * Remove all compiled schemas, so they are compiled again on the next validation.
+     * It's used when schema files are updated.
+     */
+    public static void invalidateCache() {
+        SCHEMAS.clear();
+        LOGGER.info("XSD schemas cache is cleared");
+    }
+
+    private static StreamSource getSoapEnvelopeSource() {
+        return SOAP_ENV_XSD == null ? new StreamSource(SOAP_ENV) : new StreamSource(SOAP_ENV_XSD.toExternalForm());
+    }
+
+    /*
+        Package-private for tests.
+     */
+    static CachedSchema getSchema(StreamSource[] schemaDocuments) throws SAXException {
+        String key = Arrays.toString(Arrays.stream(schemaDocuments)
+                .map(source -> source == null ? null : source.getSystemId())
+                .toArray());
+        CachedSchema cached = SCHEMAS.get(key);
+        if (cached != null && cached.isUpToDate()) {
+            return cached;
+        }
+        SchemaFiles schemaFiles = new SchemaFiles();
+        for (StreamSource schemaDocument : schemaDocuments) {
+            schemaFiles.add(schemaDocument == null ? null : schemaDocument.getSystemId());
+        }
+        SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        schemaFactory.setResourceResolver(schemaFiles);
+        CachedSchema compiled = new CachedSchema(schemaFactory.newSchema(schemaDocuments),
+                schemaFiles.getFingerprints());
+        SCHEMAS.put(key, compiled);
+        LOGGER.debug("XSD schema is compiled for {}, schema files: {}", key, compiled.fingerprints.keySet());
+        return compiled;
+    }
+
+    private static long[] fingerprint(File file) {
+        return new long[]{file.lastModified(), file.length()};
+    }
+
+    private static File toLocalFile(String systemId) {
+        if (systemId == null) {
+            return null;
+        }
+        File file = systemId.startsWith("file:") ? new File(systemId.substring("file:".length())) : new File(systemId);
+        return file.isFile() ? file : null;
+    }
+
+    /*
+        Local files of schema documents and their fingerprints. As resource resolver, it records files
+        imported, included or redefined by schema documents, and leaves their resolution to the schema factory.
+        Fingerprint of each file is taken before the file is read, so changes made while compiling aren't missed.
+     */
+    private static class SchemaFiles implements LSResourceResolver {
+
+        private final Map<File, long[]> fingerprints = new LinkedHashMap<>();
+
+        private void add(String systemId) {
+            File file = toLocalFile(systemId);
+            if (file != null) {
+                fingerprints.putIfAbsent(file, fingerprint(file));
+            }
+        }
+
+        private Map<File, long[]> getFingerprints() {
+            return Collections.unmodifiableMap(fingerprints);
+        }
+
+        @Override
+        public LSInput resolveResource(String type, String namespaceUri, String publicId, String systemId,
+                                       String baseUri) {
+            if (systemId != null) {
+                try {
+                    add(baseUri == null ? systemId : new URI(baseUri).resolve(systemId).toString());
+                } catch (URISyntaxException | IllegalArgumentException e) {
+                    LOGGER.debug("Schema file {} (base {}) can't be tracked for changes", systemId, baseUri, e);
+                }
+            }
+            return null;
+        }
+    }
+
+    static class CachedSchema {
+
+        private final Map<File, long[]> fingerprints;
+        /*
+            Validator is not thread-safe, but it's reusable, so each thread has its own validator of the schema.
+         */
+        private final ThreadLocal<Validator> validators;
+
+        private CachedSchema(Schema schema, Map<File, long[]> fingerprints) {
+            this.fingerprints = Objects.requireNonNull(fingerprints);
+            this.validators = ThreadLocal.withInitial(schema::newValidator);
+        }
+
+        private boolean isUpToDate() {
+            for (Map.Entry<File, long[]> entry : fingerprints.entrySet()) {
+                if (!Arrays.equals(entry.getValue(), fingerprint(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Validator getValidator() {
+            return validators.get();
+        }
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.itf.xsd;
+
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNotSame;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import javax.xml.transform.stream.StreamSource;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class XsdValidatorTest {
+
+    private static final String ORDER_XSD = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\""
+            + " xmlns:tns=\"http://example.org/orders\" targetNamespace=\"http://example.org/orders\""
+            + " elementFormDefault=\"qualified\"><xs:include schemaLocation=\"types.xsd\"/>"
+            + "<xs:element name=\"order\" type=\"tns:orderId\"/></xs:schema>";
+    private static final String TYPES_XSD = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\""
+            + " targetNamespace=\"http://example.org/orders\"><xs:simpleType name=\"orderId\">"
+            + "<xs:restriction base=\"xs:string\"><xs:maxLength value=\"%d\"/></xs:restriction>"
+            + "</xs:simpleType></xs:schema>";
+    private static final String MESSAGE = "<order xmlns=\"http://example.org/orders\">12345</order>";
+
+    private Path directory;
+    private XsdValidator validator;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        XsdValidator.invalidateCache();
+        directory = Files.createTempDirectory("xsd-validator-test");
+        write(directory.resolve("order.xsd"), ORDER_XSD);
+        write(directory.resolve("types.xsd"), String.format(TYPES_XSD, 10));
+        validator = new XsdValidator();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws IOException {
+        XsdValidator.invalidateCache();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void schemaIsCompiledOnceWhileFilesAreNotChanged() throws Exception {
+        Object compiled = XsdValidator.getSchema(schemaDocuments());
+        assertFalse(validator.validate(MESSAGE, schemaDocuments()).isFailed());
+        assertSame(compiled, XsdValidator.getSchema(schemaDocuments()));
+    }
+
+    @Test
+    public void schemaIsRecompiledIfIncludedSchemaIsChanged() throws Exception {
+        assertFalse(validator.validate(MESSAGE, schemaDocuments()).isFailed());
+        Object compiled = XsdValidator.getSchema(schemaDocuments());
+
+        write(directory.resolve("types.xsd"), String.format(TYPES_XSD, 3));
+        assertNotSame(compiled, XsdValidator.getSchema(schemaDocuments()));
+        assertTrue(validator.validate(MESSAGE, schemaDocuments()).isFailed());
+    }
+
+    @Test
+    public void schemaIsRecompiledAfterCacheInvalidation() throws Exception {
+        Object compiled = XsdValidator.getSchema(schemaDocuments());
+        XsdValidator.invalidateCache();
+        assertNotSame(compiled, XsdValidator.getSchema(schemaDocuments()));
+    }
+
+    private StreamSource[] schemaDocuments() {
+        return new StreamSource[]{new StreamSource(directory.resolve("order.xsd").toUri().toString())};
+    }
+
+    private static void write(Path path, String content) throws IOException {
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+}